@@ -18,6 +18,9 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path importJsonPath;
+    private Path exportJsonPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +30,51 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the JSON data file to replace the address book with on startup, if any.
+     */
+    public Path getImportJsonPath() {
+        return importJsonPath;
+    }
+
+    public void setImportJsonPath(Path importJsonPath) {
+        this.importJsonPath = importJsonPath;
+    }
+
+    /**
+     * Returns the JSON data file to write the address book to on startup, if any.
+     */
+    public Path getExportJsonPath() {
+        return exportJsonPath;
+    }
+
+    public void setExportJsonPath(Path exportJsonPath) {
+        this.exportJsonPath = exportJsonPath;
+    }
+
+    /**
+     * Returns the port to serve the address book on to other programs, if any.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, given as {@code --name=value}, without their leading dashes.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,10 +82,40 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setImportJsonPath(parseOptionalPath(namedParameters.get("import-json")));
+        appParameters.setExportJsonPath(parseOptionalPath(namedParameters.get("export-json")));
+        appParameters.setApiPort(parseOptionalPort(namedParameters.get("api-port")));
 
         return appParameters;
     }
 
+    private static Path parseOptionalPath(String pathParameter) {
+        if (pathParameter == null) {
+            return null;
+        }
+        if (!FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid path " + pathParameter + ". Ignoring it.");
+            return null;
+        }
+        return Paths.get(pathParameter);
+    }
+
+    private static Integer parseOptionalPort(String portParameter) {
+        if (portParameter == null) {
+            return null;
+        }
+        try {
+            int port = Integer.parseInt(portParameter);
+            if (port >= 0 && port <= 65535) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warning("Invalid port " + portParameter + ". Ignoring it.");
+        return null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +128,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(importJsonPath, otherAppParameters.importJsonPath)
+                && Objects.equals(exportJsonPath, otherAppParameters.exportJsonPath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, importJsonPath, exportJsonPath, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("importJsonPath", importJsonPath)
+                .add("exportJsonPath", exportJsonPath)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
@@ -0,0 +1,174 @@
+package seedu.address;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without its window, executing the commands in a script file, or read from the standard input,
+ * one per line, and printing the result and time taken of each.
+ *
+ * Blank lines, and lines starting with {@code #}, are skipped. The commands stop at the end of the input, or at the
+ * {@code exit} command.
+ */
+public class HeadlessApp {
+
+    public static final String PARAMETER_HEADLESS = "--headless";
+
+    static final String MESSAGE_COMMAND_TIME = "(%.3f ms)";
+    static final String MESSAGE_SUMMARY = "Ran %d command(s), %d failed, in %d ms (%.3f ms per command);"
+            + " saved in %d ms.";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final Storage storage;
+
+    /**
+     * Constructs a {@code HeadlessApp} that executes commands with {@code logic}, saving the address book to
+     * {@code storage} at the end.
+     */
+    HeadlessApp(Logic logic, Storage storage) {
+        requireAllNonNull(logic, storage);
+        this.logic = logic;
+        this.storage = storage;
+    }
+
+    /**
+     * Runs the application without its window, with the command-line arguments {@code args}, which are named as for
+     * the application with its window: {@code --config=PATH}, {@code --script=PATH} to read the commands from a file
+     * instead of the standard input, and {@code --save-every=N} to save the address book after every {@code N}
+     * commands, or only at the end if {@code N} is 0. Exits with a non-zero status if any command failed.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = parseNamedParameters(args);
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        AppInitializer.initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(AppInitializer.initAddressBookStorage(userPrefs), userPrefsStorage);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        logic.setCommandsPerSave(parseCommandsPerSave(namedParameters.get("save-every")));
+
+        String scriptParameter = namedParameters.get("script");
+        int failedCount;
+        try (BufferedReader commands = scriptParameter == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(scriptParameter), StandardCharsets.UTF_8)) {
+            failedCount = new HeadlessApp(logic, storage).run(commands, System.out);
+        } catch (IOException e) {
+            logger.severe("Failed to run the commands: " + StringUtil.getDetails(e));
+            failedCount = 1;
+        }
+        System.exit(failedCount == 0 ? 0 : 1);
+    }
+
+    /**
+     * Returns the arguments of the form {@code --name=value} in {@code args}, by name.
+     */
+    static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    private static int parseCommandsPerSave(String commandsPerSaveParameter) {
+        if (commandsPerSaveParameter == null) {
+            return 1;
+        }
+        try {
+            int commandsPerSave = Integer.parseInt(commandsPerSaveParameter);
+            if (commandsPerSave >= 0) {
+                return commandsPerSave;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warning("Invalid number of commands per save " + commandsPerSaveParameter + ". Saving every command.");
+        return 1;
+    }
+
+    /**
+     * Executes the commands in {@code commands}, printing the result and time taken of each, and a summary of all of
+     * them, to {@code out}, then saves the address book.
+     * @return the number of commands that failed, counting a failure to save the address book as one.
+     */
+    int run(BufferedReader commands, PrintStream out) throws IOException {
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        int failedCount = 0;
+        String commandText;
+        while ((commandText = commands.readLine()) != null) {
+            commandText = commandText.trim();
+            if (commandText.isEmpty() || commandText.startsWith("#")) {
+                continue;
+            }
+            commandCount++;
+            out.println("> " + commandText);
+            long commandStartTime = System.nanoTime();
+            CommandResult commandResult = null;
+            String feedback;
+            try {
+                commandResult = logic.execute(commandText);
+                feedback = commandResult.getFeedbackToUser();
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                feedback = e.getMessage();
+            }
+            long commandEndTime = System.nanoTime();
+            out.println(feedback);
+            out.println(String.format(MESSAGE_COMMAND_TIME, (commandEndTime - commandStartTime) / 1e6));
+            if (commandResult != null && commandResult.isExit()) {
+                break;
+            }
+        }
+        long commandsEndTime = System.nanoTime();
+
+        try {
+            logic.saveAddressBook();
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            failedCount++;
+            out.println("Failed to save the address book: " + e.getMessage());
+        }
+        long endTime = System.nanoTime();
+
+        double commandsMillis = (commandsEndTime - startTime) / 1e6;
+        long saveMillis = (endTime - commandsEndTime) / 1_000_000;
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, failedCount, (long) commandsMillis,
+                commandCount == 0 ? 0.0 : commandsMillis / commandCount, saveMillis));
+        return failedCount;
+    }
+}
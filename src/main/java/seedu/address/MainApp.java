@@ -3,6 +3,7 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -11,17 +12,16 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ModelExecutor;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.ApiServer;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -39,6 +39,8 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 2, 2, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    /** How long to wait on exit for the commands still queued to run. */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
 
     protected Ui ui;
     protected Logic logic;
@@ -46,137 +48,133 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** Runs every task that reads or changes the model, off the JavaFX application thread. */
+    private final ModelExecutor modelExecutor = new ModelExecutor();
+    /** The server of the address book to other programs, if one was asked for. */
+    private ApiServer apiServer;
+    /** Whether the address book is loaded after the main window is shown, rather than before. */
+    private boolean isLoadedInBackground;
+    private long initStartTime;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        initStartTime = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        long phaseStartTime = System.nanoTime();
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
+        AppInitializer.initLogging(config);
+        phaseStartTime = logPhase("reading the config", phaseStartTime);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = AppInitializer.initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        model = initModelManager(storage, userPrefs);
+        phaseStartTime = logPhase("reading the preferences", phaseStartTime);
+
+        // importing and exporting need the whole address book, so it is loaded before the window is shown
+        isLoadedInBackground = appParameters.getImportJsonPath() == null && appParameters.getExportJsonPath() == null;
+        if (isLoadedInBackground) {
+            model = new ModelManager(new AddressBook(), userPrefs);
+        } else {
+            model = AppInitializer.initModelManager(storage, userPrefs);
+            importAndExportJson(appParameters);
+            logPhase("loading the address book", phaseStartTime);
+        }
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
-    }
+        ui = new UiManager(logic, modelExecutor);
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
+        if (appParameters.getApiPort() != null) {
+            try {
+                apiServer = new ApiServer(logic, modelExecutor, appParameters.getApiPort(),
+                        ApiServer.getTokenFilePath(logic.getAddressBookFilePath()));
+            } catch (IOException e) {
+                logger.warning("Failed to serve the address book on port " + appParameters.getApiPort() + ": "
+                        + StringUtil.getDetails(e));
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
         }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Logs the time taken by a phase of startup that began at {@code phaseStartTime}, and returns the time it ended.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+    private static long logPhase(String phase, long phaseStartTime) {
+        long endTime = System.nanoTime();
+        logger.info(String.format("Startup: %s took %d ms", phase,
+                TimeUnit.NANOSECONDS.toMillis(endTime - phaseStartTime)));
+        return endTime;
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Replaces the address book with the JSON data file given by {@code appParameters}, then writes it to the other
+     * JSON data file given, if any, so that the data can be moved between data file formats and inspected.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
+    private void importAndExportJson(AppParameters appParameters) {
+        Path importPath = appParameters.getImportJsonPath();
+        if (importPath != null) {
+            try {
+                Optional<ReadOnlyAddressBook> imported = new JsonAddressBookStorage(importPath).readAddressBook();
+                if (imported.isPresent()) {
+                    model.setAddressBook(imported.get());
+                    storage.saveAddressBook(model.getAddressBookSnapshot());
+                    logger.info("Imported the address book from " + importPath);
+                } else {
+                    logger.warning("JSON data file to import " + importPath + " not found.");
+                }
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Failed to import the address book from " + importPath + ": "
+                        + StringUtil.getDetails(e));
             }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
         }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        Path exportPath = appParameters.getExportJsonPath();
+        if (exportPath != null) {
+            try {
+                new JsonAddressBookStorage(exportPath).saveAddressBook(model.getAddressBookSnapshot());
+                logger.info("Exported the address book to " + exportPath);
+            } catch (IOException e) {
+                logger.warning("Failed to export the address book to " + exportPath + ": "
+                        + StringUtil.getDetails(e));
+            }
         }
-
-        return initializedPrefs;
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        if (isLoadedInBackground) {
+            // the persons are added by the model's executor, while the window below is shown
+            logic.loadAddressBook(modelExecutor);
+        }
+        long phaseStartTime = System.nanoTime();
         ui.start(primaryStage);
+        logic.watchAddressBookFile(modelExecutor);
+        if (apiServer != null) {
+            apiServer.start();
+        }
+        logPhase("showing the main window", phaseStartTime);
+        logPhase("starting up, before the address book is loaded", initStartTime);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        logic.stopWatchingAddressBookFile();
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        if (!modelExecutor.shutdown(SHUTDOWN_TIMEOUT_MILLIS)) {
+            logger.warning("Commands were still running on exit; their changes may not be saved.");
+        }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The format that the address book is stored in on the hard disk.
+ */
+public enum DataFileFormat {
+    /** A JSON file, with a journal of the changes made since it was written. */
+    JSON,
+    /** A binary snapshot, which is smaller and faster to read, but cannot be edited by hand. */
+    BINARY
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * How soon the changes made by a command are written to the data file.
+ */
+public enum SaveDurability {
+    /** Written before the command completes, so a write error fails the command. */
+    IMMEDIATE,
+    /**
+     * Written in the background shortly after the command completes, together with those of the commands that follow
+     * it within the group commit window; write errors are reported once they happen.
+     */
+    GROUP_COMMIT,
+    /** Written only when the application exits. */
+    ON_EXIT
+}
@@ -0,0 +1,161 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookSink;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the address book in storage into a model whose lists may already be shown, in the background.
+ *
+ * The data file is read on a background thread. Its persons are added to the model while it is read, in batches, each
+ * run by the given executor, such as the JavaFX application thread, and each only once the one before it has been
+ * added, so that the lists shown fill in batch by batch while the window stays responsive. The persons read are not
+ * gathered into an address book of their own first, so the model is the only one to hold and index them.
+ */
+public class AddressBookLoader {
+
+    public static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final Executor modelExecutor;
+
+    /**
+     * Constructs a loader of the address book in {@code storage} into {@code model}, which is only changed by tasks
+     * run by {@code modelExecutor}.
+     */
+    public AddressBookLoader(Model model, Storage storage, Executor modelExecutor) {
+        requireAllNonNull(model, storage, modelExecutor);
+        this.model = model;
+        this.storage = storage;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Starts loading the address book on a background thread, and runs {@code onLoaded} with the model's executor
+     * once all of it has been added to the model.
+     */
+    public void start(Runnable onLoaded) {
+        Thread thread = new Thread(() -> load(onLoaded), "address-book-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Loads the address book as {@link #start(Runnable)} does, on the calling thread.
+     * The sample address book is loaded instead if the data file is not found, or nothing if it could not be read.
+     */
+    void load(Runnable onLoaded) {
+        long startTime = System.nanoTime();
+        ModelSink sink = new ModelSink();
+        ReadOnlyAddressBook sampleAddressBook = null;
+        boolean isFromDataFile = false;
+        boolean isFailed = false;
+        try {
+            isFromDataFile = storage.readAddressBook(sink);
+            if (!isFromDataFile) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+                sampleAddressBook = SampleDataUtil.getSampleAddressBook();
+                sink.addPersons(sampleAddressBook.getPersonList());
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            isFailed = true;
+        } catch (RuntimeException e) {
+            // the persons added so far are kept, and commands are no longer held back
+            logger.severe("Failed to add the address book to the model: " + e);
+        }
+
+        ReadOnlyAddressBook loadedSample = sampleAddressBook;
+        boolean isSaved = isFromDataFile;
+        boolean isReset = isFailed;
+        modelExecutor.execute(() -> {
+            if (isReset) {
+                // the persons added before the data file was found to be invalid are not kept
+                model.setAddressBook(new AddressBook());
+            }
+            if (loadedSample != null) {
+                // schedules without participants are not added with any person
+                for (Schedule schedule : loadedSample.getScheduleList()) {
+                    if (!model.hasSchedule(schedule)) {
+                        model.addSchedule(schedule);
+                    }
+                }
+            }
+            if (isSaved) {
+                storage.setSavedAddressBook(model.getAddressBook());
+            }
+            long endTime = System.nanoTime();
+            logger.info(String.format("Loaded %d persons in %d ms", model.getAddressBook().getPersonList().size(),
+                    TimeUnit.NANOSECONDS.toMillis(endTime - startTime)));
+            onLoaded.run();
+        });
+    }
+
+    /**
+     * Adds what is read from storage to the model, a batch of at most {@link #BATCH_SIZE} persons per task run by the
+     * model's executor, waiting for each task before returning.
+     */
+    private class ModelSink implements AddressBookSink {
+        @Override
+        public List<Person> addPersons(List<Person> persons) {
+            List<Person> added = new ArrayList<>();
+            for (int i = 0; i < persons.size(); i += BATCH_SIZE) {
+                List<Person> batch = new ArrayList<>(persons.subList(i, Math.min(i + BATCH_SIZE, persons.size())));
+                added.addAll(callOnModel(() -> model.addPersons(batch)));
+            }
+            return added;
+        }
+
+        @Override
+        public boolean hasPerson(Person person) {
+            return callOnModel(() -> model.hasPerson(person));
+        }
+
+        @Override
+        public void applyChanges(List<AddressBookChange> changes) {
+            callOnModel(() -> {
+                changes.forEach(model::applyAddressBookChange);
+                return null;
+            });
+        }
+
+        /**
+         * Returns the result of {@code task}, run by the model's executor.
+         * An exception thrown by the task is rethrown as it is, so that storage can tell what went wrong.
+         */
+        private <T> T callOnModel(Supplier<T> task) {
+            try {
+                return CompletableFuture.supplyAsync(task, modelExecutor).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.storage.Storage;
+
+/**
+ * Reloads the address book in storage into the model after the data file has been changed by another program.
+ *
+ * The data file is read on the calling thread. Only the persons it adds, edits or removes, found by their ids, are
+ * then applied to the model as a single change, run by the given executor, such as the JavaFX application thread.
+ */
+public class AddressBookReloader {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookReloader.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final Executor modelExecutor;
+
+    /**
+     * Constructs a reloader of the address book in {@code storage} into {@code model}, which is only changed by tasks
+     * run by {@code modelExecutor}.
+     */
+    public AddressBookReloader(Model model, Storage storage, Executor modelExecutor) {
+        requireAllNonNull(model, storage, modelExecutor);
+        this.model = model;
+        this.storage = storage;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Reads the data file and applies its differences from the model to the model, waiting until they are applied.
+     * The model is left unchanged if the data file is not found or could not be read.
+     */
+    public void reload() {
+        try {
+            while (!tryReload()) {
+                logger.fine("Address book was changed while the data file was read, reading it again");
+            }
+        } catch (CompletionException e) {
+            logger.severe("Failed to reload the address book into the model: " + e.getCause());
+        }
+    }
+
+    /**
+     * Returns false, leaving the model unchanged, if the model was changed while the data file was read.
+     */
+    private boolean tryReload() {
+        long startTime = System.nanoTime();
+        long modelVersion = CompletableFuture.supplyAsync(() -> model.getAddressBook().getVersion(), modelExecutor)
+                .join();
+        ReadOnlyAddressBook read;
+        try {
+            Optional<ReadOnlyAddressBook> readOptional = storage.readAddressBook();
+            if (!readOptional.isPresent()) {
+                logger.info("Data file " + storage.getAddressBookFilePath() + " was removed, keeping the address book");
+                return true;
+            }
+            read = readOptional.get();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be reloaded,"
+                    + " keeping the address book: " + e.getMessage());
+            return true;
+        }
+        long readTime = System.nanoTime();
+
+        return CompletableFuture.supplyAsync(() -> {
+            if (model.getAddressBook().getVersion() != modelVersion) {
+                return false;
+            }
+            AddressBookChange change = AddressBookChange.between(model.getAddressBook(), read);
+            try {
+                model.applyAddressBookChange(change);
+            } catch (DuplicatePersonException e) {
+                // the persons of the data file clash with those left in the model, so all of them are replaced
+                model.setAddressBook(read);
+            }
+            // schedules without participants are not added with any person
+            for (Schedule schedule : read.getScheduleList()) {
+                if (!model.hasSchedule(schedule)) {
+                    model.addSchedule(schedule);
+                }
+            }
+            storage.setSavedAddressBook(model.getAddressBook());
+            logger.info(String.format("Reloaded the data file: %d persons added or edited, %d removed;"
+                    + " read in %d ms, applied in %d ms", change.getPersons().size(), change.getRemovedIds().size(),
+                    TimeUnit.NANOSECONDS.toMillis(readTime - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - readTime)));
+            return true;
+        }, modelExecutor).join();
+    }
+}
@@ -1,6 +1,11 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +14,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
 
 /**
  * API of the Logic component
@@ -23,6 +29,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets how many commands are executed between saves of the address book: 1, the default, saves it after every
+     * command, and 0 only when {@link #saveAddressBook()} is called.
+     * @throws IllegalArgumentException if {@code commandsPerSave} is negative.
+     */
+    void setCommandsPerSave(int commandsPerSave);
+
+    /**
+     * Saves the address book, with the changes of every command executed since it was last saved.
+     * @throws IOException if the address book could not be saved.
+     */
+    void saveAddressBook() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -30,9 +49,37 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an unchanging snapshot of the AddressBook, which can be called from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns a copy of {@code person} that is never changed.
+     *
+     * @see seedu.address.model.Model#getUnchangingCopy(Person)
+     */
+    Person getUnchangingCopy(Person person);
+
+    /**
+     * Returns a copy of {@code schedule} that is never changed.
+     *
+     * @see seedu.address.model.Model#getUnchangingCopy(Schedule)
+     */
+    Schedule getUnchangingCopy(Schedule schedule);
+
+    /**
+     * Returns the schedules that end no earlier than {@code from} and start before {@code to}.
+     *
+     * @see seedu.address.model.Model#getSchedulesInRange(LocalDateTime, LocalDateTime)
+     */
+    List<Schedule> getSchedulesInRange(LocalDateTime from, LocalDateTime to);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -47,4 +94,37 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler of the messages describing failures to save the address book that are only known after the
+     * command that saved it has returned. The handler may be called from another thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Starts loading the address book in storage into the model in the background, adding its persons to the model
+     * a batch at a time with {@code modelExecutor}, which must run the tasks given to it one at a time.
+     */
+    void loadAddressBook(Executor modelExecutor);
+
+    /**
+     * Returns true if the address book is still being loaded into the model, so commands should not be executed yet.
+     */
+    boolean isLoading();
+
+    /**
+     * Sets the handler run with the model's executor once the address book has been loaded into the model.
+     */
+    void setLoadedHandler(Runnable loadedHandler);
+
+    /**
+     * Starts watching the data file for changes made by other programs, applying each to the model with
+     * {@code modelExecutor} once the address book has been loaded into the model.
+     */
+    void watchAddressBookFile(Executor modelExecutor);
+
+    /**
+     * Stops watching the data file for changes made by other programs.
+     */
+    void stopWatchingAddressBookFile();
 }
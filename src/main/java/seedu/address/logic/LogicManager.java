@@ -1,8 +1,15 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,9 +20,11 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,6 +41,12 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private int commandsPerSave = 1;
+    private int unsavedCommandCount;
+    private volatile boolean isLoading;
+    private volatile Runnable loadedHandler = () -> {};
+    /** Starts watching the data file once the address book has been loaded, if that was asked for while loading. */
+    private Runnable watchAfterLoading = () -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -47,30 +62,93 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
+        AddressBookChange change = null;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (command.isMutating()) {
+            model.beginTransaction();
+            boolean isExecuted = false;
+            try {
+                commandResult = command.execute(model);
+                isExecuted = true;
+            } finally {
+                // rolled back whatever the command threw, even an Error, so that the commands after it can still run
+                if (!isExecuted) {
+                    model.rollbackTransaction();
+                }
+            }
+            change = model.commitTransaction();
+        } else {
+            commandResult = command.execute(model);
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            if (commandsPerSave == 1 && unsavedCommandCount == 0) {
+                if (change != null) {
+                    storage.saveAddressBookChange(model.getAddressBookSnapshot(), change);
+                } else {
+                    // skipped by the storage unless the command changed the address book after all
+                    storage.saveAddressBook(model.getAddressBookSnapshot());
+                }
+            } else if (commandsPerSave > 0 && ++unsavedCommandCount >= commandsPerSave) {
+                saveAddressBook();
+            }
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setCommandsPerSave(int commandsPerSave) {
+        checkArgument(commandsPerSave >= 0, "Commands per save cannot be negative");
+        this.commandsPerSave = commandsPerSave;
+    }
+
+    @Override
+    public void saveAddressBook() throws IOException {
+        // the changes of several commands are saved together, as a whole address book
+        unsavedCommandCount = 0;
+        storage.saveAddressBook(model.getAddressBookSnapshot());
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Person getUnchangingCopy(Person person) {
+        return model.getUnchangingCopy(person);
+    }
+
+    @Override
+    public Schedule getUnchangingCopy(Schedule schedule) {
+        return model.getUnchangingCopy(schedule);
+    }
+
+    @Override
+    public List<Schedule> getSchedulesInRange(LocalDateTime from, LocalDateTime to) {
+        return model.getSchedulesInRange(from, to);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -85,4 +163,57 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        storage.setSaveErrorHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    @Override
+    public void loadAddressBook(Executor modelExecutor) {
+        isLoading = true;
+        new AddressBookLoader(model, storage, modelExecutor).start(() -> {
+            isLoading = false;
+            loadedHandler.run();
+            watchAfterLoading.run();
+        });
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public void setLoadedHandler(Runnable loadedHandler) {
+        this.loadedHandler = requireNonNull(loadedHandler);
+    }
+
+    @Override
+    public void watchAddressBookFile(Executor modelExecutor) {
+        requireNonNull(modelExecutor);
+        // run with the model's executor, as is the end of a load, so that the two cannot interleave
+        modelExecutor.execute(() -> {
+            if (isLoading) {
+                // changes to the data file are only applied to the whole address book
+                watchAfterLoading = () -> startWatching(modelExecutor);
+            } else {
+                startWatching(modelExecutor);
+            }
+        });
+    }
+
+    @Override
+    public void stopWatchingAddressBookFile() {
+        storage.stopWatchingAddressBookFile();
+    }
+
+    private void startWatching(Executor modelExecutor) {
+        AddressBookReloader reloader = new AddressBookReloader(model, storage, modelExecutor);
+        try {
+            storage.watchAddressBookFile(reloader::reload);
+        } catch (IOException e) {
+            logger.warning("Could not watch data file " + storage.getAddressBookFilePath() + " for changes: " + e);
+        }
+    }
 }
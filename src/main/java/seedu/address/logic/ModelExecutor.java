@@ -0,0 +1,64 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Runs the tasks that read or change the model one at a time, in the order they are given, on a thread of its own, so
+ * that the JavaFX application thread is free to draw the window and take input while a long command runs.
+ *
+ * Everything that changes the model, such as commands, loading and reloading the address book, and requests to the
+ * API server, is run by the same executor, so that the model is only ever changed by one thread. Listeners of the
+ * model's lists are told of changes on that thread, so the UI follows the lists with
+ * {@link seedu.address.model.util.BatchedObservableList#followLater(javafx.collections.ObservableList, Executor)}.
+ */
+public class ModelExecutor implements Executor {
+
+    private static final Logger logger = LogsCenter.getLogger(ModelExecutor.class);
+
+    private final ExecutorService worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "model-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Queues {@code task} to be run after the tasks given before it. A task that fails is logged, and does not stop
+     * the tasks after it from running.
+     */
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        worker.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.severe("Model task failed: " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Stops taking tasks, then waits up to {@code timeoutMillis} milliseconds for the tasks already given to finish.
+     * Returns true if they all finished in time.
+     */
+    public boolean shutdown(long timeoutMillis) {
+        worker.shutdown();
+        try {
+            return worker.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -8,9 +8,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -63,51 +61,24 @@ public class AddSchedCommand extends Command {
         List<Person> lastShownList = model.getFilteredPersonList();
 
         ArrayList<Person> participants = new ArrayList<Person>();
-        ArrayList<String> participantsNames = new ArrayList<String>();
         for (Index index : targetIndexes) {
             if (index.getZeroBased() >= lastShownList.size()) {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             }
             participants.add(lastShownList.get(index.getZeroBased()));
-            participantsNames.add(lastShownList.get(index.getZeroBased()).getName().toString());
         }
-        schedule.addParticipants(participantsNames);
+
         if (model.hasSchedule(schedule)) {
-            model.addSchedulePeople(schedule, participantsNames);
-            ObservableList<Schedule> arraySched = model.getAddressBook().getScheduleList();
-            arraySched.forEach(schedule1 -> {
-                if (schedule1.isSameSchedule(schedule)) {
-                    schedule1.setPersonList(schedule.getPersonList());
-                }
-            });
-            System.out.println("i was called cause duplicate");
-            try {
-                for (String name : participantsNames) {
-                    for (Person person : model.getFilteredPersonList()) {
-                        if (Objects.equals(person.getName().toString(), name)) {
-                            if (!person.getSchedules().contains(schedule)) {
-                                // add schedule to the people involved
-                                person.addSchedule(schedule);
-                            } else {
-                                //int index = person.getSchedules().indexOf(schedule);
-                                //person.getSchedules().get(index).addParticipants(participantsNames);
-                                throw new CommandException("Duplicate Schedule Found");
-                            }
-                        }
-                    }
+            for (Person participant : participants) {
+                if (model.isParticipant(participant, schedule)) {
+                    return new CommandResult(MESSAGE_DUPLICATE_SCHEDULE);
                 }
-            } catch (CommandException e) {
-                return new CommandResult(MESSAGE_DUPLICATE_SCHEDULE);
             }
-
-        } else {
-            for (Person p : participants) {
-                p.addSchedule(schedule);
-            }
-            model.addSchedule(schedule);
         }
+
+        model.addSchedule(schedule, participants);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
-        return new CommandResult(generateSuccessMessage());
+        return new CommandResult(generateSuccessMessage(model.getSameSchedule(schedule)));
     }
 
     @Override
@@ -135,12 +106,11 @@ public class AddSchedCommand extends Command {
     }
 
     /**
-     * Generates a command execution success message based on whether
-     * the remark is added to or removed from
-     * {@code personToEdit}.
+     * Generates a command execution success message showing {@code addedSchedule}
+     * with all of its participants.
      */
-    private String generateSuccessMessage() {
-        return String.format(MESSAGE_SUCCESS, schedule);
+    private String generateSuccessMessage(Schedule addedSchedule) {
+        return String.format(MESSAGE_SUCCESS, addedSchedule);
     }
 
     private String generateDuplicateMessage() {
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing the command may change the address book.
+     * Commands that only read it return false, so that they are not run in a transaction and not followed by a save.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -86,19 +86,8 @@ public class DeleteSchedCommand extends Command {
      */
     private void deleteSchedForSpecificPerson(Model model, Schedule scheduleToDelete,
                                                Person personToDelete) {
-        //scheduleToDelete.removePerson(personToDelete.getName().toString());
+        // the other participants share the same schedule, so they no longer list the person either
         model.deleteSchedule(personToDelete, scheduleToDelete);
-        if (!scheduleToDelete.getPersonList().isEmpty()) {
-            for (Person p: model.getFilteredPersonList()) {
-                if (!p.equals(personToDelete)) {
-                    p.getSchedules().forEach(schedule -> {
-                        if (schedule.isSameSchedule(scheduleToDelete)) {
-                            schedule.removePerson(personToDelete.getName().toString());
-                        }
-                    });
-                }
-            }
-        }
     }
 
     @Override
@@ -108,8 +108,8 @@ public class EditCommand extends Command {
         Set<Interest> updatedInterests = editPersonDescriptor.getInterest().orElse(personToEdit.getInterest());
         ArrayList<Schedule> updatedSchedules = personToEdit.getSchedules(); // schedules cannot be added here
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, updatedInterests,
-                updatedSchedules);
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags,
+                updatedInterests, updatedSchedules);
     }
 
     @Override
@@ -115,31 +115,17 @@ public class EditSchedCommand extends Command {
 
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
         return new CommandResult(String.format(MESSAGE_EDIT_SCHEDULE_SUCCESS,
-                Messages.format(editedSchedule)));
+                Messages.format(model.getSameSchedule(editedSchedule))));
     }
 
     private void deleteSchedForSpecificPerson(Model model, Schedule scheduleToDelete,
-                                              Schedule editedSchedule, Person personToDelete) throws CommandException {
-        System.out.println(scheduleToDelete.getPersonList().size());
-        if (scheduleToDelete.getPersonList().size() > 1) {
-            ArrayList<String> newParticipants = new ArrayList<>();
-            newParticipants.add(personToDelete.getName().toString());
-            editedSchedule.setPersonList(newParticipants);
-            model.deleteSchedule(personToDelete, scheduleToDelete);
-            scheduleToDelete.removePerson(personToDelete.getName().toString());
-            ArrayList<Person> changedPerson = new ArrayList<>();
-            changedPerson.add(personToDelete);
-            if (!scheduleToDelete.getPersonList().isEmpty()) {
-                model.addSchedule(editedSchedule, changedPerson);
-            }
-        } else {
-            model.deleteSchedule(personToDelete, scheduleToDelete);
-            scheduleToDelete.removePerson(personToDelete.getName().toString());
-            ArrayList<Person> changedPerson = new ArrayList<>();
-            changedPerson.add(personToDelete);
-            model.addSchedule(editedSchedule, changedPerson);
-        }
-
+                                              Schedule editedSchedule, Person personToDelete) {
+        // the edit only applies to this person, who leaves the original schedule for the edited one
+        editedSchedule.setPersonList(new ArrayList<>());
+        model.deleteSchedule(personToDelete, scheduleToDelete);
+        ArrayList<Person> changedPerson = new ArrayList<>();
+        changedPerson.add(personToDelete);
+        model.addSchedule(editedSchedule, changedPerson);
     }
 
     /**
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTEREST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.TagFilterPredicate;
+
+/**
+ * Finds and lists all persons in address book whose tags and interests satisfy all of the given conditions.
+ * Tag matching is case sensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags and interests "
+            + "satisfy all of the specified conditions and displays them as a list with index numbers.\n"
+            + "Each condition is one or more names separated by '|', which is met by having any of them, "
+            + "or by having none of them when it starts with '!'.\n"
+            + "Parameters: [" + PREFIX_TAG + "TAG[|MORE_TAGS]...]... "
+            + "[" + PREFIX_INTEREST + "INTEREST[|MORE_INTERESTS]...]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "friends|colleagues "
+            + PREFIX_TAG + "!owesMoney "
+            + PREFIX_INTEREST + "hiking";
+
+    private final TagFilterPredicate predicate;
+
+    public FilterCommand(TagFilterPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return predicate.equals(otherFilterCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
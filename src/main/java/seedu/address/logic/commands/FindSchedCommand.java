@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Finds and lists all schedules that take place within a time range, optionally only those with a given participant.
+ * Participant matching is case insensitive.
+ */
+public class FindSchedCommand extends Command {
+
+    public static final String COMMAND_WORD = "findSched";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all schedules that take place between the "
+            + "specified start and end, optionally only those with the specified participant, "
+            + "and displays them as a list.\n"
+            + "Parameters: "
+            + PREFIX_START + "START (yyyy-MM-dd or yyyy-MM-dd HH:mm) "
+            + PREFIX_END + "END (yyyy-MM-dd or yyyy-MM-dd HH:mm) "
+            + "[" + PREFIX_NAME + "PARTICIPANT NAME]\n"
+            + "(When only a date is given, the whole day is included)\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START + "2024-04-15 "
+            + PREFIX_END + "2024-04-21 "
+            + PREFIX_NAME + "Alex Yeoh";
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String participantName;
+
+    /**
+     * Creates a FindSchedCommand to find the schedules that end no earlier than {@code from} and start before
+     * {@code to}, with {@code participantName} as a participant if it is given.
+     */
+    public FindSchedCommand(LocalDateTime from, LocalDateTime to, Optional<String> participantName) {
+        requireAllNonNull(from, to, participantName);
+        this.from = from;
+        this.to = to;
+        this.participantName = participantName.orElse(null);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<Schedule> matchingSchedules = new ArrayList<>();
+        for (Schedule schedule : model.getSchedulesInRange(from, to)) {
+            if (participantName == null || hasParticipant(schedule)) {
+                matchingSchedules.add(schedule);
+            }
+        }
+
+        Set<Schedule> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(matchingSchedules);
+        model.updateFilteredScheduleList(matches::contains);
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(Messages.MESSAGE_SCHEDULES_LISTED_OVERVIEW, matchingSchedules.size()));
+        for (int i = 0; i < matchingSchedules.size(); i++) {
+            feedback.append("\n").append(i + 1).append(". ").append(Messages.format(matchingSchedules.get(i)));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    private boolean hasParticipant(Schedule schedule) {
+        return schedule.getPersonList().stream().anyMatch(participantName::equalsIgnoreCase);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindSchedCommand)) {
+            return false;
+        }
+
+        FindSchedCommand otherFindSchedCommand = (FindSchedCommand) other;
+        return from.equals(otherFindSchedCommand.from)
+                && to.equals(otherFindSchedCommand.to)
+                && Objects.equals(participantName, otherFindSchedCommand.participantName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .add("participantName", participantName)
+                .toString();
+    }
+}
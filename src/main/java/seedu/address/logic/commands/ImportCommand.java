@@ -0,0 +1,142 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ContactFileFormat;
+import seedu.address.storage.ContactReader;
+import seedu.address.storage.ContactRecord;
+
+/**
+ * Adds the persons in a CSV or vCard file to the address book.
+ * The file is read in batches of {@code BATCH_SIZE} records, and the records of a batch are parsed in parallel.
+ * Nothing is added unless every record in the file is valid.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons in a CSV (.csv) or vCard (.vcf) "
+            + "file to the address book, skipping those already in it.\n"
+            + "A CSV file starts with a header naming its columns: name, phone, email, and optionally address, "
+            + "tags and interests, with tags and interests separated by ';'.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s, skipping %3$d duplicates";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_RECORD = "Invalid contact at line %1$d of %2$s: %3$s";
+
+    /** Number of records held in memory, and parsed in parallel, at a time. */
+    static final int BATCH_SIZE = 4096;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the persons in the contacts file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ContactFileFormat format = ContactFileFormat.of(filePath)
+                .orElseThrow(() -> new CommandException(ContactFileFormat.MESSAGE_CONSTRAINTS));
+
+        List<Person> persons = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            ContactReader contactReader = format.newReader(reader);
+            List<ContactRecord> batch = new ArrayList<>(BATCH_SIZE);
+            for (ContactRecord record = contactReader.read(); record != null; record = contactReader.read()) {
+                batch.add(record);
+                if (batch.size() == BATCH_SIZE) {
+                    persons.addAll(parseBatch(batch));
+                    batch.clear();
+                }
+            }
+            persons.addAll(parseBatch(batch));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()), ioe);
+        } catch (IllegalValueException ive) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ive.getMessage()), ive);
+        }
+
+        int addedCount = model.addPersons(persons).size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addedCount, filePath, persons.size() - addedCount));
+    }
+
+    /**
+     * Parses the records in {@code batch} in parallel, and returns the persons in the same order.
+     * @throws CommandException if a record is invalid, reporting the first such record in the batch.
+     */
+    private List<Person> parseBatch(List<ContactRecord> batch) throws CommandException {
+        Person[] persons = new Person[batch.size()];
+        String[] errors = new String[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                persons[i] = toPerson(batch.get(i));
+            } catch (ParseException pe) {
+                errors[i] = pe.getMessage();
+            }
+        });
+
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                throw new CommandException(
+                        String.format(MESSAGE_INVALID_RECORD, batch.get(i).getLineNumber(), filePath, errors[i]));
+            }
+        }
+        return Arrays.asList(persons);
+    }
+
+    private static Person toPerson(ContactRecord record) throws ParseException {
+        return new Person(ParserUtil.parseName(record.getName()),
+                ParserUtil.parsePhone(record.getPhone()),
+                ParserUtil.parseEmail(record.getEmail()),
+                ParserUtil.parseAddress(record.getAddress()),
+                ParserUtil.parseTags(record.getTags()),
+                ParserUtil.parseInterests(record.getInterests()),
+                new ArrayList<>());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -14,6 +14,11 @@ public class ListSchedCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Listed all schedules";
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
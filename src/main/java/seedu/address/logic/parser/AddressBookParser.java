@@ -3,9 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Map;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
@@ -17,10 +16,16 @@ import seedu.address.logic.commands.DeleteSchedCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditSchedCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindSchedCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListSchedCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -28,11 +33,31 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
     /**
-     * Used for initial separation of command word and args.
+     * The parser of the arguments of each command word. The parsers keep no state between inputs, so the same ones
+     * are used for every input, by every {@code AddressBookParser}.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final Map<String, Parser<? extends Command>> PARSERS = Map.ofEntries(
+            Map.entry(AddCommand.COMMAND_WORD, new AddCommandParser()),
+            Map.entry(EditCommand.COMMAND_WORD, new EditCommandParser()),
+            Map.entry(EditSchedCommand.COMMAND_WORD, new EditSchedCommandParser()),
+            Map.entry(DeleteCommand.COMMAND_WORD, new DeleteCommandParser()),
+            Map.entry(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand()),
+            Map.entry(FindCommand.COMMAND_WORD, new FindCommandParser()),
+            Map.entry(ListCommand.COMMAND_WORD, arguments -> new ListCommand()),
+            Map.entry(ListSchedCommand.COMMAND_WORD, arguments -> new ListSchedCommand()),
+            Map.entry(AddSchedCommand.COMMAND_WORD, new AddSchedCommandParser()),
+            Map.entry(DeleteSchedCommand.COMMAND_WORD, new DeleteSchedCommandParser()),
+            Map.entry(FilterCommand.COMMAND_WORD, new FilterCommandParser()),
+            Map.entry(FindSchedCommand.COMMAND_WORD, new FindSchedCommandParser()),
+            Map.entry(ImportCommand.COMMAND_WORD, new ImportCommandParser()),
+            Map.entry(ExportCommand.COMMAND_WORD, new ExportCommandParser()),
+            Map.entry(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand()),
+            Map.entry(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand()),
+            Map.entry(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()),
+            Map.entry(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand()));
 
     /**
      * Parses user input into command for execution.
@@ -42,61 +67,31 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        // the command word is separated from its arguments by the first whitespace, which starts the arguments
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case EditSchedCommand.COMMAND_WORD:
-            return new EditSchedCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ListSchedCommand.COMMAND_WORD:
-            return new ListSchedCommand();
-
-        case AddSchedCommand.COMMAND_WORD:
-            return new AddSchedCommandParser().parse(arguments);
-
-        case DeleteSchedCommand.COMMAND_WORD:
-            return new DeleteSchedCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+        Parser<? extends Command> parser = PARSERS.get(commandWord);
+        if (parser == null) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
     }
 
 }
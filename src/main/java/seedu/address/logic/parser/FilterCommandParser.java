@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTEREST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.person.TagFilterPredicate.Clause;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String NEGATION = "!";
+    private static final String ALTERNATIVE_SEPARATOR = "\\|";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FilterCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_INTEREST);
+
+        List<String> tagConditions = argMultimap.getAllValues(PREFIX_TAG);
+        List<String> interestConditions = argMultimap.getAllValues(PREFIX_INTEREST);
+        if (!argMultimap.getPreamble().isEmpty() || (tagConditions.isEmpty() && interestConditions.isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<Clause> clauses = new ArrayList<>();
+        for (String condition : tagConditions) {
+            clauses.add(parseClause(condition, false));
+        }
+        for (String condition : interestConditions) {
+            clauses.add(parseClause(condition, true));
+        }
+        return new FilterCommand(new TagFilterPredicate(clauses));
+    }
+
+    /**
+     * Parses a condition of the form {@code [!]NAME[|MORE_NAMES]...} into a {@code Clause}.
+     */
+    private static Clause parseClause(String condition, boolean isInterest) throws ParseException {
+        String trimmedCondition = condition.trim();
+        boolean isNegated = trimmedCondition.startsWith(NEGATION);
+        if (isNegated) {
+            trimmedCondition = trimmedCondition.substring(NEGATION.length());
+        }
+
+        List<String> tagNames = new ArrayList<>();
+        for (String tagName : trimmedCondition.split(ALTERNATIVE_SEPARATOR, -1)) {
+            String trimmedTagName = tagName.trim();
+            if (!Tag.isValidTagName(trimmedTagName)) {
+                throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tagNames.add(trimmedTagName);
+        }
+        return new Clause(isInterest, isNegated, tagNames);
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATETIME_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_START_LATE_THAN_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.FindSchedCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Parses input arguments and creates a new FindSchedCommand object
+ */
+public class FindSchedCommandParser implements Parser<FindSchedCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindSchedCommand
+     * and returns a FindSchedCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FindSchedCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START, PREFIX_END, PREFIX_NAME);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_START, PREFIX_END) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSchedCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START, PREFIX_END, PREFIX_NAME);
+
+        LocalDateTime from = parseBound(argMultimap.getValue(PREFIX_START).get(), false);
+        LocalDateTime to = parseBound(argMultimap.getValue(PREFIX_END).get(), true);
+        if (!from.isBefore(to)) {
+            throw new ParseException(String.format(MESSAGE_START_LATE_THAN_END, FindSchedCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> participantName = Optional.empty();
+        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            participantName = Optional.of(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()).fullName);
+        }
+
+        return new FindSchedCommand(from, to, participantName);
+    }
+
+    /**
+     * Parses a date time in {@code Schedule#DATETIME_STRING} format, or a date on its own.
+     * A date on its own stands for the start of that day, or for the end of that day if {@code isEnd} is true.
+     */
+    private static LocalDateTime parseBound(String bound, boolean isEnd) throws ParseException {
+        String trimmedBound = bound.trim();
+        try {
+            return LocalDateTime.parse(trimmedBound, Schedule.CUSTOM_DATETIME);
+        } catch (DateTimeException e) {
+            // fall through to a date on its own
+        }
+
+        try {
+            LocalDate date = LocalDate.parse(trimmedBound);
+            return isEnd ? date.plusDays(1).atStartOfDay() : date.atStartOfDay();
+        } catch (DateTimeException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DATETIME_FORMAT, FindSchedCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.commands.AddSchedCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses {@code addSched} commands with many indexes and long schedule names over and over for a while, then prints
+ * how many were parsed per second, as scripted batch runs and checking the command box as it is typed both parse
+ * commands far more often than the user enters them.
+ *
+ * Run with the arguments {@code [INDEXES] [NAME_WORDS] [SECONDS]}, such as {@code 500 50 5}.
+ */
+public class ParserBenchmark {
+
+    public static final String MESSAGE_RESULT = "%d parses of addSched commands of about %d characters in %.1f s:"
+            + " %.0f parses/s, %.2f us/parse";
+
+    private static final int INPUT_COUNT = 16;
+
+    private final List<String> inputs;
+    private final long durationNanos;
+    private final AddressBookParser parser = new AddressBookParser();
+
+    /**
+     * Constructs a benchmark of {@code addSched} commands with {@code indexCount} indexes and schedule names of
+     * {@code nameWordCount} words, parsed for {@code seconds} seconds.
+     */
+    public ParserBenchmark(int indexCount, int nameWordCount, int seconds) {
+        inputs = createInputs(indexCount, nameWordCount);
+        durationNanos = TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    public static void main(String[] args) throws ParseException {
+        int indexCount = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int nameWordCount = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        ParserBenchmark benchmark = new ParserBenchmark(indexCount, nameWordCount, seconds);
+        // the first pass lets the JIT compiler warm up
+        benchmark.run();
+        System.out.println(benchmark.run());
+    }
+
+    /**
+     * Parses the commands until the duration has passed, and returns a summary of how fast they were parsed.
+     * @throws ParseException if a command could not be parsed, which would make the benchmark meaningless.
+     */
+    public String run() throws ParseException {
+        long startTime = System.nanoTime();
+        long endTime = startTime + durationNanos;
+        long parseCount = 0;
+        long now;
+        do {
+            for (String input : inputs) {
+                parser.parseCommand(input);
+            }
+            parseCount += inputs.size();
+            now = System.nanoTime();
+        } while (now < endTime);
+
+        double seconds = (now - startTime) / 1e9;
+        int averageLength = inputs.stream().mapToInt(String::length).sum() / inputs.size();
+        return String.format(MESSAGE_RESULT, parseCount, averageLength, seconds, parseCount / seconds,
+                seconds * 1e6 / parseCount);
+    }
+
+    /**
+     * Returns {@code addSched} commands with {@code indexCount} indexes and schedule names of {@code nameWordCount}
+     * words, which differ from each other so that none is parsed much faster for having just been parsed.
+     */
+    static List<String> createInputs(int indexCount, int nameWordCount) {
+        List<String> inputs = new ArrayList<>(INPUT_COUNT);
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            StringBuilder input = new StringBuilder(AddSchedCommand.COMMAND_WORD).append(' ');
+            for (int index = 1; index <= indexCount; index++) {
+                input.append(index == 1 ? "" : ", ").append(index + i);
+            }
+            input.append(' ').append(CliSyntax.PREFIX_SCHEDULE);
+            for (int word = 0; word < nameWordCount; word++) {
+                input.append(word == 0 ? "" : " ").append("Meeting").append(word + i);
+            }
+            input.append(' ').append(CliSyntax.PREFIX_START).append("2024-02-24 10:00")
+                    .append(' ').append(CliSyntax.PREFIX_END).append("2024-02-24 17:00");
+            inputs.add(input.toString());
+        }
+        return inputs;
+    }
+}
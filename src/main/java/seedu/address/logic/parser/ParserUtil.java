@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -11,6 +13,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Messages;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -22,6 +25,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.tag.Interest;
 import seedu.address.model.tag.Tag;
+import seedu.address.storage.ContactFileFormat;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser
@@ -30,6 +34,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    private static final String INDEX_SEPARATOR = ", ";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
@@ -47,26 +52,29 @@ public class ParserUtil {
     }
 
     /**
-     * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
-     * and trailing whitespaces will be
-     * trimmed.
-     * @throws ParseException if the specified index is invalid (not non-zero
+     * Parses {@code oneBasedIndex}, a list of indexes separated by {@code ", "}, into {@code Index}es and returns them.
+     * Leading and trailing whitespaces will be trimmed. The list is read in one pass, without splitting it with a
+     * regular expression.
+     * @throws ParseException if any of the specified indexes is invalid (not non-zero
      *                        unsigned integer).
      */
     public static ArrayList<Index> parseIndexArrayList(String oneBasedIndex) throws ParseException {
         String trimmedIndexes = oneBasedIndex.trim();
-        String[] indexArray = trimmedIndexes.split(", ");
         ArrayList<Index> indexArrayList = new ArrayList<>();
 
-        for (String index : indexArray) {
-            System.out.println(index);
-
+        int indexStart = 0;
+        while (true) {
+            int indexEnd = trimmedIndexes.indexOf(INDEX_SEPARATOR, indexStart);
+            String index = trimmedIndexes.substring(indexStart, indexEnd == -1 ? trimmedIndexes.length() : indexEnd);
             if (!StringUtil.isNonZeroUnsignedInteger(index)) {
                 throw new ParseException(MESSAGE_INVALID_INDEX);
             }
             indexArrayList.add(Index.fromOneBased(Integer.parseInt(index)));
+            if (indexEnd == -1) {
+                return indexArrayList;
+            }
+            indexStart = indexEnd + INDEX_SEPARATOR.length();
         }
-        return indexArrayList;
     }
 
     /**
@@ -223,6 +231,24 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses {@code filePath} into the {@code Path} of a contacts file.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code filePath} is not a valid path, or not of a contacts file.
+     */
+    public static Path parseContactFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (!FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(ContactFileFormat.MESSAGE_CONSTRAINTS);
+        }
+        Path path = Paths.get(trimmedFilePath);
+        if (!ContactFileFormat.of(path).isPresent()) {
+            throw new ParseException(ContactFileFormat.MESSAGE_CONSTRAINTS);
+        }
+        return path;
+    }
+
     /**
      * Parses a {@code String name, startTime, endTime} into an {@code Schedule}.
      * @param schedule
@@ -1,24 +1,63 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.schedule.ParticipationIndex;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.UniqueScheduleList;
+import seedu.address.model.util.PersistentList;
 
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Every schedule a person takes part in is the same instance as the one in the schedule list, and who takes part in
+ * what is tracked in a {@code ParticipationIndex}, so that editing or deleting a person only touches their own
+ * schedules and the participants of those schedules. The names of the participants each schedule shows are derived
+ * from the persons the index has taking part in it, by their ids, so that persons sharing a name are kept apart.
+ *
+ * Changes can be grouped into a transaction, which reports them to the listeners of the person and schedule lists as
+ * one change per list when committed, or undoes them when rolled back. A committed transaction also returns the
+ * {@code AddressBookChange} it made, which can be applied to a copy of the address book to bring it up to date.
+ *
+ * Every change to an address book gives it a new version, drawn from a counter shared by all address books, so two
+ * address books with the same version have the same contents.
+ *
+ * An {@code AddressBookSnapshot} of the address book is published when a transaction is committed, and whenever
+ * {@link #publishSnapshot()} is called, which other threads can read without locking while the address book goes on
+ * changing. As persons and schedules are changed in place, those changed since the last snapshot are copied for the
+ * next, together with the participants of the changed schedules, and the rest of the copies are shared.
+ *
+ * Committed transactions can be undone and redone, most recent first, from an {@code AddressBookHistory} of the
+ * persons each one changed, as they were before and after it. Changes made outside a transaction are not recorded, so
+ * they forget the history instead.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniquePersonList persons;
     //private final ArrayList<Schedule> schedules;
 
@@ -40,6 +79,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         schedules = new UniqueScheduleList();
     }
 
+    private final ParticipationIndex participations = new ParticipationIndex();
+
+    private long version = lastVersion.incrementAndGet();
+
+    private final AtomicReference<AddressBookSnapshot> snapshot = new AtomicReference<>(
+            new AddressBookSnapshot(PersistentList.empty(), PersistentList.empty(), version));
+
+    /** The state to restore if the transaction in progress is rolled back, or null if there is none. */
+    private Transaction transaction;
+
+    private final AddressBookHistory history = new AddressBookHistory();
+
     public AddressBook() {}
 
     /**
@@ -48,6 +99,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        publishSnapshot();
     }
 
     //// list overwrite operations
@@ -58,6 +110,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        markChanged();
+        if (transaction != null) {
+            transaction.recordReset();
+        }
+        participations.clear();
+        for (Person person : persons) {
+            registerSchedules(person, null);
+        }
+        refreshParticipantNames(schedules);
     }
 
     /**
@@ -66,8 +127,376 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
         setSchedule(newData.getScheduleList());
+        setPersons(newData.getPersonList());
+        version = newData.getVersion();
+    }
+
+    //// transactions
+
+    /**
+     * Starts a transaction, buffering the changes to the person and schedule lists until it ends.
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    public void beginTransaction() {
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction is already in progress");
+        }
+        // the snapshot is restored on rollback, so it must hold the changes made before the transaction
+        publishSnapshot();
+        transaction = new Transaction(version, snapshot.get());
+        persons.beginBatch();
+        schedules.beginBatch();
+    }
+
+    /**
+     * Ends the transaction in progress, reporting its changes as one change to each of the person and schedule lists,
+     * and returns the changes it made.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    public AddressBookChange commitTransaction() {
+        Transaction committed = requireTransaction();
+        transaction = null;
+        // published before the changes are reported, so that listeners can be given the copies of the changed elements
+        publishSnapshot();
+        persons.endBatch();
+        schedules.endBatch();
+        if (!committed.isFromHistory) {
+            AddressBookHistory.Step step = committed.toStep(snapshot.get());
+            if (step != null) {
+                history.record(step);
+            }
+        }
+        return committed.toChange(getPersonList());
+    }
+
+    /**
+     * Ends the transaction in progress, undoing all of its changes, in time proportional to the changes it made.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    public void rollbackTransaction() {
+        Transaction rolledBack = requireTransaction();
+        rolledBack.restoreTouched();
+        persons.revertBatch();
+        schedules.revertBatch();
+        restoreParticipations(rolledBack);
+        refreshParticipantNames(rolledBack.isReset ? schedules : rolledBack.touchedSchedules);
+        transaction = null;
+        version = rolledBack.version;
+        for (int i = rolledBack.historyRollbacks.size() - 1; i >= 0; i--) {
+            rolledBack.historyRollbacks.get(i).run();
+        }
+        // the contents are as they were when the snapshot was taken, so it is still the latest one
+        persons.restoreSnapshot(rolledBack.snapshot.getPersons());
+        schedules.restoreSnapshot(rolledBack.snapshot.getSchedules());
+        persons.endBatch();
+        schedules.endBatch();
+    }
+
+    /**
+     * Puts the participations changed by the rolled back {@code transaction} back as they were, from the schedules of
+     * the persons it changed, once they have been restored. Only a transaction that replaced the whole address book
+     * has every participation rebuilt.
+     */
+    private void restoreParticipations(Transaction rolledBack) {
+        if (rolledBack.isReset) {
+            participations.clear();
+            for (Person person : persons) {
+                addParticipations(person);
+            }
+            return;
+        }
+        for (PersonId id : rolledBack.originalPersons.keySet()) {
+            participations.removeParticipant(id);
+            Person person = persons.getPersonById(id);
+            if (person != null) {
+                addParticipations(person);
+            }
+        }
+    }
+
+    private void addParticipations(Person person) {
+        for (Schedule schedule : person.getSchedules()) {
+            participations.add(person.getId(), schedule);
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the last snapshot published of the address book, which can be called from any thread.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Publishes a snapshot of the address book as it is now, in time proportional to the changes made since the last
+     * one rather than to the size of the address book. Nothing is published if it has not changed since the last.
+     */
+    public void publishSnapshot() {
+        if (snapshot.get().getVersion() == version) {
+            return;
+        }
+        for (Schedule schedule : schedules.getChangedSinceSnapshot()) {
+            // the copies of the participants must refer to the new copy of the schedule
+            for (PersonId participantId : participations.getParticipants(schedule)) {
+                Person participant = persons.getPersonById(participantId);
+                if (participant != null) {
+                    persons.markChanged(participant);
+                }
+            }
+        }
+        PersistentList<Schedule> scheduleCopies = schedules.takeSnapshot(AddressBook::copySchedule);
+        PersistentList<Person> personCopies = persons.takeSnapshot(this::copyPerson);
+        snapshot.set(new AddressBookSnapshot(personCopies, scheduleCopies, version));
+    }
+
+    /**
+     * Returns a copy of {@code person} for a snapshot, whose schedules are the copies in the schedule snapshot just
+     * taken.
+     */
+    private Person copyPerson(Person person) {
+        ArrayList<Schedule> scheduleCopies = new ArrayList<>(person.getSchedules().size());
+        for (Schedule schedule : person.getSchedules()) {
+            Schedule copy = schedules.getSnapshotCopy(schedule);
+            scheduleCopies.add(copy != null ? copy : copySchedule(schedule));
+        }
+        return new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTag(), person.getInterest(), scheduleCopies);
+    }
+
+    private static Schedule copySchedule(Schedule schedule) {
+        return new Schedule(schedule.getSchedName(), schedule.getStartTime(), schedule.getEndTime(),
+                new ArrayList<>(schedule.getPersonList()));
+    }
+
+    /**
+     * Returns an unchanging copy of {@code person}, a person in the address book, as it is now: its copy in the last
+     * snapshot if nothing has changed since the snapshot was published, or else a new copy with copies of its
+     * schedules.
+     */
+    public Person getUnchangingCopy(Person person) {
+        requireNonNull(person);
+        if (snapshot.get().getVersion() == version) {
+            Person copy = persons.getSnapshotCopy(person);
+            if (copy != null) {
+                return copy;
+            }
+        }
+        ArrayList<Schedule> scheduleCopies = new ArrayList<>(person.getSchedules().size());
+        for (Schedule schedule : person.getSchedules()) {
+            scheduleCopies.add(copySchedule(schedule));
+        }
+        return new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTag(), person.getInterest(), scheduleCopies);
+    }
+
+    /**
+     * Returns an unchanging copy of {@code schedule}, a schedule in the address book, as it is now: its copy in the
+     * last snapshot if nothing has changed since the snapshot was published, or else a new copy.
+     */
+    public Schedule getUnchangingCopy(Schedule schedule) {
+        requireNonNull(schedule);
+        if (snapshot.get().getVersion() == version && !schedules.getChangedSinceSnapshot().contains(schedule)) {
+            Schedule copy = schedules.getSnapshotCopy(schedule);
+            if (copy != null) {
+                return copy;
+            }
+        }
+        return copySchedule(schedule);
+    }
+
+    /**
+     * Gives this address book a new version, as its contents have changed, and forgets its history if the change is not
+     * made in a transaction, which would have recorded it.
+     */
+    private void markChanged() {
+        version = lastVersion.incrementAndGet();
+        if (transaction == null) {
+            history.clear();
+        }
+    }
+
+    //// history
+
+    /**
+     * Sets the number of committed transactions that can be undone, forgetting the oldest ones beyond it.
+     */
+    public void setHistoryDepth(int historyDepth) {
+        history.setMaxDepth(historyDepth);
+    }
+
+    /**
+     * Forgets the committed transactions, so that they can no longer be undone or redone.
+     */
+    public void clearHistory() {
+        history.clear();
+    }
+
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Undoes the last committed transaction that has not been undone, in time proportional to the persons it changed.
+     * The undoing is itself a transaction, if none is in progress, or part of the one in progress.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public void undo() {
+        applyFromHistory(history.peekUndo().getUndo());
+        history.markUndone();
+        if (transaction != null) {
+            transaction.historyRollbacks.add(history::markRedone);
+        }
+    }
+
+    /**
+     * Redoes the last transaction undone, if no transaction has been committed since.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public void redo() {
+        applyFromHistory(history.peekRedo().getRedo());
+        history.markRedone();
+        if (transaction != null) {
+            transaction.historyRollbacks.add(history::markUndone);
+        }
+    }
+
+    /**
+     * Applies {@code change} from a step of the history to copies of its persons, in a transaction that is not
+     * recorded in the history itself.
+     */
+    private void applyFromHistory(AddressBookChange change) {
+        List<Person> copies = new ArrayList<>(change.getPersons().size());
+        for (Person person : change.getPersons()) {
+            copies.add(copyForHistory(person, person.getSchedules()));
+        }
+        AddressBookChange copiedChange = new AddressBookChange(change.isReset(), change.getRemovedIds(), copies);
+
+        boolean isOwnTransaction = transaction == null;
+        if (isOwnTransaction) {
+            beginTransaction();
+        }
+        transaction.isFromHistory = true;
+        try {
+            applyChange(copiedChange);
+        } catch (RuntimeException e) {
+            if (isOwnTransaction) {
+                rollbackTransaction();
+            }
+            throw e;
+        }
+        if (isOwnTransaction) {
+            commitTransaction();
+        }
+    }
+
+    /**
+     * Returns a copy of {@code person} taking part in copies of {@code personSchedules} without participants, which
+     * adding the copy to the address book replaces with the schedules in it, or adds if they are missing.
+     */
+    private static Person copyForHistory(Person person, List<Schedule> personSchedules) {
+        ArrayList<Schedule> scheduleCopies = new ArrayList<>(personSchedules.size());
+        for (Schedule schedule : personSchedules) {
+            scheduleCopies.add(new Schedule(schedule.getSchedName(), schedule.getStartTime(), schedule.getEndTime()));
+        }
+        return new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTag(), person.getInterest(), scheduleCopies);
+    }
+
+    public boolean isInTransaction() {
+        return transaction != null;
+    }
+
+    private Transaction requireTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction is in progress");
+        }
+        return transaction;
+    }
+
+    /**
+     * Records the schedules of {@code person} in the transaction in progress, if any, before they are changed, and
+     * marks the person as changed for the next snapshot.
+     */
+    private void touch(Person person) {
+        persons.markChanged(person);
+        if (transaction != null) {
+            transaction.schedulesByPerson.computeIfAbsent(person, p -> new ArrayList<>(p.getSchedules()));
+        }
+    }
+
+    /**
+     * Records {@code schedule} in the transaction in progress, if any, as its participants are about to change, and
+     * marks the schedule as changed for the next snapshot.
+     */
+    private void touch(Schedule schedule) {
+        schedules.markChanged(schedule);
+        if (transaction != null) {
+            transaction.touchedSchedules.add(schedule);
+        }
+    }
+
+    /**
+     * Applies {@code change}, made by a transaction on an address book with the same contents as this one, to this
+     * address book. Removed persons that are not in it are ignored, and new persons are added as a single change to the
+     * person list.
+     * @throws DuplicatePersonException if an added or edited person has the same identity as another person.
+     */
+    public void applyChange(AddressBookChange change) {
+        requireNonNull(change);
+        if (change.isReset()) {
+            resetData(new AddressBook());
+        }
+        for (PersonId id : change.getRemovedIds()) {
+            Person removed = persons.getPersonById(id);
+            if (removed != null) {
+                removePerson(removed);
+            }
+        }
+        List<Person> newPersons = new ArrayList<>();
+        for (Person person : change.getPersons()) {
+            Person existing = persons.getPersonById(person.getId());
+            if (existing == null) {
+                newPersons.add(person);
+            } else {
+                setPerson(existing, person);
+            }
+        }
+        if (addPersons(newPersons).size() < newPersons.size()) {
+            throw new DuplicatePersonException();
+        }
+    }
+
+    /**
+     * Records in the transaction in progress, if any, that {@code person} was added, or edited from {@code original},
+     * the person with the same id it replaced, if any.
+     */
+    private void recordChanged(Person person, Person original) {
+        if (transaction != null) {
+            transaction.recordOriginal(person.getId(), original);
+            transaction.removedIds.remove(person.getId());
+            transaction.changedPersons.put(person.getId(), person);
+        }
+    }
+
+    /**
+     * Records in the transaction in progress, if any, that {@code person} was removed.
+     */
+    private void recordRemoved(Person person) {
+        if (transaction != null) {
+            transaction.recordOriginal(person.getId(), person);
+            transaction.changedPersons.remove(person.getId());
+            transaction.removedIds.add(person.getId());
+        }
     }
 
     //// person-level operations
@@ -89,11 +518,58 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a person to the address book.
+     * Returns the persons in the address book that match {@code predicate}.
+     */
+    public Set<Person> getPersonsMatching(NameContainsKeywordsPredicate predicate) {
+        return persons.getPersonsMatching(predicate);
+    }
+
+    /**
+     * Returns the schedules that end no earlier than {@code from} and start before {@code to},
+     * ordered by start time.
+     */
+    public List<Schedule> getSchedulesInRange(LocalDateTime from, LocalDateTime to) {
+        return schedules.getSchedulesInRange(from, to);
+    }
+
+    /**
+     * Returns true if {@code person} takes part in the schedule with the same identity as {@code schedule}.
+     */
+    public boolean isParticipant(Person person, Schedule schedule) {
+        requireAllNonNull(person, schedule);
+        Schedule sameSchedule = schedules.getSameSchedule(schedule);
+        return sameSchedule != null && participations.isParticipant(person.getId(), sameSchedule);
+    }
+
+    /**
+     * Adds a person to the address book, together with any schedules they take part in that are not in it yet.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        markChanged();
+        recordChanged(p, null);
+        Set<Schedule> joined = newScheduleSet();
+        registerSchedules(p, joined);
+        refreshParticipantNames(joined);
+    }
+
+    /**
+     * Adds the persons in {@code toAdd} that do not have the same identity as a person in the address book, or as an
+     * earlier person in {@code toAdd}, as a single change to the person list. Returns the persons added.
+     */
+    public List<Person> addPersons(List<Person> toAdd) {
+        List<Person> added = persons.addAllAbsent(toAdd);
+        if (!added.isEmpty()) {
+            markChanged();
+        }
+        Set<Schedule> joined = newScheduleSet();
+        for (Person person : added) {
+            recordChanged(person, null);
+            registerSchedules(person, joined);
+        }
+        refreshParticipantNames(joined);
+        return added;
     }
 
     /**
@@ -101,37 +577,95 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The schedule must not already exist in the address book.
      */
     public void addSchedule(Schedule newSchedule) {
-        if (schedules.contains(newSchedule)) {
-        } else {
+        if (!schedules.contains(newSchedule)) {
             schedules.add(newSchedule);
+            markChanged();
         }
     }
 
     /**
-     * Adds a schedule to the address book.
-     * The schedule must not already exist in the address book.
+     * Adds the persons in {@code participantsList} as participants of {@code newSchedule}.
+     * If a schedule with the same identity already exists in the address book, the participants are added to it
+     * instead. Persons already taking part in the schedule are left as they are.
      */
-    public void addSchedule(Schedule newSchedule, ArrayList<Person> participantsList) {
-        if (schedules.contains(newSchedule)) {
-            System.out.println(schedules + " already added!");
-        } else {
-            schedules.add(newSchedule);
-            for (Person toEditPerson: participantsList) {
-                toEditPerson.addSchedule(newSchedule);
+    public void addSchedule(Schedule newSchedule, List<Person> participantsList) {
+        requireAllNonNull(newSchedule, participantsList);
+        Schedule schedule = schedules.getSameSchedule(newSchedule);
+        boolean isExisting = schedule != null;
+        if (!isExisting) {
+            schedule = newSchedule;
+            schedules.add(schedule);
+            markChanged();
+        }
+
+        for (Person toEditPerson : participantsList) {
+            if (participations.add(toEditPerson.getId(), schedule)) {
+                markChanged();
+                touch(schedule);
+                touch(toEditPerson);
+                toEditPerson.addSchedule(schedule);
                 setPerson(toEditPerson, toEditPerson);
             }
         }
+        refreshParticipantNames(Collections.singleton(schedule));
+
+        if (isExisting) {
+            // refreshes the views of the schedule list, as its participants have changed
+            schedules.setSchedule(schedule, schedule);
+        }
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * If the name of the person changes, it is updated in the schedules they take part in.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person replaced = persons.setPerson(target, editedPerson);
+        markChanged();
+        boolean isSameId = replaced.getId().equals(editedPerson.getId());
+        if (!isSameId) {
+            recordRemoved(replaced);
+        }
+        recordChanged(editedPerson, isSameId ? replaced : null);
+        if (replaced == editedPerson) {
+            return;
+        }
+
+        boolean isRenamed = !replaced.getName().fullName.equals(editedPerson.getName().fullName);
+        Set<Schedule> kept = newScheduleSet();
+        if (isSameId) {
+            for (Schedule schedule : editedPerson.getSchedules()) {
+                kept.add(schedules.getSameSchedule(schedule));
+            }
+        }
+
+        // the schedules kept are left in the index, so that the person keeps their place among the participants
+        List<Schedule> left = new ArrayList<>();
+        List<Schedule> renamedIn = new ArrayList<>();
+        for (Schedule schedule : new ArrayList<>(participations.getSchedules(replaced.getId()))) {
+            touch(schedule);
+            if (!kept.contains(schedule)) {
+                participations.remove(replaced.getId(), schedule);
+                left.add(schedule);
+            } else if (isRenamed) {
+                renamedIn.add(schedule);
+            }
+        }
+        Set<Schedule> changed = newScheduleSet();
+        registerSchedules(editedPerson, changed);
+        changed.addAll(left);
+        changed.addAll(renamedIn);
+        refreshParticipantNames(changed);
+        for (Schedule schedule : left) {
+            removeScheduleIfUnattended(schedule);
+        }
+        for (Schedule schedule : renamedIn) {
+            schedules.setSchedule(schedule, schedule);
+        }
     }
 
     /**
@@ -143,6 +677,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedSchedule);
 
         schedules.setSchedule(target, editedSchedule);
+        markChanged();
     }
 
     private void setSchedule(ObservableList<Schedule> scheduleList) {
@@ -150,34 +685,135 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, and from the schedules they take part in.
+     * Schedules left without participants are removed as well.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        Person removed = persons.remove(key);
+        markChanged();
+        recordRemoved(removed);
+        Set<Schedule> left = participations.removeParticipant(removed.getId());
+        for (Schedule schedule : left) {
+            touch(schedule);
+        }
+        refreshParticipantNames(left);
+        for (Schedule schedule : left) {
+            removeScheduleIfUnattended(schedule);
+        }
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, and from the persons taking part in it.
      * {@code key} must exist in the address book.
      */
     public void removeSchedule(Schedule toDeleteSchedule) {
-        schedules.remove(toDeleteSchedule);
+        Schedule schedule = schedules.getSameSchedule(toDeleteSchedule);
+        if (schedule == null) {
+            return;
+        }
+
+        schedules.remove(schedule);
+        markChanged();
+        for (PersonId participantId : participations.removeSchedule(schedule)) {
+            Person participant = persons.getPersonById(participantId);
+            if (participant != null) {
+                touch(participant);
+                participant.deleteSchedule(schedule);
+                setPerson(participant, participant);
+            }
+        }
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
-     * {@code key} must exist in the address book.
+     * Removes {@code toDeleteParticipant} from the participants of {@code toDeleteSchedule}.
+     * The schedule is removed from this {@code AddressBook} if it is left without participants.
+     * {@code toDeleteParticipant} must exist in the address book.
      */
     public void removeSchedule(Person toDeleteParticipant, Schedule toDeleteSchedule) {
-        toDeleteSchedule.removePerson(toDeleteParticipant.getName().toString());
-        toDeleteParticipant.deleteSchedule(toDeleteSchedule);
-        if (toDeleteSchedule.getPersonList().isEmpty()) {
-            schedules.remove(toDeleteSchedule);
+        Schedule schedule = schedules.getSameSchedule(toDeleteSchedule);
+        if (schedule == null) {
+            schedule = toDeleteSchedule;
         }
+
+        touch(schedule);
+        touch(toDeleteParticipant);
+        markChanged();
+        toDeleteParticipant.deleteSchedule(schedule);
+        participations.remove(toDeleteParticipant.getId(), schedule);
+        refreshParticipantNames(Collections.singleton(schedule));
+        removeScheduleIfUnattended(schedule);
         setPerson(toDeleteParticipant, toDeleteParticipant);
     }
 
+    /**
+     * Removes {@code schedule} if nobody takes part in it any more, or refreshes it in the schedule list otherwise.
+     */
+    private void removeScheduleIfUnattended(Schedule schedule) {
+        if (!schedules.contains(schedule)) {
+            return;
+        }
+        if (participations.getParticipants(schedule).isEmpty()) {
+            schedules.remove(schedule);
+        } else {
+            schedules.setSchedule(schedule, schedule);
+        }
+    }
+
+    /**
+     * Makes the schedules of {@code person} refer to the instances in the schedule list, adding any that are
+     * missing, and records them in the participation index. The schedules the person joins are added to
+     * {@code joined}, if it is not null, so that the names of their participants can be refreshed together.
+     */
+    private void registerSchedules(Person person, Set<Schedule> joined) {
+        ArrayList<Schedule> personSchedules = person.getSchedules();
+        for (int i = 0; i < personSchedules.size(); i++) {
+            Schedule schedule = schedules.getSameSchedule(personSchedules.get(i));
+            if (schedule == null) {
+                schedule = personSchedules.get(i);
+                schedules.add(schedule);
+            } else if (schedule != personSchedules.get(i)) {
+                touch(person);
+                personSchedules.set(i, schedule);
+            }
+            if (participations.add(person.getId(), schedule)) {
+                touch(schedule);
+                if (joined != null) {
+                    joined.add(schedule);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the participants shown by each of {@code changed} to the names of the persons the participation index has
+     * taking part in it, in the order of the person list, so that the names depend only on who takes part and not on
+     * the order they joined in. A schedule already showing those names is left as it is.
+     */
+    private void refreshParticipantNames(Iterable<Schedule> changed) {
+        for (Schedule schedule : changed) {
+            List<Person> participants = new ArrayList<>();
+            for (PersonId participantId : participations.getParticipants(schedule)) {
+                Person participant = persons.getPersonById(participantId);
+                if (participant != null) {
+                    participants.add(participant);
+                }
+            }
+            participants.sort(Comparator.comparingInt(persons::getPosition));
+            ArrayList<String> names = new ArrayList<>(participants.size());
+            for (Person participant : participants) {
+                names.add(participant.getName().fullName);
+            }
+            if (!names.equals(schedule.getPersonList())) {
+                schedule.setPersonList(names);
+            }
+        }
+    }
+
+    private static Set<Schedule> newScheduleSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
     //// util methods
 
     @Override
@@ -217,12 +853,113 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.hashCode();
     }
 
+    /**
+     * Returns the schedule in the address book with the same identity as {@code schedule},
+     * or null if there is no such schedule.
+     */
     public Schedule getSameSchedule(Schedule schedule) {
-        for (Schedule matching : schedules) {
-            if (matching.isSameSchedule(schedule)) {
-                return matching;
+        requireNonNull(schedule);
+        return schedules.getSameSchedule(schedule);
+    }
+
+    /**
+     * The state of an {@code AddressBook} when a transaction began, and the persons the transaction has changed since.
+     * Persons are changed in place, so only those touched by the transaction have their schedules copied, when they
+     * are first touched; the schedules touched have the names of their participants derived again once the
+     * participations are restored. The person and schedule lists undo their own changes, so nothing is copied of them
+     * when the transaction begins.
+     */
+    private static class Transaction {
+        private final long version;
+        private final AddressBookSnapshot snapshot;
+        private final Map<Person, List<Schedule>> schedulesByPerson = new IdentityHashMap<>();
+        private final Set<Schedule> touchedSchedules = newScheduleSet();
+        private final Map<PersonId, Person> changedPersons = new LinkedHashMap<>();
+        private final Set<PersonId> removedIds = new LinkedHashSet<>();
+        /** The persons as they were before the transaction changed them, or null for those it added. */
+        private final Map<PersonId, Person> originalPersons = new LinkedHashMap<>();
+        private boolean isReset;
+        /** Whether the transaction undoes or redoes a step of the history, and so is not recorded in it. */
+        private boolean isFromHistory;
+        /** Each puts the history back as it was before an undo or redo made in the transaction. */
+        private final List<Runnable> historyRollbacks = new ArrayList<>();
+
+        Transaction(long version, AddressBookSnapshot snapshot) {
+            this.version = version;
+            this.snapshot = snapshot;
+        }
+
+        /**
+         * Restores the schedules of the persons touched by the transaction.
+         */
+        void restoreTouched() {
+            schedulesByPerson.forEach((person, schedules) -> {
+                person.getSchedules().clear();
+                person.getSchedules().addAll(schedules);
+            });
+        }
+
+        /**
+         * Records {@code original} as the person with {@code id} before the transaction, unless an earlier change in
+         * the transaction has been recorded for the id.
+         */
+        void recordOriginal(PersonId id, Person original) {
+            if (!originalPersons.containsKey(id)) {
+                originalPersons.put(id, original);
+            }
+        }
+
+        /**
+         * Returns the step of the history that undoes and redoes the transaction, given the {@code finalSnapshot} of
+         * the address book it left, or null if it made no change.
+         */
+        AddressBookHistory.Step toStep(AddressBookSnapshot finalSnapshot) {
+            if (isReset) {
+                return new AddressBookHistory.Step(
+                        new AddressBookChange(true, Collections.emptyList(), snapshot.getPersonList()),
+                        new AddressBookChange(true, Collections.emptyList(), finalSnapshot.getPersonList()));
+            }
+            if (removedIds.isEmpty() && changedPersons.isEmpty()) {
+                return null;
+            }
+            List<PersonId> addedIds = new ArrayList<>();
+            List<Person> originals = new ArrayList<>();
+            originalPersons.forEach((id, original) -> {
+                if (original != null) {
+                    originals.add(copyForHistory(original,
+                            schedulesByPerson.getOrDefault(original, original.getSchedules())));
+                } else if (changedPersons.containsKey(id)) {
+                    addedIds.add(id);
+                }
+            });
+            List<Person> changed = new ArrayList<>(changedPersons.size());
+            for (Person person : changedPersons.values()) {
+                changed.add(copyForHistory(person, person.getSchedules()));
+            }
+            return new AddressBookHistory.Step(new AddressBookChange(false, addedIds, originals),
+                    new AddressBookChange(false, new ArrayList<>(removedIds), changed));
+        }
+
+        /**
+         * Forgets the changes recorded so far, as the contents of the address book have been replaced.
+         */
+        void recordReset() {
+            isReset = true;
+            changedPersons.clear();
+            removedIds.clear();
+        }
+
+        /**
+         * Returns the changes made by the transaction, given the {@code finalPersons} it left in the address book.
+         */
+        AddressBookChange toChange(List<Person> finalPersons) {
+            if (isReset) {
+                return new AddressBookChange(true, Collections.emptyList(), finalPersons);
+            }
+            if (removedIds.isEmpty() && changedPersons.isEmpty()) {
+                return AddressBookChange.NONE;
             }
+            return new AddressBookChange(false, new ArrayList<>(removedIds), new ArrayList<>(changedPersons.values()));
         }
-        return null;
     }
 }
@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * The changes made to an {@code AddressBook} by a transaction: the ids of the persons it removed, and the persons it
+ * added or edited, who carry the schedules they take part in.
+ * A change that resets the address book, such as clearing it, holds every person left in it instead.
+ */
+public class AddressBookChange {
+
+    /** The change made by a transaction that leaves the address book as it was. */
+    public static final AddressBookChange NONE =
+            new AddressBookChange(false, Collections.emptyList(), Collections.emptyList());
+
+    private final boolean isReset;
+    private final List<PersonId> removedIds;
+    private final List<Person> persons;
+
+    /**
+     * Constructs a change that removes the persons with {@code removedIds} from the address book, then adds or
+     * replaces {@code persons} in it by their ids. If {@code isReset} is true, every person is removed first.
+     */
+    public AddressBookChange(boolean isReset, List<PersonId> removedIds, List<Person> persons) {
+        requireAllNonNull(removedIds, persons);
+        this.isReset = isReset;
+        this.removedIds = Collections.unmodifiableList(new ArrayList<>(removedIds));
+        this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+    }
+
+    /**
+     * Returns the change that turns {@code from} into {@code to}, matching their persons by id: the persons of
+     * {@code from} that are not in {@code to} are removed, and the persons of {@code to} that are not in {@code from},
+     * or differ from their match in it in any field or schedule, are added or edited.
+     */
+    public static AddressBookChange between(ReadOnlyAddressBook from, ReadOnlyAddressBook to) {
+        requireAllNonNull(from, to);
+        Map<PersonId, Person> unmatched = new LinkedHashMap<>();
+        for (Person person : from.getPersonList()) {
+            unmatched.put(person.getId(), person);
+        }
+        List<Person> persons = new ArrayList<>();
+        for (Person person : to.getPersonList()) {
+            Person match = unmatched.remove(person.getId());
+            // interests are not part of a person's equality
+            if (match == null || !match.equals(person) || !match.getInterest().equals(person.getInterest())) {
+                persons.add(person);
+            }
+        }
+        return new AddressBookChange(false, new ArrayList<>(unmatched.keySet()), persons);
+    }
+
+    public boolean isReset() {
+        return isReset;
+    }
+
+    public List<PersonId> getRemovedIds() {
+        return removedIds;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns true if applying this change leaves an address book as it was.
+     */
+    public boolean isEmpty() {
+        return !isReset && removedIds.isEmpty() && persons.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return isReset == otherChange.isReset
+                && removedIds.equals(otherChange.removedIds)
+                && persons.equals(otherChange.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isReset, removedIds, persons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isReset", isReset)
+                .add("removedIds", removedIds)
+                .add("persons", persons)
+                .toString();
+    }
+}
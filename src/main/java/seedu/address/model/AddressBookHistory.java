@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The transactions committed to an {@code AddressBook} that can be undone, and those undone that can be redone, each
+ * as a pair of {@code AddressBookChange}s that take the address book back to before it and forward to after it.
+ *
+ * The changes hold only the persons the transaction added, edited or removed, so each step takes time and memory in
+ * proportion to the transaction rather than to the size of the address book. At most {@code maxDepth} steps are kept,
+ * dropping the oldest first.
+ */
+class AddressBookHistory {
+
+    public static final int DEFAULT_MAX_DEPTH = 50;
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+
+    /**
+     * Sets the number of steps kept, dropping the oldest steps beyond it.
+     */
+    void setMaxDepth(int maxDepth) {
+        checkArgument(maxDepth >= 0, "Undo history depth cannot be negative");
+        this.maxDepth = maxDepth;
+        trim(undoSteps);
+        trim(redoSteps);
+    }
+
+    /**
+     * Records a newly committed transaction, which makes the steps undone so far impossible to redo.
+     */
+    void record(Step step) {
+        requireNonNull(step);
+        redoSteps.clear();
+        undoSteps.push(step);
+        trim(undoSteps);
+    }
+
+    /**
+     * Forgets every step, as the address book was changed in a way that was not recorded.
+     */
+    void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Returns the step to undo next.
+     * @throws IllegalStateException if there is none.
+     */
+    Step peekUndo() {
+        if (undoSteps.isEmpty()) {
+            throw new IllegalStateException("There is nothing to undo");
+        }
+        return undoSteps.peek();
+    }
+
+    /**
+     * Returns the step to redo next.
+     * @throws IllegalStateException if there is none.
+     */
+    Step peekRedo() {
+        if (redoSteps.isEmpty()) {
+            throw new IllegalStateException("There is nothing to redo");
+        }
+        return redoSteps.peek();
+    }
+
+    /**
+     * Moves the step to undo next to the steps that can be redone, once it has been undone.
+     */
+    void markUndone() {
+        redoSteps.push(undoSteps.pop());
+    }
+
+    /**
+     * Moves the step to redo next to the steps that can be undone, once it has been redone.
+     */
+    void markRedone() {
+        undoSteps.push(redoSteps.pop());
+    }
+
+    private void trim(Deque<Step> steps) {
+        while (steps.size() > maxDepth) {
+            steps.removeLast();
+        }
+    }
+
+    /**
+     * The changes that undo and redo a committed transaction. The persons in them are never put in the address book
+     * themselves, but copied each time a change is applied, so that they are not changed in place with it.
+     */
+    static class Step {
+        private final AddressBookChange undo;
+        private final AddressBookChange redo;
+
+        Step(AddressBookChange undo, AddressBookChange redo) {
+            this.undo = requireNonNull(undo);
+            this.redo = requireNonNull(redo);
+        }
+
+        AddressBookChange getUndo() {
+            return undo;
+        }
+
+        AddressBookChange getRedo() {
+            return redo;
+        }
+    }
+}
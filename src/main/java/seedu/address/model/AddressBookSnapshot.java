@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * An unchanging version of the persons and schedules of an {@code AddressBook}, published by it whenever its changes
+ * are complete, which any number of threads may read at once without locking.
+ *
+ * The persons and schedules are copies that the address book never changes. The schedules of every person are the
+ * same instances as those in the schedule list, as in the address book itself. Consecutive snapshots share the copies
+ * of the persons and schedules unchanged between them, and most of the structure of their lists.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Schedule> schedules;
+    private final ObservableList<Person> personList;
+    private final ObservableList<Schedule> scheduleList;
+    private final long version;
+
+    /**
+     * Constructs a snapshot of an address book with the given copies of its persons and schedules, at {@code version}.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons, PersistentList<Schedule> schedules, long version) {
+        requireAllNonNull(persons, schedules);
+        this.persons = persons;
+        this.schedules = schedules;
+        personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        scheduleList = FXCollections.unmodifiableObservableList(FXCollections.observableList(schedules));
+        this.version = version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ObservableList<Schedule> getScheduleList() {
+        return scheduleList;
+    }
+
+    /**
+     * Returns the persons, in a list that is cheaper to go through in order than {@link #getPersonList()}.
+     */
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    public PersistentList<Schedule> getSchedules() {
+        return schedules;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons.size())
+                .add("schedules", schedules.size())
+                .toString();
+    }
+}
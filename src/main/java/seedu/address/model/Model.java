@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
 
@@ -56,6 +59,61 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an unchanging snapshot of the address book as of its last completed change, which can be read on any
+     * thread while the address book goes on changing.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Applies {@code change} to the address book in a transaction of its own, so that it is reported to the listeners
+     * of the person and schedule lists as one change per list.
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if an added or edited person has the
+     *     same identity as another person, in which case the address book is left unchanged.
+     */
+    void applyAddressBookChange(AddressBookChange change);
+
+    /**
+     * Starts a transaction. Until it is committed or rolled back, changes to the address book are reported to the
+     * listeners of the person and schedule lists only when it ends, as one change per list.
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction in progress, keeping its changes, and returns the changes it made to the address book.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    AddressBookChange commitTransaction();
+
+    /**
+     * Ends the transaction in progress, undoing its changes to the address book.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if there is a committed transaction that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Undoes the last committed transaction that has not been undone.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns true if there is an undone transaction that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Redoes the last undone transaction, if no transaction has been committed since.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -64,7 +122,30 @@ public interface Model {
     boolean hasSchedule(Schedule schedule);
 
     /**
-     * Deletes the given person.
+     * Returns the schedule in the address book with the same identity as {@code schedule},
+     * or null if there is no such schedule.
+     */
+    Schedule getSameSchedule(Schedule schedule);
+
+    /**
+     * Returns the persons in the address book that match {@code predicate}, found through a search index rather
+     * than by testing every person.
+     */
+    Set<Person> getPersonsMatching(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns the schedules that end no earlier than {@code from} and start before {@code to},
+     * ordered by start time.
+     */
+    List<Schedule> getSchedulesInRange(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns true if {@code person} takes part in the schedule with the same identity as {@code schedule}.
+     */
+    boolean isParticipant(Person person, Schedule schedule);
+
+    /**
+     * Deletes the given person, and removes them from the schedules they take part in.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -75,6 +156,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds those of the given persons that do not have the same identity as a person in the address book, or as an
+     * earlier person in {@code persons}, and returns the persons added.
+     */
+    List<Person> addPersons(List<Person> persons);
+
     /**
      * Deletes the given schedule.
      * The schedule must exist in the address book.
@@ -87,9 +174,6 @@ public interface Model {
      */
     void deleteSchedule(Person toDeleteParticipant, Schedule toDeleteSchedule);
 
-    void addSchedulePeople(Schedule schedule, ArrayList<String> personName);
-
-
     /**
      * Adds the given schedule.
      * {@code schedule} must not already exist in the address book.
@@ -97,10 +181,10 @@ public interface Model {
     void addSchedule(Schedule schedule);
 
     /**
-     * Adds the given schedule.
-     * {@code schedule} must not already exist in the address book.
+     * Adds the persons in {@code participantsList} as participants of the given schedule, adding the schedule
+     * to the address book if it does not exist in it yet.
      */
-    void addSchedule(Schedule schedule, ArrayList<Person> participantsList);
+    void addSchedule(Schedule schedule, List<Person> participantsList);
 
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
@@ -119,6 +203,18 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns a copy of {@code person}, a person in the address book, that is never changed, which can be read on any
+     * thread while the address book goes on changing.
+     */
+    Person getUnchangingCopy(Person person);
+
+    /**
+     * Returns a copy of {@code schedule}, a schedule in the address book, that is never changed, which can be read on
+     * any thread while the address book goes on changing.
+     */
+    Schedule getUnchangingCopy(Schedule schedule);
+
     ObservableList<Schedule> getFilteredScheduleList();
 
     /**
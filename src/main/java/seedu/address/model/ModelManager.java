@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +14,7 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
 
@@ -37,6 +40,7 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook.setHistoryDepth(userPrefs.getUndoHistoryDepth());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredSchedules = new FilteredList<>(this.addressBook.getScheduleList());
     }
@@ -51,6 +55,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setHistoryDepth(userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -85,6 +90,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        publishSnapshot();
     }
 
     @Override
@@ -92,6 +98,79 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
+    /**
+     * Publishes a snapshot of the address book after a change made outside a transaction, as committing the
+     * transaction publishes one otherwise.
+     */
+    private void publishSnapshot() {
+        if (!addressBook.isInTransaction()) {
+            addressBook.publishSnapshot();
+        }
+    }
+
+    @Override
+    public void applyAddressBookChange(AddressBookChange change) {
+        requireNonNull(change);
+        addressBook.beginTransaction();
+        try {
+            addressBook.applyChange(change);
+        } catch (RuntimeException e) {
+            addressBook.rollbackTransaction();
+            throw e;
+        }
+        addressBook.commitTransaction();
+        // the change was made elsewhere, so the earlier transactions here can no longer be undone on top of it
+        addressBook.clearHistory();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
+    }
+
+    @Override
+    public void beginTransaction() {
+        addressBook.beginTransaction();
+    }
+
+    @Override
+    public AddressBookChange commitTransaction() {
+        return addressBook.commitTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        addressBook.rollbackTransaction();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+        publishSnapshot();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+        publishSnapshot();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -104,96 +183,92 @@ public class ModelManager implements Model {
         return addressBook.hasSchedule(schedule);
     }
 
+    @Override
+    public boolean isParticipant(Person person, Schedule schedule) {
+        requireAllNonNull(person, schedule);
+        return addressBook.isParticipant(person, schedule);
+    }
+
     @Override
     public void deletePerson(Person target) {
-        for (int i = 0; i < target.getSchedules().size(); i++) {
-            //System.out.println(target.getSchedules().get(i));
-            addressBook.removeSchedule(target, target.getSchedules().get(i));
+        addressBook.removePerson(target);
+        publishSnapshot();
+        if (!target.getSchedules().isEmpty()) {
             updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
         }
-        addressBook.removePerson(target);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        publishSnapshot();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public List<Person> addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        List<Person> added = addressBook.addPersons(persons);
+        publishSnapshot();
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return added;
     }
 
     @Override
     public void deleteSchedule(Schedule toDeleteSchedule) {
         addressBook.removeSchedule(toDeleteSchedule);
+        publishSnapshot();
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
     }
 
     @Override
     public void deleteSchedule(Person toDeleteParticipant, Schedule toDeleteSchedule) {
         addressBook.removeSchedule(toDeleteParticipant, toDeleteSchedule);
+        publishSnapshot();
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
     }
 
     @Override
-    public void addSchedulePeople(Schedule schedule, ArrayList<String> personName) {
-        if (addressBook.hasSchedule(schedule)) {
-            Schedule toEdit = addressBook.getSameSchedule(schedule);
-            for (String names : personName) {
-                if (!toEdit.getPersonList().contains(names)) {
-                    toEdit.getPersonList().add(names);
-                }
-            }
-            //toEdit.getPersonList().addAll(personName);
-        } else {
-            addressBook.addSchedule(schedule);
-            updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
-        }
+    public Schedule getSameSchedule(Schedule schedule) {
+        requireNonNull(schedule);
+        return addressBook.getSameSchedule(schedule);
+    }
+
+    @Override
+    public Set<Person> getPersonsMatching(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getPersonsMatching(predicate);
+    }
+
+    @Override
+    public List<Schedule> getSchedulesInRange(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getSchedulesInRange(from, to);
     }
 
     @Override
     public void addSchedule(Schedule schedule) {
         addressBook.addSchedule(schedule);
+        publishSnapshot();
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
     }
 
     @Override
-    public void addSchedule(Schedule schedule, ArrayList<Person> participantsList) {
+    public void addSchedule(Schedule schedule, List<Person> participantsList) {
         addressBook.addSchedule(schedule, participantsList);
+        publishSnapshot();
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        for (int i = 0; i < target.getSchedules().size(); i++) {
-            Schedule sched = target.getSchedules().get(0);
-            Schedule currentSched = new Schedule(sched.getSchedName(), sched.getStartTime(), sched.getEndTime(),
-                    sched.getPersonList());
-            ArrayList<String> curPersonList = (ArrayList<String>) currentSched.getPersonList().clone();
-            ArrayList<String> editPersonList = (ArrayList<String>) currentSched.getPersonList().clone();
-            editPersonList.remove(target.getName().toString());
-            editPersonList.add(editedPerson.getName().toString());
-            Schedule editSched = new Schedule(currentSched.getSchedName(), currentSched.getStartTime(),
-                    currentSched.getEndTime(), editPersonList);
-            System.out.println("person list: " + addressBook.getPersonList());
-            System.out.println("current schedule: " + currentSched);
-            System.out.println("editSched: " + editSched);
-            for (int personIndex = 0; personIndex < addressBook.getPersonList().size(); personIndex++) {
-                Person currentPerson = addressBook.getPersonList().get(personIndex);
-                if (currentPerson.equals(target)) {
-                    editedPerson.deleteSchedule(currentSched);
-                    editedPerson.addSchedule(editSched);
-                    currentPerson.deleteSchedule(currentSched);
-                    currentPerson.addSchedule(editSched);
-                    addressBook.setPerson(addressBook.getPersonList().get(personIndex), currentPerson);
-                } else if (curPersonList.contains(currentPerson.getName().toString())) {
-                    currentPerson.deleteSchedule(currentSched);
-                    currentPerson.addSchedule(editSched);
-                    addressBook.setPerson(addressBook.getPersonList().get(personIndex), currentPerson);
-                }
-            }
-            addressBook.setSchedule(currentSched, editSched);
+
+        addressBook.setPerson(target, editedPerson);
+        publishSnapshot();
+        if (!target.getSchedules().isEmpty()) {
             updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
         }
-        addressBook.setPerson(target, editedPerson);
     }
 
     @Override
@@ -201,6 +276,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedSchedule);
 
         addressBook.setSchedule(target, editedSchedule);
+        publishSnapshot();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -214,6 +290,16 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public Person getUnchangingCopy(Person person) {
+        return addressBook.getUnchangingCopy(person);
+    }
+
+    @Override
+    public Schedule getUnchangingCopy(Schedule schedule) {
+        return addressBook.getUnchangingCopy(schedule);
+    }
+
     @Override
     public ObservableList<Schedule> getFilteredScheduleList() {
         return filteredSchedules;
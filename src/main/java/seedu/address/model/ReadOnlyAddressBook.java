@@ -16,4 +16,9 @@ public interface ReadOnlyAddressBook {
     ObservableList<Person> getPersonList();
 
     ObservableList<Schedule> getScheduleList();
+
+    /**
+     * Returns the version of the contents of the address book, which changes whenever they do.
+     */
+    long getVersion();
 }
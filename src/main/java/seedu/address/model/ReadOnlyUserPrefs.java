@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SaveDurability;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,25 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DataFileFormat getDataFileFormat();
+
+    SaveDurability getSaveDurability();
+
+    /**
+     * Returns how long in milliseconds a change waits for those of the commands that follow it before it is written,
+     * when saving with {@link SaveDurability#GROUP_COMMIT}.
+     */
+    long getGroupCommitMillis();
+
+    /**
+     * Returns true if the address book file is written without line breaks and indentation, which makes it smaller
+     * and faster to write, but harder to edit by hand.
+     */
+    boolean isCompactDataFile();
+
+    /**
+     * Returns the number of commands that changed the address book which can be undone, most recent first.
+     */
+    int getUndoHistoryDepth();
+
 }
@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SaveDurability;
 
 /**
  * Represents User's preferences.
@@ -15,6 +18,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private SaveDurability saveDurability = SaveDurability.GROUP_COMMIT;
+    private long groupCommitMillis = 100;
+    private boolean compactDataFile = false;
+    private int undoHistoryDepth = 50;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setSaveDurability(newUserPrefs.getSaveDurability());
+        setGroupCommitMillis(newUserPrefs.getGroupCommitMillis());
+        setCompactDataFile(newUserPrefs.isCompactDataFile());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +69,50 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public SaveDurability getSaveDurability() {
+        return saveDurability;
+    }
+
+    public void setSaveDurability(SaveDurability saveDurability) {
+        requireNonNull(saveDurability);
+        this.saveDurability = saveDurability;
+    }
+
+    public long getGroupCommitMillis() {
+        return groupCommitMillis;
+    }
+
+    public void setGroupCommitMillis(long groupCommitMillis) {
+        checkArgument(groupCommitMillis >= 0, "Group commit window cannot be negative");
+        this.groupCommitMillis = groupCommitMillis;
+    }
+
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "Undo history depth cannot be negative");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +126,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && dataFileFormat == otherUserPrefs.dataFileFormat
+                && saveDurability == otherUserPrefs.saveDurability
+                && groupCommitMillis == otherUserPrefs.groupCommitMillis
+                && compactDataFile == otherUserPrefs.compactDataFile
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, dataFileFormat, saveDurability,
+                groupCommitMillis, compactDataFile, undoHistoryDepth);
     }
 
     @Override
@@ -82,6 +145,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + dataFileFormat);
+        sb.append("\nSave durability : " + saveDurability);
         return sb.toString();
     }
 
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isLineTerminator;
+import static seedu.address.commons.util.StringUtil.isRegexWhitespace;
 
 import java.util.Objects;
 
@@ -15,6 +17,7 @@ public class Address {
     /*
      * The first character of the address must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
+     * isValidAddress(String) accepts exactly the strings matched by this regex, in a single pass.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
@@ -39,7 +42,15 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's email in the address book.
@@ -29,6 +30,7 @@ public class Email {
             + "(-" + ALPHANUMERIC_NO_UNDERSCORE + ")*";
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
+    /** The strings accepted by {@link #isValidEmail(String)}, which checks them in a single pass. */
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
     public final String value;
@@ -48,7 +50,67 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        if (at == -1 || !isValidLocalPart(test, at)) {
+            return false;
+        }
+        int labelStart = at + 1;
+        for (int i = labelStart; i < test.length(); i++) {
+            if (test.charAt(i) == '.') {
+                if (!isValidDomainLabel(test, labelStart, i)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return isValidDomainLabel(test, labelStart, test.length())
+                && hasAdjacentAlphanumerics(test, labelStart, test.length());
+    }
+
+    /**
+     * Returns true if {@code test[0, end)} is alphanumeric runs separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        if (end == 0 || !isAsciiAlphanumeric(test.charAt(0)) || !isAsciiAlphanumeric(test.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = 1; i < end; i++) {
+            char c = test.charAt(i);
+            boolean isSeparator = SPECIAL_CHARACTERS.indexOf(c) != -1;
+            if (!isAsciiAlphanumeric(c) && !(isSeparator && isAsciiAlphanumeric(test.charAt(i - 1)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} is alphanumeric runs separated by single hyphens.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end) {
+        if (start == end || !isAsciiAlphanumeric(test.charAt(start)) || !isAsciiAlphanumeric(test.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && !(c == '-' && isAsciiAlphanumeric(test.charAt(i - 1)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} has two alphanumeric characters in a row, which the last domain label
+     * needs to be split into the two or more labels required by {@code DOMAIN_LAST_PART_REGEX}.
+     */
+    private static boolean hasAdjacentAlphanumerics(String test, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (isAsciiAlphanumeric(test.charAt(i)) && isAsciiAlphanumeric(test.charAt(i - 1))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -8,32 +10,53 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a person if it is contained, ignoring case, in the person's name, phone, address, email or tags.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
 
+    /**
+     * Constructs a predicate that matches persons against any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
+    }
+
+    public List<String> getLowerCaseKeywords() {
+        return Collections.unmodifiableList(lowerCaseKeywords);
     }
 
     @Override
     public boolean test(Person person) {
-        Predicate<String> personName = keyword ->
-                person.getName().toString().toLowerCase().contains(keyword.toLowerCase());
-        Predicate<String> personNumber = keyword ->
-                person.getPhone().toString().toLowerCase().contains(keyword.toLowerCase());
-        Predicate<String> personAddress = keyword ->
-                person.getAddress().toString().toLowerCase().contains(keyword.toLowerCase());
-        Predicate<String> personEmail = keyword ->
-                person.getEmail().toString().toLowerCase().contains(keyword.toLowerCase());
-        Predicate<String> personTag = keyword -> person.getTags().stream()
-                .map(tag -> tag.tagName).collect(Collectors.joining()).toLowerCase().contains(keyword.toLowerCase());
-
-        Predicate<String> combinedCondition = personName.or(personNumber)
-                .or(personAddress).or(personEmail).or(personTag);
-        return keywords.stream()
-                .anyMatch(combinedCondition);
+        List<String> searchableFields = getSearchableFields(person);
+        return lowerCaseKeywords.stream()
+                .anyMatch(keyword -> anyFieldContains(searchableFields, keyword));
+    }
+
+    /**
+     * Returns the lower-cased values of the fields of {@code person} that keywords are matched against.
+     * The tags are matched as one string, in the order they are iterated.
+     */
+    static List<String> getSearchableFields(Person person) {
+        String tags = person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining());
+        return Arrays.asList(person.getName().toString().toLowerCase(), person.getPhone().toString().toLowerCase(),
+                person.getAddress().toString().toLowerCase(), person.getEmail().toString().toLowerCase(),
+                tags.toLowerCase());
+    }
+
+    /**
+     * Returns true if any of {@code searchableFields} contains {@code lowerCaseKeyword}.
+     */
+    static boolean anyFieldContains(List<String> searchableFields, String lowerCaseKeyword) {
+        for (String field : searchableFields) {
+            if (field.contains(lowerCaseKeyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
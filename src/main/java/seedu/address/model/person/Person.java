@@ -3,8 +3,9 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -12,6 +13,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.tag.Interest;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Represents a Person in the address book.
@@ -19,6 +21,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // Surrogate identity, kept across edits
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -26,9 +31,9 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> allTags = new HashSet<>();
-    private final Set<Interest> interests = new HashSet<>();
-    private final Set<Tag> tags = new HashSet<>();
+    // Ids of the tags and interests in their TagDictionary
+    private final BitSet tagIds;
+    private final BitSet interestIds;
     private final ArrayList<Schedule> schedules = new ArrayList<>();
 
 
@@ -37,22 +42,7 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Set<Tag> tags, Set<Interest> interests,
         ArrayList<Schedule> schedules) {
-        requireAllNonNull(name, phone, email, tags);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = new Address("");
-        if (!tags.isEmpty()) {
-            this.tags.addAll(tags);
-            this.allTags.addAll(tags);
-        }
-        if (!interests.isEmpty()) {
-            this.interests.addAll(interests);
-            this.allTags.addAll(interests);
-        }
-        if (!schedules.isEmpty()) {
-            this.schedules.addAll(schedules);
-        }
+        this(PersonId.generate(), name, phone, email, new Address(""), tags, interests, schedules);
     }
 
     /**
@@ -60,24 +50,31 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address,
         Set<Tag> tags, Set<Interest> interests, ArrayList<Schedule> schedules) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(PersonId.generate(), name, phone, email, address, tags, interests, schedules);
+    }
+
+    /**
+     * Overloaded constructor for a person that already has an id, e.g. an edited or stored person.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address,
+        Set<Tag> tags, Set<Interest> interests, ArrayList<Schedule> schedules) {
+        requireAllNonNull(id, name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        if (!tags.isEmpty()) {
-            this.tags.addAll(tags);
-            this.allTags.addAll(tags);
-        }
-        if (!interests.isEmpty()) {
-            this.interests.addAll(interests);
-            this.allTags.addAll(interests);
-        }
+        this.tagIds = TagDictionary.TAGS.toIds(tags);
+        this.interestIds = TagDictionary.INTERESTS.toIds(interests);
         if (!schedules.isEmpty()) {
             this.schedules.addAll(schedules);
         }
     }
 
+    public PersonId getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -99,15 +96,33 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
+        Set<Tag> allTags = new LinkedHashSet<>(getTag());
+        allTags.addAll(getInterest());
         return Collections.unmodifiableSet(allTags);
     }
 
     public Set<Tag> getTag() {
-        return Collections.unmodifiableSet(tags);
+        return TagDictionary.TAGS.toTags(tagIds);
     }
 
     public Set<Interest> getInterest() {
-        return Collections.unmodifiableSet(interests);
+        return TagDictionary.INTERESTS.toTags(interestIds);
+    }
+
+    /**
+     * Returns the ids of the tags of this person in {@code TagDictionary#TAGS}.
+     * The returned set must not be modified.
+     */
+    BitSet getTagIds() {
+        return tagIds;
+    }
+
+    /**
+     * Returns the ids of the interests of this person in {@code TagDictionary#INTERESTS}.
+     * The returned set must not be modified.
+     */
+    BitSet getInterestIds() {
+        return interestIds;
     }
 
     public ArrayList<Schedule> getSchedules() {
@@ -179,14 +194,14 @@ public class Person {
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags)
+                && tagIds.equals(otherPerson.tagIds)
                 && schedules.equals(otherPerson.schedules);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return Objects.hash(name, phone, email, address, tagIds);
     }
 
     private String schedulesToString() {
@@ -212,7 +227,7 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("address", address)
-                .add("tags", tags)
+                .add("tags", getTag())
                 .add("schedules", schedules.toString())
                 .toString();
     }
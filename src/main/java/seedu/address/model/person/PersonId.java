@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isRegexWhitespace;
+
+import java.util.UUID;
+
+/**
+ * Represents the surrogate identifier of a Person in the address book.
+ * Unlike the name, phone and email, the identifier never changes when the person is edited, so it is what schedules
+ * and the storage use to refer to their participants.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person ids should be non-blank and contain no whitespace";
+    /** The strings accepted by {@link #isValidId(String)}, which checks them in a single pass. */
+    public static final String VALIDATION_REGEX = "\\S+";
+
+    public final String value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param id A valid id.
+     */
+    public PersonId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        value = id;
+    }
+
+    /**
+     * Returns a new id that is distinct from every other generated id.
+     */
+    public static PersonId generate() {
+        return new PersonId(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Returns true if a given string is a valid id.
+     */
+    public static boolean isValidId(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (isRegexWhitespace(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherId = (PersonId) other;
+        return value.equals(otherId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+}
@@ -0,0 +1,312 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index over the fields that {@code NameContainsKeywordsPredicate} matches keywords against, used to find
+ * the persons matching a keyword without testing every person.
+ * Every person is indexed under each run of {@link #GRAM_LENGTH} characters (trigram) in their lower-cased fields.
+ * A keyword can then only be contained in the fields of the persons indexed under every trigram of the keyword, so
+ * only the persons under its rarest trigram need to be checked. Keywords shorter than a trigram are checked against
+ * every person, using the lower-cased fields kept by the index.
+ *
+ * Each person is given a slot number when added, and each trigram keeps the slots of its persons in an array, in the
+ * order they were added, in a hash table of trigrams packed into numbers, as indexing a large address book adds every
+ * person under dozens of trigrams. Removing a
+ * person only frees their slot; the trigrams skip freed slots until enough of them are freed to be worth compacting.
+ */
+class PersonSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    /** Lower-cased searchable fields of each person instance in the index. */
+    private final Map<Person, Entry> entriesByPerson = new IdentityHashMap<>();
+    /** The slots of the persons indexed under each trigram in their searchable fields. */
+    private final GramTable slotsByGram = new GramTable();
+    /** The person in each slot, or null if the slot was freed. */
+    private Person[] persons = new Person[16];
+    private int slotCount;
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (slotCount == persons.length) {
+            persons = Arrays.copyOf(persons, slotCount * 2);
+        }
+        int slot = slotCount++;
+        List<String> fields = NameContainsKeywordsPredicate.getSearchableFields(person);
+        persons[slot] = person;
+        entriesByPerson.put(person, new Entry(slot, fields));
+        for (String field : fields) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                slotsByGram.getOrAdd(gramAt(field, i)).add(slot);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is in it.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Entry entry = entriesByPerson.remove(person);
+        if (entry == null) {
+            return;
+        }
+        persons[entry.slot] = null;
+        for (long gram : gramsOf(entry.fields)) {
+            Slots slots = slotsByGram.get(gram);
+            slots.freedCount++;
+            if (slots.freedCount == slots.size) {
+                slotsByGram.remove(gram);
+            } else if (slots.freedCount > slots.size / 2) {
+                slots.compact(persons);
+            }
+        }
+        if (slotCount - entriesByPerson.size() > Math.max(entriesByPerson.size(), persons.length / 4)) {
+            reindex();
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        entriesByPerson.clear();
+        slotsByGram.clear();
+        persons = new Person[16];
+        slotCount = 0;
+    }
+
+    /**
+     * Returns the person instances in the index that match {@code predicate}.
+     */
+    public Set<Person> find(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : predicate.getLowerCaseKeywords()) {
+            if (keyword.length() < GRAM_LENGTH) {
+                for (Map.Entry<Person, Entry> candidate : entriesByPerson.entrySet()) {
+                    if (NameContainsKeywordsPredicate.anyFieldContains(candidate.getValue().fields, keyword)) {
+                        matches.add(candidate.getKey());
+                    }
+                }
+                continue;
+            }
+
+            Slots candidates = getCandidates(keyword);
+            for (int i = 0; candidates != null && i < candidates.size; i++) {
+                Person candidate = persons[candidates.slots[i]];
+                if (candidate != null && !matches.contains(candidate) && NameContainsKeywordsPredicate
+                        .anyFieldContains(entriesByPerson.get(candidate).fields, keyword)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the slots of the persons that may contain {@code keyword}, which are those of every person whose fields
+     * contain its rarest trigram, or null if no person contains one of its trigrams.
+     */
+    private Slots getCandidates(String keyword) {
+        Slots candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            Slots slots = slotsByGram.get(gramAt(keyword, i));
+            if (slots == null) {
+                return null;
+            }
+            if (candidates == null || slots.liveSize() < candidates.liveSize()) {
+                candidates = slots;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Gives the persons in the index new slots, in the order of their current slots, so that no slot is left freed.
+     */
+    private void reindex() {
+        Person[] indexed = Arrays.copyOf(persons, slotCount);
+        clear();
+        for (Person person : indexed) {
+            if (person != null) {
+                add(person);
+            }
+        }
+    }
+
+    private static Set<Long> gramsOf(List<String> fields) {
+        Set<Long> grams = new HashSet<>();
+        for (String field : fields) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                grams.add(gramAt(field, i));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the trigram of {@code text} starting at {@code index}, as its characters packed into a number that is
+     * never 0.
+     */
+    private static long gramAt(String text, int index) {
+        return 1L << 48 | (long) text.charAt(index) << 32 | (long) text.charAt(index + 1) << 16
+                | text.charAt(index + 2);
+    }
+
+    /**
+     * The slot of a person in the index, and their lower-cased searchable fields.
+     */
+    private static class Entry {
+        private final int slot;
+        private final List<String> fields;
+
+        private Entry(int slot, List<String> fields) {
+            this.slot = slot;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * The slots of the persons under a trigram, in ascending order, some of which may have been freed.
+     */
+    private static class Slots {
+        private int[] slots = new int[4];
+        private int size;
+        private int freedCount;
+
+        /**
+         * Adds {@code slot}, which must not be lower than any slot already added, unless it was already the last added.
+         */
+        private void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        private int liveSize() {
+            return size - freedCount;
+        }
+
+        /**
+         * Drops the slots that hold no person in {@code persons}.
+         */
+        private void compact(Person[] persons) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (persons[slots[i]] != null) {
+                    slots[kept++] = slots[i];
+                }
+            }
+            size = kept;
+            freedCount = 0;
+        }
+    }
+
+    /**
+     * A hash table of the slots under each trigram, keyed by the trigram packed into a number, which looks trigrams up
+     * without creating a string or following a reference for each.
+     */
+    private static class GramTable {
+        private long[] keys = new long[64];
+        private Slots[] values = new Slots[64];
+        private int size;
+
+        /**
+         * Returns the slots under {@code gram}, or null if there are none.
+         */
+        private Slots get(long gram) {
+            return values[find(gram)];
+        }
+
+        /**
+         * Returns the slots under {@code gram}, which are added if there were none.
+         */
+        private Slots getOrAdd(long gram) {
+            int index = find(gram);
+            if (values[index] == null) {
+                if ((size + 1) * 2 > keys.length) {
+                    resize();
+                    index = find(gram);
+                }
+                keys[index] = gram;
+                values[index] = new Slots();
+                size++;
+            }
+            return values[index];
+        }
+
+        /**
+         * Removes the slots under {@code gram}, which must be in the table.
+         */
+        private void remove(long gram) {
+            int mask = keys.length - 1;
+            int index = find(gram);
+            // moves back every later key of the run that can no longer be reached past the emptied index
+            for (int next = (index + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+                int home = hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - index) & mask)) {
+                    keys[index] = keys[next];
+                    values[index] = values[next];
+                    index = next;
+                }
+            }
+            keys[index] = 0;
+            values[index] = null;
+            size--;
+        }
+
+        private void clear() {
+            keys = new long[64];
+            values = new Slots[64];
+            size = 0;
+        }
+
+        /**
+         * Returns the index of {@code gram} in the table, or of the empty index where it would be added.
+         */
+        private int find(long gram) {
+            int mask = keys.length - 1;
+            int index = hash(gram) & mask;
+            while (values[index] != null && keys[index] != gram) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Slots[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Slots[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    int index = find(oldKeys[i]);
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+
+        private static int hash(long gram) {
+            long hash = gram * 0x9E3779B97F4A7C15L;
+            return (int) (hash >>> 32);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -13,7 +14,10 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at 8 digits long "
                     + "and starts with either 6, 8 or 9";
+    /** The strings accepted by {@link #isValidPhone(String)}, which checks them in a single pass. */
     public static final String VALIDATION_REGEX = "[689]{1}\\d{7}";
+    private static final int LENGTH = 8;
+    private static final String FIRST_DIGITS = "689";
     public final String value;
 
     /**
@@ -31,7 +35,15 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != LENGTH || FIRST_DIGITS.indexOf(test.charAt(0)) == -1) {
+            return false;
+        }
+        for (int i = 1; i < LENGTH; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,131 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * Tests that a {@code Person}'s tags and interests satisfy every one of a list of {@code Clause}s.
+ * Each clause is resolved to a {@code BitSet} of tag ids once, so testing a person only intersects bitsets.
+ */
+public class TagFilterPredicate implements Predicate<Person> {
+    private final List<Clause> clauses;
+    private final List<BitSet> clauseIds = new ArrayList<>();
+
+    /**
+     * Constructs a predicate that matches the persons satisfying all of {@code clauses}.
+     */
+    public TagFilterPredicate(List<Clause> clauses) {
+        requireAllNonNull(clauses);
+        this.clauses = clauses;
+        for (Clause clause : clauses) {
+            clauseIds.add(clause.toIds());
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (int i = 0; i < clauses.size(); i++) {
+            Clause clause = clauses.get(i);
+            BitSet personIds = clause.isInterest ? person.getInterestIds() : person.getTagIds();
+            if (personIds.intersects(clauseIds.get(i)) == clause.isNegated) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagFilterPredicate)) {
+            return false;
+        }
+
+        TagFilterPredicate otherTagFilterPredicate = (TagFilterPredicate) other;
+        return clauses.equals(otherTagFilterPredicate.clauses);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+
+    /**
+     * A condition on the tags, or the interests, of a person: that they have any of the named tags,
+     * or if the clause is negated, that they have none of them.
+     */
+    public static class Clause {
+        private final boolean isInterest;
+        private final boolean isNegated;
+        private final List<String> tagNames;
+
+        /**
+         * Constructs a clause over the interests of a person if {@code isInterest} is true, or their tags otherwise.
+         */
+        public Clause(boolean isInterest, boolean isNegated, List<String> tagNames) {
+            requireAllNonNull(tagNames);
+            this.isInterest = isInterest;
+            this.isNegated = isNegated;
+            this.tagNames = Collections.unmodifiableList(new ArrayList<>(tagNames));
+        }
+
+        /**
+         * Returns the ids of the named tags. Names that no person has ever had are left out, as they match nobody.
+         */
+        private BitSet toIds() {
+            TagDictionary<?> dictionary = isInterest ? TagDictionary.INTERESTS : TagDictionary.TAGS;
+            BitSet ids = new BitSet();
+            for (String tagName : tagNames) {
+                int id = dictionary.getId(tagName);
+                if (id >= 0) {
+                    ids.set(id);
+                }
+            }
+            return ids;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Clause)) {
+                return false;
+            }
+
+            Clause otherClause = (Clause) other;
+            return isInterest == otherClause.isInterest
+                    && isNegated == otherClause.isNegated
+                    && tagNames.equals(otherClause.tagNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(isInterest, isNegated, tagNames);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("isInterest", isInterest)
+                    .add("isNegated", isNegated)
+                    .add("tagNames", tagNames)
+                    .toString();
+        }
+    }
+}
@@ -3,13 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.PersistentList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +27,84 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The identity keys used by {@code Person#isSamePerson(Person)} (name with phone, and name with email) are kept in
+ * hash indexes alongside the list, together with the position of every person in the list, so that lookups do not
+ * need to scan the list. Persons can also be looked up by their {@code PersonId}, which must be unique in the list.
+ * The fields searched by {@code NameContainsKeywordsPredicate} are kept in a {@code PersonSearchIndex} as well.
+ *
+ * Snapshots of the list can be taken, which hold copies of its persons that the list does not change. Only the persons
+ * added, replaced or marked as changed since the last snapshot are copied for the next, which otherwise shares the
+ * copies and most of the structure of the last.
+ *
+ * The changes made during a batch can be reverted, each by a record of how to undo it kept when it is made, so that
+ * reverting takes time in proportion to the changes rather than to the size of the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
+    /** The contents of {@code internalList} as of its last reported change, for views to observe. */
     private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            FXCollections.unmodifiableObservableList(BatchedObservableList.follow(internalList));
+
+    /** Persons keyed by their name and phone identity. */
+    private final Map<IdentityKey, Person> personsByPhoneKey = new HashMap<>();
+    /** Persons keyed by their name and email identity. */
+    private final Map<IdentityKey, Person> personsByEmailKey = new HashMap<>();
+    /** Persons keyed by their surrogate id. */
+    private final Map<PersonId, Person> personsById = new HashMap<>();
+    /** Position of each person instance in {@code internalList}. */
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+    /** Persons indexed by the fields that keywords are matched against. */
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    /**
+     * The persons of the list by position, as copies for those unchanged since the last snapshot, and as they are for
+     * those in {@code changedSinceSnapshot}.
+     */
+    private PersistentList<Person> snapshotList = PersistentList.empty();
+    private final Set<Person> changedSinceSnapshot = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Each undoes a change made in the batch in progress, or null if no batch is in progress. */
+    private List<Runnable> batchUndos;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return findSamePerson(toCheck) != null;
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, or null if there is none.
+     */
+    public Person getPersonById(PersonId id) {
+        requireNonNull(id);
+        return personsById.get(id);
+    }
+
+    /**
+     * Returns the position in the list of {@code person}, which must be an instance in the list.
+     */
+    public int getPosition(Person person) {
+        requireNonNull(person);
+        Integer position = positions.get(person);
+        if (position == null) {
+            throw new PersonNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Returns the persons in the list that match {@code predicate}.
+     */
+    public Set<Person> getPersonsMatching(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.find(predicate);
     }
 
     /**
@@ -42,46 +113,92 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || personsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        int position = internalList.size();
+        insert(position, toAdd);
+        recordUndo(() -> removeAt(position));
+    }
+
+    /**
+     * Adds the persons in {@code toAdd} that are not the same as a person already in the list, or as an earlier
+     * person in {@code toAdd}, and returns the persons added. The list is changed once, however many are added.
+     */
+    public List<Person> addAllAbsent(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        int firstPosition = internalList.size();
+        List<Person> added = new ArrayList<>();
+        for (Person person : toAdd) {
+            IdentityKey phoneKey = phoneKey(person);
+            IdentityKey emailKey = emailKey(person);
+            if (!personsByPhoneKey.containsKey(phoneKey) && !personsByEmailKey.containsKey(emailKey)
+                    && !personsById.containsKey(person.getId())) {
+                index(person, internalList.size() + added.size(), phoneKey, emailKey);
+                added.add(person);
+                changedSinceSnapshot.add(person);
+            }
+        }
+        if (snapshotList.size() == 0) {
+            // builds a balanced list at once, as when an address book is loaded
+            snapshotList = PersistentList.of(added);
+        } else {
+            for (Person person : added) {
+                snapshotList = snapshotList.plus(person);
+            }
+        }
+        internalList.addAll(added);
+        recordUndo(() -> {
+            for (int i = firstPosition + added.size() - 1; i >= firstPosition; i--) {
+                removeAt(i);
+            }
+        });
+        return added;
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the person {@code target} in the list with {@code editedPerson}, and returns the person replaced.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person existing = internalList.get(index);
+        Person sameId = personsById.get(editedPerson.getId());
+        if (isSamePersonAsOther(editedPerson, existing) || (sameId != null && sameId != existing)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        replace(index, editedPerson);
+        recordUndo(() -> replace(index, existing));
+        return existing;
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list, and returns the person removed.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = removeAt(index);
+        recordUndo(() -> insert(index, removed));
+        return removed;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
@@ -94,11 +211,91 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceAll(persons);
+    }
+
+    /**
+     * Marks {@code person}, if it is in the list, as changed in place, so that it is copied again for the next
+     * snapshot.
+     */
+    public void markChanged(Person person) {
+        requireNonNull(person);
+        if (positions.containsKey(person)) {
+            changedSinceSnapshot.add(person);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the list, made with {@code copier} copying the persons added, replaced or marked as changed
+     * since the last snapshot, in time proportional to their number and the logarithm of the size of the list.
+     */
+    public PersistentList<Person> takeSnapshot(UnaryOperator<Person> copier) {
+        requireNonNull(copier);
+        for (Person person : changedSinceSnapshot) {
+            snapshotList = snapshotList.with(positions.get(person), copier.apply(person));
+        }
+        changedSinceSnapshot.clear();
+        return snapshotList;
+    }
+
+    /**
+     * Returns the copy of {@code person} in the last snapshot, or null if the person instance is not in the list or has
+     * been changed since the snapshot was taken.
+     */
+    public Person getSnapshotCopy(Person person) {
+        requireNonNull(person);
+        Integer position = positions.get(person);
+        return position == null || changedSinceSnapshot.contains(person) ? null : snapshotList.get(position);
+    }
+
+    /**
+     * Makes {@code snapshot} the last snapshot of the list, which must have been taken of the list with the same
+     * contents as it has now, so that the next snapshot shares its copies.
+     */
+    public void restoreSnapshot(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        snapshotList = snapshot;
+        changedSinceSnapshot.clear();
+    }
+
+    /**
+     * Buffers the changes to the list until {@link #endBatch()}, which reports them to listeners as one change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+        batchUndos = new ArrayList<>();
+    }
+
+    /**
+     * Reports the changes to the list since {@link #beginBatch()} to listeners as one change.
+     */
+    public void endBatch() {
+        batchUndos = null;
+        internalList.endBatch();
+    }
+
+    /**
+     * Undoes the changes made to the list since {@link #beginBatch()}, most recent first, and leaves the batch open.
+     * The persons replaced or removed are put back as they are now, so any changes made to them in place must be
+     * undone separately.
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void revertBatch() {
+        if (batchUndos == null) {
+            throw new IllegalStateException("No batch of changes is in progress");
+        }
+        List<Runnable> undos = batchUndos;
+        // the undoing is not itself recorded
+        batchUndos = null;
+        for (int i = undos.size() - 1; i >= 0; i--) {
+            undos.get(i).run();
+        }
+        batchUndos = new ArrayList<>();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * While a batch is in progress, the returned list does not show the changes made in the batch.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -134,17 +331,180 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the person in the list with the same identity as {@code person}, or null if there is none.
+     */
+    private Person findSamePerson(Person person) {
+        Person samePhone = personsByPhoneKey.get(phoneKey(person));
+        return samePhone != null ? samePhone : personsByEmailKey.get(emailKey(person));
+    }
+
+    /**
+     * Returns true if a person other than {@code excluded} has the same identity as {@code person}.
+     */
+    private boolean isSamePersonAsOther(Person person, Person excluded) {
+        Person samePhone = personsByPhoneKey.get(phoneKey(person));
+        Person sameEmail = personsByEmailKey.get(emailKey(person));
+        return (samePhone != null && samePhone != excluded) || (sameEmail != null && sameEmail != excluded);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is none.
+     * A person equal to {@code person} always shares its name and phone, so at most one candidate is checked.
+     */
+    private int indexOf(Person person) {
+        Integer position = positions.get(person);
+        if (position != null) {
+            return position;
+        }
+        Person candidate = personsByPhoneKey.get(phoneKey(person));
+        return candidate != null && candidate.equals(person) ? positions.get(candidate) : -1;
+    }
+
+    /**
+     * Keeps {@code undo} to be run if the batch in progress, if any, is reverted.
+     */
+    private void recordUndo(Runnable undo) {
+        if (batchUndos != null) {
+            batchUndos.add(undo);
+        }
+    }
+
+    private void insert(int position, Person person) {
+        for (int i = position; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i + 1);
+        }
+        index(person, position);
+        internalList.add(position, person);
+        snapshotList = snapshotList.plus(position, person);
+        changedSinceSnapshot.add(person);
+    }
+
+    private void replace(int position, Person person) {
+        Person existing = internalList.get(position);
+        if (person != existing) {
+            unindex(existing);
+            index(person, position);
+        }
+        internalList.set(position, person);
+        snapshotList = snapshotList.with(position, person);
+        changedSinceSnapshot.remove(existing);
+        changedSinceSnapshot.add(person);
+    }
+
+    private Person removeAt(int position) {
+        Person removed = internalList.get(position);
+        unindex(removed);
+        for (int i = position + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i - 1);
+        }
+        internalList.remove(position);
+        snapshotList = snapshotList.minus(position);
+        changedSinceSnapshot.remove(removed);
+        return removed;
+    }
+
+    private void replaceAll(List<Person> persons) {
+        // only a batch that may be reverted needs a copy of the persons replaced
+        List<Person> replaced = batchUndos != null ? new ArrayList<>(internalList) : null;
+        reindex(persons);
+        internalList.setAll(persons);
+        resetSnapshotList();
+        recordUndo(() -> replaceAll(replaced));
+    }
+
+    private void index(Person person, int position) {
+        index(person, position, phoneKey(person), emailKey(person));
+    }
+
+    private void index(Person person, int position, IdentityKey phoneKey, IdentityKey emailKey) {
+        personsByPhoneKey.put(phoneKey, person);
+        personsByEmailKey.put(emailKey, person);
+        personsById.put(person.getId(), person);
+        positions.put(person, position);
+        searchIndex.add(person);
+    }
+
+    private void unindex(Person person) {
+        personsByPhoneKey.remove(phoneKey(person));
+        personsByEmailKey.remove(emailKey(person));
+        personsById.remove(person.getId());
+        positions.remove(person);
+        searchIndex.remove(person);
+    }
+
+    private void resetSnapshotList() {
+        snapshotList = PersistentList.of(internalList);
+        changedSinceSnapshot.clear();
+        changedSinceSnapshot.addAll(internalList);
+    }
+
+    private void reindex(List<Person> persons) {
+        personsByPhoneKey.clear();
+        personsByEmailKey.clear();
+        personsById.clear();
+        positions.clear();
+        searchIndex.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            index(persons.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Map<IdentityKey, Person> seenPhoneKeys = new HashMap<>();
+        Map<IdentityKey, Person> seenEmailKeys = new HashMap<>();
+        Map<PersonId, Person> seenIds = new HashMap<>();
+        for (Person person : persons) {
+            if (seenPhoneKeys.putIfAbsent(phoneKey(person), person) != null
+                    || seenEmailKeys.putIfAbsent(emailKey(person), person) != null
+                    || seenIds.putIfAbsent(person.getId(), person) != null) {
+                return false;
             }
         }
         return true;
     }
+
+    // Name and Email compare case-insensitively, so their keys are lower-cased to agree with isSamePerson.
+    private static IdentityKey phoneKey(Person person) {
+        return new IdentityKey(person.getName().fullName.toLowerCase(), person.getPhone().value);
+    }
+
+    private static IdentityKey emailKey(Person person) {
+        return new IdentityKey(person.getName().fullName.toLowerCase(), person.getEmail().value.toLowerCase());
+    }
+
+    /**
+     * A lower-cased name together with a phone or email, which identify a person.
+     * Its hash mixes the hashes of its two parts, as names and emails or phones that differ in the same few characters
+     * would otherwise collide far more often than strings made by joining the two.
+     */
+    private static final class IdentityKey {
+        private final String name;
+        private final String contact;
+
+        private IdentityKey(String name, String contact) {
+            this.name = name;
+            this.contact = contact;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            IdentityKey otherKey = (IdentityKey) other;
+            return name.equals(otherKey.name) && contact.equals(otherKey.contact);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 0x9E3779B9 + contact.hashCode();
+        }
+    }
 }
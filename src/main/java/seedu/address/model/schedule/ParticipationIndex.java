@@ -0,0 +1,138 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * A two-way index of which persons take part in which schedules.
+ * Persons are referred to by their {@code PersonId}, so the index does not need to change when a person is edited.
+ * Schedules are referred to by instance, as schedules are mutable and their participants change over time;
+ * callers are expected to always use the single instance held by the address book for each schedule.
+ */
+public class ParticipationIndex {
+
+    private static final int PERSON_SCHEDULES_EXPECTED = 2;
+
+    private final Map<PersonId, Set<Schedule>> schedulesByParticipant = new HashMap<>();
+    private final Map<Schedule, Set<PersonId>> participantsBySchedule = new IdentityHashMap<>();
+
+    /**
+     * Records that the person with {@code personId} takes part in {@code schedule}.
+     * Returns false if this was already recorded.
+     */
+    public boolean add(PersonId personId, Schedule schedule) {
+        requireAllNonNull(personId, schedule);
+        boolean isNew = schedulesByParticipant.computeIfAbsent(personId, id -> newScheduleSet()).add(schedule);
+        participantsBySchedule.computeIfAbsent(schedule, s -> new LinkedHashSet<>()).add(personId);
+        return isNew;
+    }
+
+    /**
+     * Records that the person with {@code personId} no longer takes part in {@code schedule}.
+     * Returns false if the person was not taking part in it.
+     */
+    public boolean remove(PersonId personId, Schedule schedule) {
+        requireAllNonNull(personId, schedule);
+        Set<Schedule> schedules = schedulesByParticipant.get(personId);
+        if (schedules == null || !schedules.remove(schedule)) {
+            return false;
+        }
+        if (schedules.isEmpty()) {
+            schedulesByParticipant.remove(personId);
+        }
+
+        Set<PersonId> participants = participantsBySchedule.get(schedule);
+        participants.remove(personId);
+        if (participants.isEmpty()) {
+            participantsBySchedule.remove(schedule);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the person with {@code personId} from every schedule they take part in,
+     * and returns those schedules.
+     */
+    public Set<Schedule> removeParticipant(PersonId personId) {
+        requireAllNonNull(personId);
+        Set<Schedule> schedules = schedulesByParticipant.remove(personId);
+        if (schedules == null) {
+            return Collections.emptySet();
+        }
+        for (Schedule schedule : schedules) {
+            Set<PersonId> participants = participantsBySchedule.get(schedule);
+            participants.remove(personId);
+            if (participants.isEmpty()) {
+                participantsBySchedule.remove(schedule);
+            }
+        }
+        return schedules;
+    }
+
+    /**
+     * Removes {@code schedule} from the index, and returns the ids of the persons who were taking part in it.
+     */
+    public Set<PersonId> removeSchedule(Schedule schedule) {
+        requireAllNonNull(schedule);
+        Set<PersonId> participants = participantsBySchedule.remove(schedule);
+        if (participants == null) {
+            return Collections.emptySet();
+        }
+        for (PersonId personId : participants) {
+            Set<Schedule> schedules = schedulesByParticipant.get(personId);
+            schedules.remove(schedule);
+            if (schedules.isEmpty()) {
+                schedulesByParticipant.remove(personId);
+            }
+        }
+        return participants;
+    }
+
+    /**
+     * Returns true if the person with {@code personId} takes part in {@code schedule}.
+     */
+    public boolean isParticipant(PersonId personId, Schedule schedule) {
+        requireAllNonNull(personId, schedule);
+        Set<Schedule> schedules = schedulesByParticipant.get(personId);
+        return schedules != null && schedules.contains(schedule);
+    }
+
+    /**
+     * Returns an unmodifiable view of the schedules the person with {@code personId} takes part in.
+     */
+    public Set<Schedule> getSchedules(PersonId personId) {
+        requireAllNonNull(personId);
+        Set<Schedule> schedules = schedulesByParticipant.get(personId);
+        return schedules == null ? Collections.emptySet() : Collections.unmodifiableSet(schedules);
+    }
+
+    /**
+     * Returns an unmodifiable view of the ids of the persons taking part in {@code schedule}.
+     */
+    public Set<PersonId> getParticipants(Schedule schedule) {
+        requireAllNonNull(schedule);
+        Set<PersonId> participants = participantsBySchedule.get(schedule);
+        return participants == null ? Collections.emptySet() : Collections.unmodifiableSet(participants);
+    }
+
+    /**
+     * Removes all participations from the index.
+     */
+    public void clear() {
+        schedulesByParticipant.clear();
+        participantsBySchedule.clear();
+    }
+
+    private static Set<Schedule> newScheduleSet() {
+        // most persons take part in few schedules, and every person in a large address book has a set
+        return Collections.newSetFromMap(new IdentityHashMap<>(PERSON_SCHEDULES_EXPECTED));
+    }
+}
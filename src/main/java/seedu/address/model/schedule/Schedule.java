@@ -1,6 +1,8 @@
 package seedu.address.model.schedule;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+import static seedu.address.commons.util.StringUtil.isRegexWhitespace;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -17,6 +19,10 @@ import java.util.Objects;
 public class Schedule {
 
     public static final String MESSAGE_CONSTRAINTS = "Schedule names should be alphanumeric";
+    /**
+     * The strings accepted by {@link #isValidSchedName(String)}. The nested quantifiers make a backtracking matcher
+     * take exponential time on a long run of letters that fails to match, so the name is checked by hand instead.
+     */
     public static final String VALIDATION_REGEX = "\\s?\\p{Alnum}+[\\s?\\p{Alnum}*]*";
     public static final String DATETIME_STRING = "yyyy-MM-dd HH:mm";
     public static final DateTimeFormatter CUSTOM_DATETIME = DateTimeFormatter.ofPattern(DATETIME_STRING);
@@ -26,6 +32,7 @@ public class Schedule {
     private final String schedName;
     private final LocalDateTime startTime;
     private final LocalDateTime endTime;
+    // Names of the participants; in an address book, derived from the persons taking part in the schedule
     private ArrayList<String> personList;
 
     /**
@@ -107,9 +114,16 @@ public class Schedule {
      */
     public void addParticipants(ArrayList<String> newParticipants) {
         for (String p: newParticipants) {
-            if (!personList.contains(p)) {
-                personList.add(p);
-            }
+            addParticipant(p);
+        }
+    }
+
+    /**
+     * Add a new person into personList if they are not added yet
+     */
+    public void addParticipant(String name) {
+        if (!personList.contains(name)) {
+            personList.add(name);
         }
     }
 
@@ -121,7 +135,17 @@ public class Schedule {
      * Returns true if a given string is a valid schedule name.
      */
     public static boolean isValidSchedName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int start = !test.isEmpty() && isRegexWhitespace(test.charAt(0)) ? 1 : 0;
+        if (start == test.length() || !isAsciiAlphanumeric(test.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && !isRegexWhitespace(c) && c != '?' && c != '*') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
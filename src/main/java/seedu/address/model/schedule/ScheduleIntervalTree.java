@@ -0,0 +1,181 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An interval tree over the time spans of schedules, used to answer "which schedules touch this window" queries
+ * without scanning every schedule.
+ * The tree is a height-balanced binary search tree ordered by start time, in which every node also records the
+ * latest end time found in its subtree, so that subtrees ending before a query window can be skipped entirely.
+ */
+class ScheduleIntervalTree {
+
+    /** Orders schedules by start time, breaking ties by the rest of their identity. */
+    private static final Comparator<Schedule> ORDER = Comparator.comparing(Schedule::getStartTime)
+            .thenComparing(Schedule::getEndTime)
+            .thenComparing(Schedule::getSchedName);
+
+    private Node root;
+
+    /**
+     * Adds {@code schedule} to the tree, replacing any schedule with the same identity.
+     */
+    public void add(Schedule schedule) {
+        requireNonNull(schedule);
+        root = insert(root, schedule);
+    }
+
+    /**
+     * Removes the schedule with the same identity as {@code schedule} from the tree, if there is one.
+     */
+    public void remove(Schedule schedule) {
+        requireNonNull(schedule);
+        root = delete(root, schedule);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the schedules that end no earlier than {@code from} and start before {@code to}, ordered by start time.
+     */
+    public List<Schedule> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Schedule> overlapping = new ArrayList<>();
+        collectOverlapping(root, from, to, overlapping);
+        return overlapping;
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to, List<Schedule> result) {
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, result);
+        if (!node.schedule.getStartTime().isBefore(to)) {
+            // Everything to the right starts even later.
+            return;
+        }
+        if (!node.schedule.getEndTime().isBefore(from)) {
+            result.add(node.schedule);
+        }
+        collectOverlapping(node.right, from, to, result);
+    }
+
+    private static Node insert(Node node, Schedule schedule) {
+        if (node == null) {
+            return new Node(schedule);
+        }
+
+        int comparison = ORDER.compare(schedule, node.schedule);
+        if (comparison < 0) {
+            node.left = insert(node.left, schedule);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, schedule);
+        } else {
+            node.schedule = schedule;
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, Schedule schedule) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = ORDER.compare(schedule, node.schedule);
+        if (comparison < 0) {
+            node.left = delete(node.left, schedule);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, schedule);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.schedule = successor.schedule;
+            node.right = delete(node.right, successor.schedule);
+        }
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, holding one schedule and the summary of its subtree.
+     */
+    private static class Node {
+        private Schedule schedule;
+        private Node left;
+        private Node right;
+        private int height;
+        private LocalDateTime maxEnd;
+
+        Node(Schedule schedule) {
+            this.schedule = schedule;
+            update();
+        }
+
+        /**
+         * Recomputes the height and latest end time of this subtree from its children.
+         */
+        void update() {
+            height = 1 + Math.max(height(left), height(right));
+            maxEnd = schedule.getEndTime();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -3,21 +3,40 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.PersistentList;
 
 /**
  * A list of schedules that enforces uniqueness between its elements and does not allow nulls.
- * A schedule is considered unique by comparing using {@code Person#isSamePerson(Person)}.
+ * A schedule is considered unique by comparing using {@code Schedule#isSameSchedule(Schedule)}.
  * As such, adding and updating of
- * persons uses Person#isSamePerson(Person) for equality so as to ensure that the person being added or updated is
- * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
- * as to ensure that the person with exactly the same fields will be removed.
+ * schedules uses Schedule#isSameSchedule(Schedule) for equality so as to ensure that the schedule being added or
+ * updated is unique in terms of identity in the UniqueScheduleList. However, the removal of a schedule uses
+ * Schedule#equals(Object) so as to ensure that the schedule with exactly the same fields will be removed.
+ *
+ * Schedules are registered in a hash index on their identity (name, start time and end time), together with their
+ * position in the list, so that lookups do not need to scan the list. They are also kept in an interval tree over
+ * their start and end times to answer time range queries.
+ *
+ * Snapshots of the list can be taken, which hold copies of its schedules that the list does not change, as for a
+ * {@code UniquePersonList}, and the changes made during a batch can be reverted in the same way.
  *
  * Supports a minimal set of list operations.
  *
@@ -25,39 +44,77 @@ import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
  */
 public class UniqueScheduleList implements Iterable<Schedule> {
 
-    private final ObservableList<Schedule> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Schedule> internalList = new BatchedObservableList<>();
+    /** The contents of {@code internalList} as of its last reported change, for views to observe. */
     private final ObservableList<Schedule> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            FXCollections.unmodifiableObservableList(BatchedObservableList.follow(internalList));
+
+    /** Schedules keyed by their identity. */
+    private final Map<Key, Schedule> schedulesByKey = new HashMap<>();
+    /** Position of each schedule instance in {@code internalList}. */
+    private final Map<Schedule, Integer> positions = new IdentityHashMap<>();
+    /** Schedules indexed by the time span they occupy. */
+    private final ScheduleIntervalTree timeIndex = new ScheduleIntervalTree();
+
+    /**
+     * The schedules of the list by position, as copies for those unchanged since the last snapshot, and as they are
+     * for those in {@code changedSinceSnapshot}.
+     */
+    private PersistentList<Schedule> snapshotList = PersistentList.empty();
+    private final Set<Schedule> changedSinceSnapshot = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Each undoes a change made in the batch in progress, or null if no batch is in progress. */
+    private List<Runnable> batchUndos;
 
     /**
-     * Returns true if the list contains an equivalent person as the given argument.
+     * Returns true if the list contains an equivalent schedule as the given argument.
      */
     public boolean contains(Schedule toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSchedule);
+        return schedulesByKey.containsKey(new Key(toCheck));
     }
 
     /**
-     * Adds a person to the list.
-     * The person must not already exist in the list.
+     * Returns the schedule in the list with the same identity as {@code schedule},
+     * or null if there is no such schedule.
+     */
+    public Schedule getSameSchedule(Schedule schedule) {
+        requireNonNull(schedule);
+        return schedulesByKey.get(new Key(schedule));
+    }
+
+    /**
+     * Returns the schedules that end no earlier than {@code from} and start before {@code to},
+     * ordered by start time.
+     */
+    public List<Schedule> getSchedulesInRange(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return timeIndex.findOverlapping(from, to);
+    }
+
+    /**
+     * Adds a schedule to the list.
+     * The schedule must not already exist in the list.
      */
     public void add(Schedule toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateScheduleException();
         }
-        internalList.add(toAdd);
+        int position = internalList.size();
+        insert(position, toAdd);
+        recordUndo(() -> removeAt(position));
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the schedule {@code target} in the list with {@code editedSchedule}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The schedule identity of {@code editedSchedule} must not be the same as another existing schedule in the list.
      */
     public void setSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ScheduleNotFoundException();
         }
@@ -66,26 +123,33 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
 
-        internalList.set(index, editedSchedule);
+        Schedule existing = replace(index, editedSchedule);
+        recordUndo(() -> replace(index, existing));
     }
 
     /**
-     * Removes the equivalent person from the list.
-     * The person must exist in the list.
+     * Removes the equivalent schedule from the list.
+     * Nothing is removed if the schedule does not exist in the list.
      */
     public void remove(Schedule toRemove) {
         requireNonNull(toRemove);
-        internalList.remove(toRemove);
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            return;
+        }
+
+        Schedule removed = removeAt(index);
+        recordUndo(() -> insert(index, removed));
     }
 
     public void setSchedules(UniqueScheduleList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * Replaces the contents of this list with {@code schedules}.
+     * {@code schedules} must not contain duplicate schedules.
      */
     public void setSchedules(List<Schedule> schedules) {
         requireAllNonNull(schedules);
@@ -93,11 +157,98 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
 
-        internalList.setAll(schedules);
+        replaceAll(schedules);
+    }
+
+    /**
+     * Marks {@code schedule}, if it is in the list, as changed in place, so that it is copied again for the next
+     * snapshot.
+     */
+    public void markChanged(Schedule schedule) {
+        requireNonNull(schedule);
+        if (positions.containsKey(schedule)) {
+            changedSinceSnapshot.add(schedule);
+        }
+    }
+
+    /**
+     * Returns the schedules added, replaced or marked as changed since the last snapshot.
+     */
+    public Set<Schedule> getChangedSinceSnapshot() {
+        return Collections.unmodifiableSet(changedSinceSnapshot);
+    }
+
+    /**
+     * Returns a snapshot of the list, made with {@code copier} copying the schedules added, replaced or marked as
+     * changed since the last snapshot, in time proportional to their number and the logarithm of the size of the list.
+     */
+    public PersistentList<Schedule> takeSnapshot(UnaryOperator<Schedule> copier) {
+        requireNonNull(copier);
+        for (Schedule schedule : changedSinceSnapshot) {
+            snapshotList = snapshotList.with(positions.get(schedule), copier.apply(schedule));
+        }
+        changedSinceSnapshot.clear();
+        return snapshotList;
+    }
+
+    /**
+     * Returns the copy of {@code schedule} in the last snapshot, or null if the schedule instance is not in the list.
+     * The list must not have changed since the snapshot was taken.
+     */
+    public Schedule getSnapshotCopy(Schedule schedule) {
+        requireNonNull(schedule);
+        Integer position = positions.get(schedule);
+        return position == null ? null : snapshotList.get(position);
+    }
+
+    /**
+     * Makes {@code snapshot} the last snapshot of the list, which must have been taken of the list with the same
+     * contents as it has now, so that the next snapshot shares its copies.
+     */
+    public void restoreSnapshot(PersistentList<Schedule> snapshot) {
+        requireNonNull(snapshot);
+        snapshotList = snapshot;
+        changedSinceSnapshot.clear();
+    }
+
+    /**
+     * Buffers the changes to the list until {@link #endBatch()}, which reports them to listeners as one change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+        batchUndos = new ArrayList<>();
+    }
+
+    /**
+     * Reports the changes to the list since {@link #beginBatch()} to listeners as one change.
+     */
+    public void endBatch() {
+        batchUndos = null;
+        internalList.endBatch();
+    }
+
+    /**
+     * Undoes the changes made to the list since {@link #beginBatch()}, most recent first, and leaves the batch open.
+     * The schedules replaced or removed are put back as they are now, so any changes made to their participants must
+     * be undone separately.
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void revertBatch() {
+        if (batchUndos == null) {
+            throw new IllegalStateException("No batch of changes is in progress");
+        }
+        List<Runnable> undos = batchUndos;
+        // the undoing is not itself recorded
+        batchUndos = null;
+        for (int i = undos.size() - 1; i >= 0; i--) {
+            undos.get(i).run();
+        }
+        batchUndos = new ArrayList<>();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * While a batch is in progress, the returned list does not show the changes made in the batch.
      */
     public ObservableList<Schedule> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -134,16 +285,139 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the schedule equal to {@code schedule}, or -1 if there is none.
+     * A schedule equal to {@code schedule} always has the same identity, so at most one candidate is checked.
+     */
+    private int indexOf(Schedule schedule) {
+        Schedule candidate = schedulesByKey.get(new Key(schedule));
+        return candidate != null && candidate.equals(schedule) ? positions.get(candidate) : -1;
+    }
+
+    /**
+     * Keeps {@code undo} to be run if the batch in progress, if any, is reverted.
+     */
+    private void recordUndo(Runnable undo) {
+        if (batchUndos != null) {
+            batchUndos.add(undo);
+        }
+    }
+
+    private void insert(int position, Schedule schedule) {
+        for (int i = position; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i + 1);
+        }
+        index(schedule, position);
+        internalList.add(position, schedule);
+        snapshotList = snapshotList.plus(position, schedule);
+        changedSinceSnapshot.add(schedule);
+    }
+
+    private Schedule replace(int position, Schedule schedule) {
+        Schedule existing = internalList.get(position);
+        changedSinceSnapshot.remove(existing);
+        unindex(existing);
+        index(schedule, position);
+        internalList.set(position, schedule);
+        snapshotList = snapshotList.with(position, schedule);
+        changedSinceSnapshot.add(schedule);
+        return existing;
+    }
+
+    private Schedule removeAt(int position) {
+        Schedule removed = internalList.get(position);
+        changedSinceSnapshot.remove(removed);
+        unindex(removed);
+        for (int i = position + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i - 1);
+        }
+        internalList.remove(position);
+        snapshotList = snapshotList.minus(position);
+        return removed;
+    }
+
+    private void replaceAll(List<Schedule> schedules) {
+        // only a batch that may be reverted needs a copy of the schedules replaced
+        List<Schedule> replaced = batchUndos != null ? new ArrayList<>(internalList) : null;
+        reindex(schedules);
+        internalList.setAll(schedules);
+        resetSnapshotList();
+        recordUndo(() -> replaceAll(replaced));
+    }
+
+    private void index(Schedule schedule, int position) {
+        schedulesByKey.put(new Key(schedule), schedule);
+        positions.put(schedule, position);
+        timeIndex.add(schedule);
+    }
+
+    private void unindex(Schedule schedule) {
+        schedulesByKey.remove(new Key(schedule));
+        positions.remove(schedule);
+        timeIndex.remove(schedule);
+    }
+
+    private void resetSnapshotList() {
+        snapshotList = PersistentList.of(internalList);
+        changedSinceSnapshot.clear();
+        changedSinceSnapshot.addAll(internalList);
+    }
+
+    private void reindex(List<Schedule> schedules) {
+        schedulesByKey.clear();
+        positions.clear();
+        timeIndex.clear();
+        for (int i = 0; i < schedules.size(); i++) {
+            index(schedules.get(i), i);
+        }
+    }
+
+    /**
+     * Returns true if {@code schedules} contains only unique schedules.
      */
     private boolean schedulesAreUnique(List<Schedule> schedules) {
-        for (int i = 0; i < schedules.size() - 1; i++) {
-            for (int j = i + 1; j < schedules.size(); j++) {
-                if (schedules.get(i).isSameSchedule(schedules.get(j))) {
-                    return false;
-                }
+        Set<Key> seenKeys = new HashSet<>();
+        for (Schedule schedule : schedules) {
+            if (!seenKeys.add(new Key(schedule))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * The identity of a schedule as defined by {@code Schedule#isSameSchedule(Schedule)}.
+     * Unlike the schedule itself, the key does not change when participants are added or removed.
+     */
+    private static final class Key {
+        private final String schedName;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+
+        Key(Schedule schedule) {
+            schedName = schedule.getSchedName();
+            startTime = schedule.getStartTime();
+            endTime = schedule.getEndTime();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key otherKey = (Key) other;
+            return schedName.equals(otherKey.schedName)
+                    && Objects.equals(startTime, otherKey.startTime)
+                    && Objects.equals(endTime, otherKey.endTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schedName, startTime, endTime);
+        }
+    }
 }
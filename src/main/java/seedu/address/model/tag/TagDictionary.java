@@ -0,0 +1,82 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Interns the distinct tags of one kind in the address book, giving each tag name a small integer id.
+ * A set of tags can then be held as a {@code BitSet} of ids, which shares a single instance of each tag and lets tag
+ * queries be answered with bitset operations.
+ * Ids are never reused, so the dictionary only grows, by one entry per distinct tag name ever seen.
+ */
+public class TagDictionary<T extends Tag> {
+
+    /** The dictionary of tags. */
+    public static final TagDictionary<Tag> TAGS = new TagDictionary<>(Tag::new);
+    /** The dictionary of interests. */
+    public static final TagDictionary<Interest> INTERESTS = new TagDictionary<>(Interest::new);
+
+    private final Function<String, T> factory;
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<T> tagsById = new ArrayList<>();
+
+    private TagDictionary(Function<String, T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the id of the tag named {@code tagName}, adding it to the dictionary if it is not in it yet.
+     */
+    public synchronized int intern(String tagName) {
+        requireNonNull(tagName);
+        Integer id = idsByName.get(tagName);
+        if (id == null) {
+            id = tagsById.size();
+            tagsById.add(factory.apply(tagName));
+            idsByName.put(tagName, id);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of the tag named {@code tagName}, or -1 if it is not in the dictionary.
+     */
+    public synchronized int getId(String tagName) {
+        requireNonNull(tagName);
+        return idsByName.getOrDefault(tagName, -1);
+    }
+
+    /**
+     * Returns the ids of {@code tags}, adding the tags missing from the dictionary.
+     */
+    public BitSet toIds(Collection<? extends Tag> tags) {
+        requireNonNull(tags);
+        BitSet ids = new BitSet();
+        for (Tag tag : tags) {
+            ids.set(intern(tag.tagName));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns an unmodifiable set of the tags with the given {@code ids}, in the order of their ids.
+     */
+    public synchronized Set<T> toTags(BitSet ids) {
+        requireNonNull(ids);
+        Set<T> tags = new LinkedHashSet<>();
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            tags.add(tagsById.get(id));
+        }
+        return Collections.unmodifiableSet(tags);
+    }
+}
@@ -0,0 +1,390 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+
+/**
+ * An observable array list whose modifications can be grouped into batches.
+ * The modifications made between {@link #beginBatch()} and {@link #endBatch()} are reported to listeners as one
+ * {@code Change} when the batch ends, instead of one {@code Change} per modification. While a batch is in progress, the
+ * list keeps the ranges it has modified, each with the elements it held before the batch, and merges every
+ * modification into them as it is made; the change reported replaces each range, so that a batch takes time in
+ * proportion to its modifications rather than to the size of the list. Elements set in place during the batch, even
+ * to themselves, are reported as replaced as well, so that views of them are refreshed when they have been changed in
+ * place.
+ *
+ * As the list itself is modified straight away, views that read it when they are told of a change, such as a
+ * {@code FilteredList}, should be built on a list that {@link #follow(ObservableList)}s it instead.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements;
+    /** The ranges modified by the batch in progress, in order, or null if no batch is in progress. */
+    private List<Range<E>> batchRanges;
+
+    public BatchedObservableList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Constructs a list backed by {@code elements}, which must be empty and not be modified by anything else.
+     */
+    BatchedObservableList(List<E> elements) {
+        this.elements = requireNonNull(elements);
+    }
+
+    /**
+     * Starts buffering the changes to this list until {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        if (isInBatch()) {
+            throw new IllegalStateException("A batch of changes is already in progress");
+        }
+        batchRanges = new ArrayList<>();
+    }
+
+    /**
+     * Reports the changes made since {@link #beginBatch()} to the listeners as a single {@code Change}.
+     */
+    public void endBatch() {
+        if (!isInBatch()) {
+            throw new IllegalStateException("No batch of changes is in progress");
+        }
+        List<Range<E>> ranges = batchRanges;
+        batchRanges = null;
+        if (ranges.isEmpty()) {
+            return;
+        }
+
+        // the ranges are in ascending order, so that each one's positions are those of the list as it is now
+        beginChange();
+        for (Range<E> range : ranges) {
+            int to = range.from + range.size;
+            if (range.removed.isEmpty()) {
+                nextAdd(range.from, to);
+            } else if (range.size == 0) {
+                nextRemove(range.from, range.removed);
+            } else {
+                nextReplace(range.from, to, range.removed);
+            }
+        }
+        endChange();
+    }
+
+    public boolean isInBatch() {
+        return batchRanges != null;
+    }
+
+    /**
+     * Records in the batch in progress that the {@code removedSize} elements from {@code from} are about to be
+     * replaced by {@code addedSize} elements, merging the ranges it touches or adjoins into one.
+     */
+    private void recordModification(int from, int removedSize, int addedSize) {
+        int to = from + removedSize;
+        // the first range that ends at or after from
+        int first = 0;
+        int last = batchRanges.size();
+        while (first < last) {
+            int middle = (first + last) >>> 1;
+            Range<E> range = batchRanges.get(middle);
+            if (range.from + range.size < from) {
+                first = middle + 1;
+            } else {
+                last = middle;
+            }
+        }
+        last = first;
+        while (last < batchRanges.size() && batchRanges.get(last).from <= to) {
+            last++;
+        }
+
+        int mergedFrom = first < last ? Math.min(from, batchRanges.get(first).from) : from;
+        int mergedTo = to;
+        List<E> removed = new ArrayList<>();
+        int position = mergedFrom;
+        for (Range<E> range : batchRanges.subList(first, last)) {
+            // the elements between the ranges have not been modified, so they are as they were before the batch
+            removed.addAll(elements.subList(position, range.from));
+            removed.addAll(range.removed);
+            position = range.from + range.size;
+            mergedTo = Math.max(mergedTo, position);
+        }
+        removed.addAll(elements.subList(position, Math.max(position, mergedTo)));
+
+        int sizeChange = addedSize - removedSize;
+        Range<E> merged = new Range<>(mergedFrom, mergedTo - mergedFrom + sizeChange, removed);
+        batchRanges.subList(first, last).clear();
+        for (int i = first; i < batchRanges.size(); i++) {
+            batchRanges.get(i).from += sizeChange;
+        }
+        if (merged.size > 0 || !merged.removed.isEmpty()) {
+            batchRanges.add(first, merged);
+        }
+    }
+
+    /**
+     * Returns a list that holds the elements of {@code source} as of the last change it reported to its listeners.
+     * Each change reported by {@code source}, however many modifications it combines, is applied to the returned
+     * list as a single change.
+     */
+    public static <E> ObservableList<E> follow(ObservableList<E> source) {
+        BatchedObservableList<E> follower = new BatchedObservableList<>();
+        follower.addAll(source);
+        source.addListener((ListChangeListener.Change<? extends E> change) -> {
+            follower.beginChange();
+            try {
+                while (change.next()) {
+                    int from = change.getFrom();
+                    if (change.wasPermutated()) {
+                        follower.subList(from, change.getTo()).clear();
+                        follower.addAll(from, source.subList(from, change.getTo()));
+                        continue;
+                    }
+                    if (change.wasRemoved()) {
+                        follower.subList(from, from + change.getRemovedSize()).clear();
+                    }
+                    if (change.wasAdded()) {
+                        follower.addAll(from, change.getAddedSubList());
+                    }
+                }
+            } finally {
+                follower.endChange();
+            }
+        });
+        return follower;
+    }
+
+    /**
+     * Returns a list that holds the elements of {@code source}, to which the changes {@code source} reports are applied
+     * later, by a task run with {@code executor}. The changes reported before the task runs are applied together as a
+     * single change, so that a list changed on one thread can be shown on another, such as the JavaFX application
+     * thread, without being read there while it changes, and without a task for every change.
+     *
+     * Must be called on the thread that changes {@code source}. Only the elements added by each change are copied, so
+     * following it takes time in proportion to the changes rather than to the size of the list.
+     */
+    public static <E> ObservableList<E> followLater(ObservableList<E> source, Executor executor) {
+        return followLater(source, UnaryOperator.identity(), executor);
+    }
+
+    /**
+     * Returns a list that follows {@code source} as {@link #followLater(ObservableList, Executor)} does, but holds
+     * {@code copier}'s copy of each element instead of the element itself. The copies are made on the thread that
+     * changes {@code source} when the element is added or reported as replaced, so that elements changed in place
+     * there are never read on the other thread.
+     */
+    public static <E> ObservableList<E> followLater(ObservableList<E> source, UnaryOperator<E> copier,
+            Executor executor) {
+        requireNonNull(copier);
+        requireNonNull(executor);
+        BatchedObservableList<E> follower = new BatchedObservableList<>();
+        follower.addAll(copyAll(source, copier));
+        List<Edit<E>> pendingEdits = new ArrayList<>();
+        source.addListener((ListChangeListener.Change<? extends E> change) -> {
+            List<Edit<E>> edits = new ArrayList<>();
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    edits.add(new Edit<>(from, change.getTo() - from,
+                            copyAll(source.subList(from, change.getTo()), copier)));
+                } else if (change.wasRemoved() || change.wasAdded()) {
+                    edits.add(new Edit<>(from, change.getRemovedSize(), copyAll(change.getAddedSubList(), copier)));
+                }
+            }
+            boolean isApplyQueued;
+            synchronized (pendingEdits) {
+                isApplyQueued = !pendingEdits.isEmpty();
+                pendingEdits.addAll(edits);
+            }
+            if (isApplyQueued || edits.isEmpty()) {
+                return;
+            }
+            executor.execute(() -> {
+                List<Edit<E>> batch;
+                synchronized (pendingEdits) {
+                    batch = new ArrayList<>(pendingEdits);
+                    pendingEdits.clear();
+                }
+                follower.beginChange();
+                try {
+                    for (Edit<E> edit : batch) {
+                        edit.applyTo(follower);
+                    }
+                } finally {
+                    follower.endChange();
+                }
+            });
+        });
+        return follower;
+    }
+
+    private static <E> List<E> copyAll(List<? extends E> elements, UnaryOperator<E> copier) {
+        List<E> copies = new ArrayList<>(elements.size());
+        for (E element : elements) {
+            copies.add(copier.apply(element));
+        }
+        return copies;
+    }
+
+    /**
+     * Inserts the elements at once, instead of one at a time, so that inserting them takes linear instead of
+     * quadratic time.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (c.isEmpty()) {
+            return false;
+        }
+        List<E> added = new ArrayList<>(c);
+        if (isInBatch()) {
+            recordModification(index, 0, added.size());
+            elements.addAll(index, added);
+            modCount++;
+            return true;
+        }
+        beginChange();
+        try {
+            elements.addAll(index, added);
+            nextAdd(index, index + added.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the elements in the range at once, instead of one at a time, so that clearing the list takes linear
+     * instead of quadratic time.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (isInBatch()) {
+            recordModification(fromIndex, toIndex - fromIndex, 0);
+            elements.subList(fromIndex, toIndex).clear();
+            modCount++;
+            return;
+        }
+        beginChange();
+        try {
+            List<E> removed = elements.subList(fromIndex, toIndex);
+            nextRemove(fromIndex, new ArrayList<>(removed));
+            removed.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (!isInBatch()) {
+            super.add(index, element);
+            return;
+        }
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        recordModification(index, 0, 1);
+        elements.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        if (!isInBatch()) {
+            return super.set(index, element);
+        }
+        Objects.checkIndex(index, size());
+        recordModification(index, 1, 1);
+        return elements.set(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        if (!isInBatch()) {
+            return super.remove(index);
+        }
+        Objects.checkIndex(index, size());
+        recordModification(index, 1, 0);
+        modCount++;
+        return elements.remove(index);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * A range of a list modified by a batch: the {@code size} elements from {@code from} that replaced the elements
+     * {@code removed} from it.
+     */
+    private static class Range<E> {
+        private int from;
+        private final int size;
+        private final List<E> removed;
+
+        Range(int from, int size, List<E> removed) {
+            this.from = from;
+            this.size = size;
+            this.removed = removed;
+        }
+    }
+
+    /**
+     * A change reported by a list, made by replacing {@code removedSize} elements from {@code from} with the copies of
+     * the elements added.
+     */
+    private static class Edit<E> {
+        private final int from;
+        private final int removedSize;
+        private final List<E> added;
+
+        Edit(int from, int removedSize, List<E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(List<E> list) {
+            if (removedSize > 0) {
+                list.subList(from, from + removedSize).clear();
+            }
+            list.addAll(from, added);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Sends read requests to a running {@code ApiServer} from several threads at once for a while, then prints how many
+ * were answered per second and how long they took.
+ *
+ * Run with the arguments {@code PORT TOKEN_FILE [PATH] [THREADS] [SECONDS]}, such as
+ * {@code 8080 data/addressbook.json.api-token /persons 4 10}.
+ */
+public class ApiLoadGenerator {
+
+    public static final String MESSAGE_RESULT = "%d reads in %.1f s with %d threads: %.0f reads/s,"
+            + " p50 %.2f ms, p99 %.2f ms, %d failed";
+
+    private final URI uri;
+    private final String token;
+    private final int threadCount;
+    private final Duration duration;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Constructs a generator of GET requests for {@code uri}, carrying {@code token}, from {@code threadCount} threads
+     * for {@code duration}.
+     */
+    public ApiLoadGenerator(URI uri, String token, int threadCount, Duration duration) {
+        this.uri = uri;
+        this.token = token;
+        this.threadCount = threadCount;
+        this.duration = duration;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.out.println("Usage: ApiLoadGenerator PORT TOKEN_FILE [PATH] [THREADS] [SECONDS]");
+            return;
+        }
+        int port = Integer.parseInt(args[0]);
+        String token = FileUtil.readFromFile(Paths.get(args[1])).trim();
+        String path = args.length > 2 ? args[2] : "/persons";
+        int threadCount = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+        URI uri = URI.create("http://127.0.0.1:" + port + path);
+        System.out.println(new ApiLoadGenerator(uri, token, threadCount, Duration.ofSeconds(seconds)).run());
+    }
+
+    /**
+     * Sends requests until the duration has passed, and returns a summary of how they were answered.
+     */
+    public Result run() throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token).GET().build();
+        long startTime = System.nanoTime();
+        long endTime = startTime + duration.toNanos();
+        AtomicInteger failedCount = new AtomicInteger();
+        List<long[]> latenciesByThread = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            List<Long> latencies = new ArrayList<>();
+            Thread thread = new Thread(() -> {
+                while (System.nanoTime() < endTime) {
+                    long requestStartTime = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failedCount.incrementAndGet();
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        failedCount.incrementAndGet();
+                        continue;
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    latencies.add(System.nanoTime() - requestStartTime);
+                }
+                synchronized (latenciesByThread) {
+                    latenciesByThread.add(latencies.stream().mapToLong(Long::longValue).toArray());
+                }
+            }, "api-load-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        long[] latencies = latenciesByThread.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(latencies, elapsed, threadCount, failedCount.get());
+    }
+
+    /**
+     * The requests answered by a run of an {@code ApiLoadGenerator}, and how long they took.
+     */
+    public static class Result {
+        private final long[] sortedLatencies;
+        private final long elapsedNanos;
+        private final int threadCount;
+        private final int failedCount;
+
+        Result(long[] sortedLatencies, long elapsedNanos, int threadCount, int failedCount) {
+            this.sortedLatencies = sortedLatencies;
+            this.elapsedNanos = elapsedNanos;
+            this.threadCount = threadCount;
+            this.failedCount = failedCount;
+        }
+
+        public int getReadCount() {
+            return sortedLatencies.length;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public double getReadsPerSecond() {
+            return sortedLatencies.length / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Returns the time, in milliseconds, within which {@code percent} percent of the requests were answered.
+         */
+        public double getLatencyPercentileMillis(double percent) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percent / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_RESULT, getReadCount(), elapsedNanos / 1e9, threadCount,
+                    getReadsPerSecond(), getLatencyPercentileMillis(50), getLatencyPercentileMillis(99),
+                    failedCount);
+        }
+    }
+}
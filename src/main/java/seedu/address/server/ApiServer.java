@@ -0,0 +1,337 @@
+package seedu.address.server;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Serves the address book to other programs on the same computer as JSON over HTTP, on the loopback address only.
+ *
+ * <ul>
+ * <li>{@code GET /persons}, or {@code GET /persons?keywords=KEYWORDS}, lists every person, or those the
+ * {@code find} command would find with the keywords.</li>
+ * <li>{@code GET /schedules?from=START&to=END} lists the schedules in a time range, given as
+ * {@code 2024-01-31T10:00}.</li>
+ * <li>{@code POST /commands} executes the command in the request body, as if it were entered in the window.</li>
+ * </ul>
+ *
+ * Only requests to the loopback address by name, with no {@code Origin} header, are answered, so that web pages cannot
+ * send requests to the server, even through a host name that resolves to the loopback address. Each request must
+ * also carry the token written to the token file while the server runs, as {@code Authorization: Bearer TOKEN}, which
+ * only programs that can read the files of the user have.
+ *
+ * Reads are answered by a pool of threads at once, from the snapshot of the address book last published by the model,
+ * without waiting for the model's thread. The views of the persons sent in responses are only made again for the
+ * persons changed in a new snapshot. Commands are run by the model's executor, one at a time.
+ */
+public class ApiServer {
+
+    public static final String TOKEN_FILE_SUFFIX = ".api-token";
+    public static final String MESSAGE_FORBIDDEN = "Only requests to the loopback address, not from web pages,"
+            + " are answered.";
+    public static final String MESSAGE_UNAUTHORIZED = "Send the token in %1$s as \"Authorization: Bearer TOKEN\".";
+    public static final String MESSAGE_LOADING = "The address book is still loading.";
+    public static final String MESSAGE_NOT_FOUND = "Unknown endpoint: %1$s %2$s";
+    public static final String MESSAGE_INVALID_RANGE = "Give the time range as from=START&to=END,"
+            + " such as from=2024-01-31T10:00&to=2024-01-31T12:00.";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("127.0.0.1", "localhost", "[::1]");
+    private static final int TOKEN_BYTES = 32;
+
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final Path tokenFile;
+    private final byte[] expectedAuthorization;
+    private final HttpServer server;
+    private final ExecutorService readers;
+    private volatile ModelSnapshot snapshot;
+
+    /**
+     * Constructs a server of the model of {@code logic}, which is only changed by tasks run by {@code modelExecutor},
+     * on {@code port} of the loopback address, or any free port if it is 0, with a new token written to
+     * {@code tokenFile} until the server is stopped.
+     * @throws IOException if the port cannot be bound or the token file cannot be written.
+     */
+    public ApiServer(Logic logic, Executor modelExecutor, int port, Path tokenFile) throws IOException {
+        requireAllNonNull(logic, modelExecutor, tokenFile);
+        this.logic = logic;
+        this.modelExecutor = modelExecutor;
+        this.tokenFile = tokenFile;
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+        expectedAuthorization = ("Bearer " + token).getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger readerCount = new AtomicInteger();
+        readers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+            Thread thread = new Thread(task, "api-reader-" + readerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(readers);
+        server.createContext("/persons", exchange -> handle(exchange, "GET", this::getPersons));
+        server.createContext("/schedules", exchange -> handle(exchange, "GET", this::getSchedules));
+        server.createContext("/commands", exchange -> handle(exchange, "POST", this::executeCommand));
+        writeToken(tokenFile, token);
+    }
+
+    /**
+     * Returns the path of the token file of a server of the address book in {@code addressBookFilePath}, next to it.
+     */
+    public static Path getTokenFilePath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + TOKEN_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes {@code token} to {@code tokenFile}, readable by its owner only where the file system allows.
+     */
+    private static void writeToken(Path tokenFile, String token) throws IOException {
+        FileUtil.createParentDirsOfFile(tokenFile);
+        Files.deleteIfExists(tokenFile);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(
+                    PosixFilePermissions.fromString("rw-------")));
+        }
+        FileUtil.writeToFile(tokenFile, token);
+    }
+
+    /**
+     * Starts answering requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the address book at http://" + server.getAddress().getHostString() + ":" + getPort()
+                + ", with the token in " + tokenFile);
+    }
+
+    /**
+     * Stops answering requests, waiting at most a second for those being answered, and deletes the token file.
+     */
+    public void stop() {
+        server.stop(1);
+        readers.shutdownNow();
+        try {
+            Files.deleteIfExists(tokenFile);
+        } catch (IOException e) {
+            logger.warning("Failed to delete " + tokenFile + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the views of the last snapshot published by the model, making them if they have not been made yet.
+     */
+    ModelSnapshot getSnapshot() {
+        ReadOnlyAddressBook published = logic.getAddressBookSnapshot();
+        ModelSnapshot current = snapshot;
+        if (current != null && current.getVersion() == published.getVersion()) {
+            return current;
+        }
+        synchronized (this) {
+            // another reader may have made the views while this one waited
+            if (snapshot == null || snapshot.getVersion() != published.getVersion()) {
+                snapshot = ModelSnapshot.of(published, snapshot);
+            }
+            return snapshot;
+        }
+    }
+
+    private Object getPersons(HttpExchange exchange) {
+        String keywords = getQueryParameters(exchange).get("keywords");
+        ModelSnapshot current = getSnapshot();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("persons", keywords == null ? current.getPersons()
+                : current.findPersons(Arrays.asList(keywords.trim().split("\\s+"))));
+        return response;
+    }
+
+    private Object getSchedules(HttpExchange exchange) throws BadRequestException {
+        Map<String, String> parameters = getQueryParameters(exchange);
+        LocalDateTime from;
+        LocalDateTime to;
+        try {
+            from = LocalDateTime.parse(parameters.getOrDefault("from", ""));
+            to = LocalDateTime.parse(parameters.getOrDefault("to", ""));
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(MESSAGE_INVALID_RANGE);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("schedules", getSnapshot().getSchedulesInRange(from, to));
+        return response;
+    }
+
+    private Object executeCommand(HttpExchange exchange) throws IOException, BadRequestException {
+        String commandText;
+        try (InputStream body = exchange.getRequestBody()) {
+            commandText = new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        CommandResult commandResult;
+        try {
+            commandResult = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    throw new CompletionException(e);
+                }
+            }, modelExecutor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException || e.getCause() instanceof ParseException) {
+                throw new BadRequestException(e.getCause().getMessage());
+            }
+            throw e;
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("feedback", commandResult.getFeedbackToUser());
+        return response;
+    }
+
+    /**
+     * Answers {@code exchange} with the JSON of the response returned by {@code handler}, if it is an allowed request
+     * with {@code method}, or else with an error.
+     */
+    private void handle(HttpExchange exchange, String method, Handler handler) throws IOException {
+        int status = 200;
+        Object response;
+        try {
+            if (!isFromLoopback(exchange)) {
+                status = 403;
+                response = toError(MESSAGE_FORBIDDEN);
+            } else if (!isAuthorized(exchange)) {
+                status = 401;
+                response = toError(String.format(MESSAGE_UNAUTHORIZED, tokenFile));
+            } else if (!exchange.getRequestMethod().equals(method)) {
+                status = 404;
+                response = toError(String.format(MESSAGE_NOT_FOUND, exchange.getRequestMethod(),
+                        exchange.getRequestURI().getPath()));
+            } else if (logic.isLoading()) {
+                status = 503;
+                response = toError(MESSAGE_LOADING);
+            } else {
+                response = handler.handle(exchange);
+            }
+        } catch (BadRequestException e) {
+            status = 400;
+            response = toError(e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warning("Failed to answer " + exchange.getRequestURI() + ": " + e);
+            status = 500;
+            response = toError(e.toString());
+        }
+
+        byte[] body = JsonUtil.toJsonLine(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Returns true if {@code exchange} was sent to the loopback address by name, and not by a web page, which sends
+     * the {@code Origin} of the page with every request that could change the address book.
+     */
+    private static boolean isFromLoopback(HttpExchange exchange) {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            return false;
+        }
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null) {
+            return false;
+        }
+        int portIndex = host.lastIndexOf(':');
+        if (portIndex > host.lastIndexOf(']')) {
+            host = host.substring(0, portIndex);
+        }
+        return LOOPBACK_HOSTS.contains(host.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        return authorization != null
+                && MessageDigest.isEqual(expectedAuthorization, authorization.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Object> toError(String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("error", message);
+        return error;
+    }
+
+    private static Map<String, String> getQueryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            if (separatorIndex > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, separatorIndex), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separatorIndex + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Returns the response to a request, which is written as JSON.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(HttpExchange exchange) throws IOException, BadRequestException;
+    }
+
+    /**
+     * Signals that a request is invalid, with a message for the program that sent it.
+     */
+    private static class BadRequestException extends Exception {
+        BadRequestException(String message) {
+            super(message);
+        }
+    }
+}
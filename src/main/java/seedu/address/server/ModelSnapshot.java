@@ -0,0 +1,170 @@
+package seedu.address.server;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The persons and schedules of a snapshot of an address book, which any number of threads may read at once. The views
+ * of the persons that are sent in responses are made when every person is first listed, reusing those of the snapshot
+ * before for the persons unchanged since then.
+ */
+class ModelSnapshot {
+
+    private final long version;
+    private final List<Person> persons;
+    private final List<Schedule> schedules;
+    private volatile List<Map<String, Object>> personViews;
+    /** The persons of an earlier snapshot and their views, to reuse when making the views, guarded by this. */
+    private List<Person> reusablePersons;
+    private List<Map<String, Object>> reusableViews;
+
+    private ModelSnapshot(long version, List<Person> persons, List<Schedule> schedules) {
+        this.version = version;
+        this.persons = persons;
+        this.schedules = schedules;
+    }
+
+    /**
+     * Returns the views of {@code addressBook}, which must not change, such as a snapshot published by the model.
+     * The views made of {@code previous}, if not null, are reused for the persons that it shares with
+     * {@code addressBook}.
+     */
+    static ModelSnapshot of(ReadOnlyAddressBook addressBook, ModelSnapshot previous) {
+        List<Schedule> schedules = new ArrayList<>(addressBook.getScheduleList());
+        schedules.sort(Comparator.comparing(Schedule::getStartTime));
+        // the persons of a snapshot published by the model are shared with it rather than copied
+        List<Person> persons = addressBook instanceof AddressBookSnapshot
+                ? ((AddressBookSnapshot) addressBook).getPersons()
+                : Collections.unmodifiableList(new ArrayList<>(addressBook.getPersonList()));
+        ModelSnapshot snapshot = new ModelSnapshot(addressBook.getVersion(), persons,
+                Collections.unmodifiableList(schedules));
+        if (previous != null) {
+            synchronized (previous) {
+                // only the latest views made are kept, so that a snapshot never holds on to a chain of earlier ones
+                boolean isMade = previous.personViews != null;
+                snapshot.reusablePersons = isMade ? previous.persons : previous.reusablePersons;
+                snapshot.reusableViews = isMade ? previous.personViews : previous.reusableViews;
+            }
+        }
+        return snapshot;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the views of every person, in order, making them if they have not been made yet.
+     */
+    List<Map<String, Object>> getPersons() {
+        List<Map<String, Object>> views = personViews;
+        if (views != null) {
+            return views;
+        }
+        synchronized (this) {
+            if (personViews == null) {
+                personViews = makePersonViews();
+                reusablePersons = null;
+                reusableViews = null;
+            }
+            return personViews;
+        }
+    }
+
+    private List<Map<String, Object>> makePersonViews() {
+        Map<Person, Map<String, Object>> viewsByPerson = new IdentityHashMap<>();
+        if (reusablePersons != null) {
+            Iterator<Map<String, Object>> reusableView = reusableViews.iterator();
+            for (Person person : reusablePersons) {
+                viewsByPerson.put(person, reusableView.next());
+            }
+        }
+        List<Map<String, Object>> views = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Map<String, Object> view = viewsByPerson.get(person);
+            views.add(view != null ? view : toView(person));
+        }
+        return Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Returns the views of the persons matched by the {@code find} command with {@code keywords}, in order, making
+     * only those of the persons found if the views of every person have not been made yet.
+     */
+    List<Map<String, Object>> findPersons(List<String> keywords) {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        List<Map<String, Object>> views = personViews;
+        List<Map<String, Object>> found = new ArrayList<>();
+        int index = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                found.add(views != null ? views.get(index) : toView(person));
+            }
+            index++;
+        }
+        return found;
+    }
+
+    /**
+     * Returns the views of the schedules that end no earlier than {@code from} and start before {@code to}, ordered
+     * by start time, as {@code Model#getSchedulesInRange} does.
+     */
+    List<Map<String, Object>> getSchedulesInRange(LocalDateTime from, LocalDateTime to) {
+        List<Map<String, Object>> found = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            if (!schedule.getStartTime().isBefore(to)) {
+                break;
+            }
+            if (!schedule.getEndTime().isBefore(from)) {
+                found.add(toView(schedule));
+            }
+        }
+        return found;
+    }
+
+    private static Map<String, Object> toView(Person person) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", person.getId().value);
+        view.put("name", person.getName().fullName);
+        view.put("phone", person.getPhone().value);
+        view.put("email", person.getEmail().value);
+        view.put("address", person.getAddress().value);
+        view.put("tags", toNames(person.getTag()));
+        view.put("interests", toNames(person.getInterest()));
+        view.put("schedules", person.getSchedules().stream().map(Schedule::getSchedName)
+                .collect(Collectors.toList()));
+        return view;
+    }
+
+    private static Map<String, Object> toView(Schedule schedule) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("name", schedule.getSchedName());
+        view.put("start", schedule.getStartTime().toString());
+        view.put("end", schedule.getEndTime().toString());
+        view.put("participants", schedule.getPersonList());
+        return view;
+    }
+
+    private static List<String> toNames(Iterable<? extends Tag> tags) {
+        List<String> names = new ArrayList<>();
+        for (Tag tag : tags) {
+            names.add(tag.tagName);
+        }
+        return names;
+    }
+}
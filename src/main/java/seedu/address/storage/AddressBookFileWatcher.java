@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches a data file for changes made by other programs, calling a handler once each change has settled.
+ *
+ * Changes are told apart from the writes of this program by a stamp of the file's identity, size and time of last
+ * modification, which is recorded whenever this program writes the file.
+ */
+class AddressBookFileWatcher implements Closeable {
+
+    /** How long the data file must be left unchanged before a change to it is handled. */
+    static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileWatcher.class);
+
+    private final Path filePath;
+    private final Runnable changeHandler;
+    private final WatchService watchService;
+    /** The stamp of the data file when it was last written by this program, or handled as changed. */
+    private String knownStamp;
+
+    /**
+     * Starts watching the data file at {@code filePath}, calling {@code changeHandler} on the watching thread when it
+     * is changed by another program.
+     */
+    AddressBookFileWatcher(Path filePath, Runnable changeHandler) throws IOException {
+        this.filePath = requireNonNull(filePath).toAbsolutePath();
+        this.changeHandler = requireNonNull(changeHandler);
+        Path directory = this.filePath.getParent();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+        knownStamp = readStamp();
+
+        Thread thread = new Thread(this::watch, "address-book-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Records that the data file at {@code writtenPath} has just been written by this program.
+     */
+    synchronized void recordWrite(Path writtenPath) {
+        if (filePath.equals(writtenPath.toAbsolutePath())) {
+            knownStamp = readStamp();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!hasDataFileEvent(watchService.take())) {
+                    continue;
+                }
+                // wait for the other program to finish writing the file
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    hasDataFileEvent(key);
+                }
+                if (isChangedByOthers()) {
+                    logger.info("Data file " + filePath + " was changed by another program.");
+                    changeHandler.run();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching data file " + filePath);
+        }
+    }
+
+    /**
+     * Returns true if {@code key} has an event that may be of the data file, then resets it.
+     */
+    private boolean hasDataFileEvent(WatchKey key) {
+        boolean hasDataFileEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            hasDataFileEvent |= event.kind() == OVERFLOW
+                    || filePath.getFileName().equals(event.context());
+        }
+        key.reset();
+        return hasDataFileEvent;
+    }
+
+    /**
+     * Returns true, and records the data file's stamp, if it differs from the one last recorded.
+     */
+    private synchronized boolean isChangedByOthers() {
+        String stamp = readStamp();
+        if (Objects.equals(stamp, knownStamp)) {
+            return false;
+        }
+        knownStamp = stamp;
+        return stamp != null;
+    }
+
+    /**
+     * Returns the stamp of the data file, or null if there is none.
+     */
+    private String readStamp() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return attributes.fileKey() + "/" + attributes.size() + "/" + attributes.lastModifiedTime().toMillis();
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warning("Failed to read the attributes of data file " + filePath + ": " + e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChange;
+
+/**
+ * An append-only log of the changes made to an address book since its data file was written, kept in segment files
+ * next to the data file.
+ *
+ * Each line of a segment is a {@code JsonAdaptedAddressBookChange}, numbered one more than the change before it, and
+ * each segment is named after the sequence number of its first change and the checksum of the data file it continues.
+ * Only the segments that continue the data file being read are replayed on top of it, so that the changes left over
+ * from a data file replaced by another program are not applied to the new one; segments written before checksums
+ * were kept in their names are taken to continue any data file. Appending a change forces it to the storage
+ * device before returning, so a change is never lost once its command has completed; a crash while appending can
+ * only leave the last line of a segment incomplete, and such a line is ignored when the journal is read.
+ *
+ * Changes are numbered by {@link #nextEntry(AddressBookChange)} on the thread making them, and their entries may be
+ * written later by {@link #write(long, String)} on another thread, which is then the only one to write the segments.
+ */
+class AddressBookJournal {
+
+    public static final String MESSAGE_MISSING_ENTRIES = "Journal is missing the changes after change %1$d.";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry at line %1$d of %2$s is invalid: %3$s";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+    private static final String SEGMENT_INFIX = ".journal.";
+
+    private final Path dataFilePath;
+    private long lastSequence;
+    /** The checksum of the data file that the entries written continue, or null if it is not known yet. */
+    private volatile String dataFileChecksum;
+    private FileChannel segment;
+
+    /**
+     * Constructs the journal of the data file at {@code dataFilePath}.
+     */
+    AddressBookJournal(Path dataFilePath) {
+        this.dataFilePath = requireNonNull(dataFilePath);
+    }
+
+    /**
+     * Returns the sequence number of the last change numbered by or read from the journal.
+     */
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Numbers {@code change} one more than the last change, and returns its journal entry.
+     */
+    String nextEntry(AddressBookChange change) throws IOException {
+        requireNonNull(change);
+        String entry = JsonUtil.toJsonLine(new JsonAdaptedAddressBookChange(lastSequence + 1, change)) + "\n";
+        lastSequence++;
+        return entry;
+    }
+
+    /**
+     * Appends {@code entries}, the first of which is numbered {@code firstSequence}, to the journal, and forces them
+     * to the storage device.
+     */
+    void write(long firstSequence, String entries) throws IOException {
+        requireNonNull(entries);
+        if (segment == null) {
+            // a segment already named after this change can only hold an incomplete line left by a crash
+            Path segmentPath = getSegmentPath(firstSequence);
+            FileUtil.createParentDirsOfFile(segmentPath);
+            segment = FileChannel.open(segmentPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(entries.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+        segment.force(false);
+    }
+
+    /**
+     * Makes the entries written from now on continue the data file with {@code checksum}, in a new segment unless the
+     * journal already continues it.
+     */
+    void continueDataFile(String checksum) throws IOException {
+        requireNonNull(checksum);
+        if (!checksum.equals(dataFileChecksum)) {
+            rotate();
+            dataFileChecksum = checksum;
+        }
+    }
+
+    /**
+     * Closes the segment that entries are being appended to, so that the next entries start a new segment.
+     */
+    void rotate() throws IOException {
+        if (segment != null) {
+            segment.close();
+            segment = null;
+        }
+    }
+
+    /**
+     * Deletes the segments that start with a change numbered up to {@code sequence}.
+     * The journal must have been rotated since the change numbered {@code sequence} was written, so that those
+     * segments only hold changes up to it.
+     */
+    void deleteSegmentsUpTo(long sequence) throws IOException {
+        for (Segment segment : listSegments()) {
+            if (segment.firstSequence <= sequence) {
+                Files.deleteIfExists(segment.path);
+            }
+        }
+    }
+
+    /**
+     * Deletes the segments that continue a data file other than the one with {@code checksum}, which can no longer be
+     * replayed once that data file has been replaced. The journal must already continue the data file with
+     * {@code checksum}, so that none of those segments is still being appended to.
+     */
+    void deleteSegmentsNotContinuing(String checksum) throws IOException {
+        requireNonNull(checksum);
+        assert checksum.equals(dataFileChecksum);
+        for (Segment segment : listSegments()) {
+            if (segment.checksum != null && !segment.checksum.equals(checksum)) {
+                logger.info("Deleting journal segment " + segment.path + ", which continues a replaced data file");
+                Files.deleteIfExists(segment.path);
+            }
+        }
+    }
+
+    /**
+     * Reads the changes numbered after {@code sequence} in the segments that continue the data file with
+     * {@code checksum}, in order, and continues numbering from the last of them.
+     *
+     * @throws DataLoadingException if a segment could not be read, holds an invalid change, or if changes are missing.
+     */
+    List<AddressBookChange> readAfter(long sequence, String checksum) throws DataLoadingException {
+        requireNonNull(checksum);
+        List<AddressBookChange> changes = new ArrayList<>();
+        long expectedSequence = sequence + 1;
+        try {
+            for (Segment segment : listSegments()) {
+                if (!segment.continues(checksum)) {
+                    logger.info("Ignoring journal segment " + segment.path + ", which continues another data file");
+                    continue;
+                }
+                for (JsonAdaptedAddressBookChange entry : readSegment(segment.path)) {
+                    if (entry.getSequence() < expectedSequence) {
+                        continue;
+                    }
+                    if (entry.getSequence() > expectedSequence) {
+                        throw new IllegalValueException(String.format(MESSAGE_MISSING_ENTRIES, expectedSequence - 1));
+                    }
+                    changes.add(entry.toModelType());
+                    expectedSequence++;
+                }
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+        lastSequence = expectedSequence - 1;
+        return changes;
+    }
+
+    /**
+     * Returns the entries in the segment at {@code segmentPath}, leaving out an incomplete last line.
+     */
+    private List<JsonAdaptedAddressBookChange> readSegment(Path segmentPath) throws IOException {
+        List<JsonAdaptedAddressBookChange> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(segmentPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            int lineNumber = 1;
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isEmpty()) {
+                    try {
+                        entries.add(JsonUtil.fromJsonString(line, JsonAdaptedAddressBookChange.class));
+                    } catch (IOException e) {
+                        if (nextLine != null) {
+                            throw new IOException(String.format(MESSAGE_INVALID_ENTRY, lineNumber, segmentPath,
+                                    e.getMessage()), e);
+                        }
+                        logger.warning("Ignoring incomplete last entry of journal " + segmentPath);
+                    }
+                }
+                line = nextLine;
+                lineNumber++;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the segments of the journal, in order of the sequence number of their first change.
+     */
+    private List<Segment> listSegments() throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        Path directory = dataFilePath.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return segments;
+        }
+
+        String prefix = dataFilePath.getFileName() + SEGMENT_INFIX;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString().substring(prefix.length());
+                int separator = suffix.indexOf('.');
+                try {
+                    if (separator == -1) {
+                        segments.add(new Segment(Long.parseLong(suffix), null, file));
+                    } else {
+                        segments.add(new Segment(Long.parseLong(suffix.substring(0, separator)),
+                                suffix.substring(separator + 1), file));
+                    }
+                } catch (NumberFormatException e) {
+                    // not a segment of this journal
+                }
+            }
+        }
+        segments.sort(Comparator.comparingLong(segment -> segment.firstSequence));
+        return segments;
+    }
+
+    private Path getSegmentPath(long firstSequence) {
+        String checksum = dataFileChecksum;
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + SEGMENT_INFIX + firstSequence
+                + (checksum == null ? "" : "." + checksum));
+    }
+
+    /**
+     * A segment file of the journal, and the checksum of the data file it continues, if its name holds one.
+     */
+    private static class Segment {
+        private final long firstSequence;
+        private final String checksum;
+        private final Path path;
+
+        Segment(long firstSequence, String checksum, Path path) {
+            this.firstSequence = firstSequence;
+            this.checksum = checksum;
+            this.path = path;
+        }
+
+        boolean continues(String dataFileChecksum) {
+            return checksum == null || Objects.equals(checksum, dataFileChecksum);
+        }
+    }
+}
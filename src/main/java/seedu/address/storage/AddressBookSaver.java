@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes the data file of an address book and its {@code AddressBookJournal} on a thread of its own, so that saving
+ * does not hold up the thread making the changes.
+ *
+ * Writes are made in the order they are submitted. Once a write has been submitted, the saver waits for the group
+ * commit window to pass, then makes every write submitted by then together: journal entries are appended and forced
+ * to the storage device at once, and since a data file holds every change numbered before it, only the last data file
+ * is written and the writes before it are completed along with it. The contents of a data file are only made once it is
+ * written, so those of the data files skipped are never made.
+ * After a write fails, journal entries are no longer appended, as the journal would no longer continue the data file,
+ * until a data file has been written again.
+ */
+class AddressBookSaver {
+
+    public static final String MESSAGE_EARLIER_FAILURE =
+            "An earlier save failed, so changes cannot be saved until the whole address book is saved.";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Path filePath;
+    private final AddressBookJournal journal;
+    private final long groupCommitMillis;
+    private final boolean isCompact;
+    private final BlockingQueue<PendingWrite> pendingWrites = new LinkedBlockingQueue<>();
+    private final ExecutorService writer = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "address-book-saver");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /** Whether the last write failed, set by the writer thread. */
+    private volatile boolean hasFailed;
+
+    /**
+     * Constructs a saver of the data file at {@code filePath} and its {@code journal}, which makes the writes
+     * submitted within {@code groupCommitMillis} milliseconds of each other together, and writes the data file
+     * without line breaks and indentation if {@code isCompact} is true.
+     */
+    AddressBookSaver(Path filePath, AddressBookJournal journal, long groupCommitMillis, boolean isCompact) {
+        this.filePath = requireNonNull(filePath);
+        this.journal = requireNonNull(journal);
+        this.groupCommitMillis = groupCommitMillis;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns true if the last write failed, so that the address book has to be saved in full.
+     */
+    boolean hasFailed() {
+        return hasFailed;
+    }
+
+    /**
+     * Submits the journal {@code entry} numbered {@code sequence} to be appended to the journal.
+     * The returned future completes once the entry has been forced to the storage device.
+     */
+    CompletableFuture<Void> append(long sequence, String entry) {
+        requireNonNull(entry);
+        return submit(new PendingWrite(sequence, entry, null));
+    }
+
+    /**
+     * Submits the contents made by {@code data} to be written to the data file, which makes every journal entry
+     * written so far obsolete. {@code data} is called on the saver's thread, if at all.
+     * The returned future completes once the data file has been replaced.
+     */
+    CompletableFuture<Void> writeDataFile(Supplier<JsonSerializableAddressBook> data) {
+        requireNonNull(data);
+        return submit(new PendingWrite(0, null, data));
+    }
+
+    private CompletableFuture<Void> submit(PendingWrite write) {
+        pendingWrites.add(write);
+        writer.execute(this::writePending);
+        return write.done;
+    }
+
+    /**
+     * Makes the writes submitted by the end of the group commit window, if any.
+     */
+    private void writePending() {
+        if (pendingWrites.isEmpty()) {
+            return; // already made along with an earlier write
+        }
+        if (groupCommitMillis > 0) {
+            try {
+                Thread.sleep(groupCommitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<PendingWrite> batch = new ArrayList<>();
+        pendingWrites.drainTo(batch);
+        int firstAppend = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.get(i).data != null) {
+                firstAppend = i + 1;
+            }
+        }
+        if (firstAppend > 0) {
+            List<PendingWrite> dataFileWrites = batch.subList(0, firstAppend);
+            Supplier<JsonSerializableAddressBook> data = dataFileWrites.get(dataFileWrites.size() - 1).data;
+            complete(dataFileWrites, () -> replaceDataFile(data, dataFileWrites.size()));
+        }
+        if (firstAppend < batch.size()) {
+            List<PendingWrite> appends = batch.subList(firstAppend, batch.size());
+            complete(appends, () -> appendEntries(appends));
+        }
+    }
+
+    private void replaceDataFile(Supplier<JsonSerializableAddressBook> dataSupplier, int writeCount)
+            throws IOException {
+        JsonSerializableAddressBook data = dataSupplier.get();
+        // entries after the data file are appended to a new segment, which is not deleted below
+        journal.rotate();
+        String checksum = JsonAddressBookFile.write(filePath, data, isCompact);
+        journal.deleteSegmentsUpTo(Long.MAX_VALUE);
+        journal.continueDataFile(checksum);
+        hasFailed = false;
+        logger.fine("Wrote data file " + filePath + " up to journal entry " + data.getJournalSequence()
+                + " (" + writeCount + " writes coalesced)");
+    }
+
+    private void appendEntries(List<PendingWrite> appends) throws IOException {
+        if (hasFailed) {
+            throw new IOException(MESSAGE_EARLIER_FAILURE);
+        }
+        StringBuilder entries = new StringBuilder();
+        for (PendingWrite append : appends) {
+            entries.append(append.entry);
+        }
+        journal.write(appends.get(0).sequence, entries.toString());
+        logger.fine("Appended " + appends.size() + " entries to the journal of " + filePath);
+    }
+
+    private void complete(List<PendingWrite> writes, WriteAction action) {
+        try {
+            action.run();
+            for (PendingWrite write : writes) {
+                write.done.complete(null);
+            }
+        } catch (IOException | RuntimeException e) {
+            hasFailed = true;
+            logger.warning("Failed to save " + filePath + ": " + e.getMessage());
+            for (PendingWrite write : writes) {
+                write.done.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * A write that can fail with an {@code IOException}.
+     */
+    private interface WriteAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * A journal entry to append, or a data file to write, and the future completed once it has been made.
+     */
+    private static class PendingWrite {
+        private final long sequence;
+        private final String entry;
+        private final Supplier<JsonSerializableAddressBook> data;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        PendingWrite(long sequence, String entry, Supplier<JsonSerializableAddressBook> data) {
+            this.sequence = sequence;
+            this.entry = entry;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+
+/**
+ * Receives an address book from storage while it is read, so that its persons do not need to be gathered into an
+ * address book of their own before they are used.
+ */
+public interface AddressBookSink {
+
+    /**
+     * Adds {@code persons}, the next persons read, in order, and returns the persons added, which are all of them
+     * except those that are the same as, or share an id with, a person already added.
+     */
+    List<Person> addPersons(List<Person> persons);
+
+    /**
+     * Returns true if a person with the same identity as {@code person} has been added.
+     */
+    boolean hasPerson(Person person);
+
+    /**
+     * Applies {@code changes}, the changes made since the persons added were saved, in order.
+     */
+    void applyChanges(List<AddressBookChange> changes);
+
+    /**
+     * Returns a sink that adds what it receives to {@code addressBook}.
+     */
+    static AddressBookSink of(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new AddressBookSink() {
+            @Override
+            public List<Person> addPersons(List<Person> persons) {
+                return addressBook.addPersons(persons);
+            }
+
+            @Override
+            public boolean hasPerson(Person person) {
+                return addressBook.hasPerson(person);
+            }
+
+            @Override
+            public void applyChanges(List<AddressBookChange> changes) {
+                for (AddressBookChange change : changes) {
+                    addressBook.applyChange(change);
+                }
+            }
+        };
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -30,6 +32,16 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Reads AddressBook data as {@link #readAddressBook()} does, but hands it to {@code sink} while it is read, a batch
+     * of persons at a time, instead of building an address book of it.
+     * Returns false if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed, in which case {@code sink} may have
+     *     been given part of the data.
+     */
+    boolean readAddressBook(AddressBookSink sink) throws DataLoadingException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +54,33 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code change}, the latest change made to the address book, which brought it to {@code addressBook}.
+     * The storage may write just the change, or the whole of {@code addressBook}.
+     * @param addressBook cannot be null.
+     * @param change cannot be null.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void saveAddressBookChange(ReadOnlyAddressBook addressBook, AddressBookChange change) throws IOException;
+
+    /**
+     * Writes the saves that the storage has not finished writing yet, and waits for them to be written.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler of the problems writing the saves that are finished after they have returned.
+     * The handler may be called from another thread.
+     * @param saveErrorHandler cannot be null.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
+
+    /**
+     * Sets the handler called with the path of each data file this storage writes, once it has been written, so that
+     * its own writes can be told apart from those of other programs. The handler may be called from another thread.
+     * @param writeHandler cannot be null.
+     */
+    void setWriteHandler(Consumer<Path> writeHandler);
+
 }
@@ -0,0 +1,266 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.tag.Interest;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address book data files in a compact binary format, which is faster to read than JSON.
+ *
+ * A file starts with a magic number and the version of its format, followed by three length-prefixed sections:
+ * a dictionary of every distinct string in the file, the schedules, and the persons. Each string is written once, as
+ * its length and UTF-8 bytes, and everything else refers to it by its index in the dictionary. Like the JSON data
+ * file, persons refer to their schedules by their index in the schedule section, and schedule times are stored as
+ * minutes since the epoch, as they are entered to the minute.
+ *
+ * Persons are converted through {@code JsonAdaptedPerson}, so that they are checked exactly as in a JSON data file.
+ */
+class BinaryAddressBookFile {
+
+    public static final int MAGIC = 0x41423342; // "AB3B"
+    public static final int CURRENT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Binary data file version %1$d is newer than the supported version " + CURRENT_VERSION + ".";
+    public static final String MESSAGE_INVALID_REFERENCE = "Data file refers to a string that does not exist.";
+    public static final String MESSAGE_INVALID_LENGTH = "Data file holds an invalid length.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookFile.class);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Reads the address book in the data file at {@code filePath} into {@code sink}, and returns false if it is not
+     * found.
+     *
+     * @throws DataLoadingException if the file could not be read, or holds an invalid address book.
+     */
+    public static boolean read(Path filePath, AddressBookSink sink) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(sink);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(filePath)), BUFFER_SIZE))) {
+            read(in, Files.size(filePath), sink);
+            return true;
+        } catch (IOException | IllegalValueException | DateTimeException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads the address book in a file of {@code fileSize} bytes from {@code in} into {@code sink}.
+     */
+    private static void read(DataInputStream in, long fileSize, AddressBookSink sink)
+            throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readInt();
+        if (version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readLength(in, fileSize)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readLength(in, fileSize)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int scheduleCount = readLength(in, fileSize);
+        List<JsonAdaptedSchedule> schedules = new ArrayList<>();
+        for (int i = 0; i < scheduleCount; i++) {
+            String name = readString(in, strings);
+            LocalDateTime startTime = readDateTime(in);
+            LocalDateTime endTime = readDateTime(in);
+            schedules.add(new JsonAdaptedSchedule(i, new Schedule(name, startTime, endTime)));
+        }
+
+        JsonSerializableAddressBook.PersonConverter converter = new JsonSerializableAddressBook.PersonConverter(
+                JsonSerializableAddressBook.CURRENT_VERSION, schedules, sink);
+        int personCount = readLength(in, fileSize);
+        for (int i = 0; i < personCount; i++) {
+            String id = readString(in, strings);
+            String name = readString(in, strings);
+            String phone = readString(in, strings);
+            String email = readString(in, strings);
+            String address = readString(in, strings);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int count = in.readInt(); count > 0; count--) {
+                tags.add(new JsonAdaptedTag(readString(in, strings)));
+            }
+            List<JsonAdaptedInterest> interests = new ArrayList<>();
+            for (int count = in.readInt(); count > 0; count--) {
+                interests.add(new JsonAdaptedInterest(readString(in, strings)));
+            }
+            List<Integer> scheduleIds = new ArrayList<>();
+            for (int count = in.readInt(); count > 0; count--) {
+                scheduleIds.add(in.readInt());
+            }
+            converter.add(new JsonAdaptedPerson(id, name, phone, email, address, tags, interests, scheduleIds));
+        }
+        converter.finish();
+    }
+
+    /**
+     * Reads the length of a string or section, which cannot be more than the {@code fileSize} bytes of the file.
+     */
+    private static int readLength(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0 || length > fileSize) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return length;
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException, IllegalValueException {
+        int index = in.readInt();
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        return strings[index];
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong() * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Writes {@code addressBook} to the data file at {@code filePath}, replacing it only once it has been written in
+     * full.
+     */
+    public static void write(Path filePath, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(addressBook);
+
+        // every schedule of a person should be in the schedule list already, but is written if it is not
+        Map<Schedule, Integer> scheduleIds = new IdentityHashMap<>();
+        List<Schedule> schedules = new ArrayList<>();
+        for (Schedule schedule : addressBook.getScheduleList()) {
+            addToTable(schedule, scheduleIds, schedules);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            for (Schedule schedule : person.getSchedules()) {
+                addToTable(schedule, scheduleIds, schedules);
+            }
+        }
+        Map<String, Integer> dictionary = buildDictionary(addressBook.getPersonList(), schedules);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC);
+            out.writeInt(CURRENT_VERSION);
+
+            out.writeInt(dictionary.size());
+            for (String string : dictionary.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(schedules.size());
+            for (Schedule schedule : schedules) {
+                out.writeInt(dictionary.get(schedule.getSchedName()));
+                writeDateTime(out, schedule.getStartTime());
+                writeDateTime(out, schedule.getEndTime());
+            }
+
+            out.writeInt(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                out.writeInt(dictionary.get(person.getId().value));
+                out.writeInt(dictionary.get(person.getName().fullName));
+                out.writeInt(dictionary.get(person.getPhone().value));
+                out.writeInt(dictionary.get(person.getEmail().value));
+                out.writeInt(dictionary.get(person.getAddress().value));
+                out.writeInt(person.getTag().size());
+                for (Tag tag : person.getTag()) {
+                    out.writeInt(dictionary.get(tag.tagName));
+                }
+                out.writeInt(person.getInterest().size());
+                for (Interest interest : person.getInterest()) {
+                    out.writeInt(dictionary.get(interest.tagName));
+                }
+                out.writeInt(person.getSchedules().size());
+                for (Schedule schedule : person.getSchedules()) {
+                    out.writeInt(scheduleIds.get(schedule));
+                }
+            }
+            out.flush();
+        });
+    }
+
+    private static void addToTable(Schedule schedule, Map<Schedule, Integer> scheduleIds, List<Schedule> schedules) {
+        if (!scheduleIds.containsKey(schedule)) {
+            scheduleIds.put(schedule, schedules.size());
+            schedules.add(schedule);
+        }
+    }
+
+    /**
+     * Returns every distinct string of {@code persons} and {@code schedules}, in the order they are first used,
+     * mapped to their index in the dictionary.
+     */
+    private static Map<String, Integer> buildDictionary(List<Person> persons, List<Schedule> schedules) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Schedule schedule : schedules) {
+            addToDictionary(schedule.getSchedName(), dictionary);
+        }
+        for (Person person : persons) {
+            addToDictionary(person.getId().value, dictionary);
+            addToDictionary(person.getName().fullName, dictionary);
+            addToDictionary(person.getPhone().value, dictionary);
+            addToDictionary(person.getEmail().value, dictionary);
+            addToDictionary(person.getAddress().value, dictionary);
+            for (Tag tag : person.getTag()) {
+                addToDictionary(tag.tagName, dictionary);
+            }
+            for (Interest interest : person.getInterest()) {
+                addToDictionary(interest.tagName, dictionary);
+            }
+        }
+        return dictionary;
+    }
+
+    private static void addToDictionary(String string, Map<String, Integer> dictionary) {
+        dictionary.putIfAbsent(string, dictionary.size());
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+}
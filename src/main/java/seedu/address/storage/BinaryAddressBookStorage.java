@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, written by
+ * {@code BinaryAddressBookFile}.
+ * Unlike {@code JsonAddressBookStorage}, it keeps no journal: every save writes a new snapshot before returning.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private final Path filePath;
+    private Consumer<Path> writeHandler = path -> {};
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        AddressBook addressBook = new AddressBook();
+        return BinaryAddressBookFile.read(filePath, AddressBookSink.of(addressBook))
+                ? Optional.of(addressBook)
+                : Optional.empty();
+    }
+
+    @Override
+    public boolean readAddressBook(AddressBookSink sink) throws DataLoadingException {
+        requireNonNull(sink);
+        return BinaryAddressBookFile.read(filePath, sink);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        BinaryAddressBookFile.write(filePath, addressBook);
+        writeHandler.accept(filePath);
+    }
+
+    @Override
+    public void saveAddressBookChange(ReadOnlyAddressBook addressBook, AddressBookChange change) throws IOException {
+        requireAllNonNull(addressBook, change);
+        saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // every save is written before it returns
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        // every save reports its failure by throwing
+        requireNonNull(saveErrorHandler);
+    }
+
+    @Override
+    public void setWriteHandler(Consumer<Path> writeHandler) {
+        this.writeHandler = requireNonNull(writeHandler);
+    }
+}
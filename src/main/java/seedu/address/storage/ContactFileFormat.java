@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The formats of contacts files that persons can be imported from and exported to, told apart by file extension.
+ */
+public enum ContactFileFormat {
+    CSV(".csv"),
+    VCARD(".vcf");
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Contacts files should be CSV files ending in .csv or vCard files ending in .vcf";
+
+    private final String extension;
+
+    ContactFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the format of the file at {@code path}, or an empty {@code Optional} if it is not a contacts file.
+     */
+    public static Optional<ContactFileFormat> of(Path path) {
+        requireNonNull(path);
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String lowerCaseFileName = fileName.toString().toLowerCase(Locale.ROOT);
+        for (ContactFileFormat format : values()) {
+            if (lowerCaseFileName.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a reader of the contacts in this format from {@code reader}.
+     * @throws IOException if {@code reader} could not be read.
+     */
+    public ContactReader newReader(BufferedReader reader) throws IOException {
+        return this == CSV ? new CsvContactReader(reader) : new VCardContactReader(reader);
+    }
+
+    /**
+     * Returns a writer of contacts in this format to {@code writer}.
+     * @throws IOException if {@code writer} could not be written to.
+     */
+    public ContactWriter newWriter(BufferedWriter writer) throws IOException {
+        return this == CSV ? new CsvContactWriter(writer) : new VCardContactWriter(writer);
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the contacts in a contacts file one at a time, so that only the record being read is held in memory.
+ */
+public interface ContactReader {
+
+    /**
+     * Returns the next contact in the file, or null if there are no more.
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the next contact is not in the format of the file.
+     */
+    ContactRecord read() throws IOException, IllegalValueException;
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The unvalidated fields of one contact in an imported or exported contacts file.
+ * Missing fields are empty strings, so that validating them is left to the parsers of the fields.
+ */
+public class ContactRecord {
+
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tags;
+    private final List<String> interests;
+
+    /**
+     * Constructs a {@code ContactRecord} that starts at line {@code lineNumber} of its file.
+     */
+    public ContactRecord(int lineNumber, String name, String phone, String email, String address,
+            List<String> tags, List<String> interests) {
+        requireAllNonNull(name, phone, email, address, tags, interests);
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
+        this.interests = Collections.unmodifiableList(new ArrayList<>(interests));
+    }
+
+    /**
+     * Returns the record of the fields of {@code person}, which is not from any file.
+     */
+    public static ContactRecord of(Person person) {
+        return new ContactRecord(0, person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, tagNames(person.getTag()), tagNames(person.getInterest()));
+    }
+
+    private static List<String> tagNames(Iterable<? extends Tag> tags) {
+        List<String> names = new ArrayList<>();
+        for (Tag tag : tags) {
+            names.add(tag.tagName);
+        }
+        return names;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public List<String> getInterests() {
+        return interests;
+    }
+
+    /**
+     * Returns true if both records have the same fields, wherever in their files they are.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactRecord)) {
+            return false;
+        }
+
+        ContactRecord otherRecord = (ContactRecord) other;
+        return name.equals(otherRecord.name)
+                && phone.equals(otherRecord.phone)
+                && email.equals(otherRecord.email)
+                && address.equals(otherRecord.address)
+                && tags.equals(otherRecord.tags)
+                && interests.equals(otherRecord.interests);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email, address, tags, interests);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lineNumber", lineNumber)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .add("address", address)
+                .add("tags", tags)
+                .add("interests", interests)
+                .toString();
+    }
+}
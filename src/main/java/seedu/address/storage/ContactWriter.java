@@ -0,0 +1,15 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Writes contacts to a contacts file one at a time.
+ */
+public interface ContactWriter {
+
+    /**
+     * Appends {@code record} to the file.
+     * @throws IOException if the file could not be written to.
+     */
+    void write(ContactRecord record) throws IOException;
+}
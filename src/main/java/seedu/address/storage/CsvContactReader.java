@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads contacts from a CSV file as described in RFC 4180, one record at a time.
+ * The first record is a header naming the columns, in any order, among {@code CsvContactWriter.COLUMNS}.
+ * Columns with other names are ignored. Tags and interests are separated by {@code CsvContactWriter.LIST_SEPARATOR}.
+ */
+class CsvContactReader implements ContactReader {
+
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV header has no '%1$s' column";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "The quoted field in the record at line %1$d is not closed";
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final BufferedReader reader;
+    /** Position of each of {@code CsvContactWriter.COLUMNS} in the records, or -1 if the column is missing. */
+    private int[] columnPositions;
+    /** Number of the line that the next character read is on. */
+    private int lineNumber = 1;
+
+    CsvContactReader(BufferedReader reader) {
+        this.reader = requireNonNull(reader);
+    }
+
+    @Override
+    public ContactRecord read() throws IOException, IllegalValueException {
+        if (columnPositions == null) {
+            readHeader();
+        }
+
+        int recordLineNumber;
+        List<String> fields;
+        do {
+            recordLineNumber = lineNumber;
+            fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty()); // skips blank lines
+
+        return new ContactRecord(recordLineNumber, getField(fields, 0), getField(fields, 1), getField(fields, 2),
+                getField(fields, 3), splitList(getField(fields, 4)), splitList(getField(fields, 5)));
+    }
+
+    private void readHeader() throws IOException, IllegalValueException {
+        List<String> header = readFields();
+        if (header == null) {
+            header = new ArrayList<>();
+        } else if (!header.isEmpty() && header.get(0).startsWith(BYTE_ORDER_MARK)) {
+            header.set(0, header.get(0).substring(BYTE_ORDER_MARK.length()));
+        }
+
+        List<String> columnNames = new ArrayList<>();
+        for (String columnName : header) {
+            columnNames.add(columnName.trim().toLowerCase(Locale.ROOT));
+        }
+        columnPositions = new int[CsvContactWriter.COLUMNS.size()];
+        for (int i = 0; i < columnPositions.length; i++) {
+            columnPositions[i] = columnNames.indexOf(CsvContactWriter.COLUMNS.get(i));
+        }
+        for (int i = 0; i < CsvContactWriter.REQUIRED_COLUMN_COUNT; i++) {
+            if (columnPositions[i] == -1) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, CsvContactWriter.COLUMNS.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Reads the fields of the next record, or returns null if there are no more records.
+     */
+    private List<String> readFields() throws IOException, IllegalValueException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        int recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+        while (true) {
+            if (isInQuotes) {
+                if (c == -1) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNCLOSED_QUOTE, recordLineNumber));
+                } else if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        isInQuotes = false;
+                        continue; // the character after the closing quote is read as unquoted
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                isInQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    skipLineFeed();
+                }
+                lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private void skipLineFeed() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\n') {
+            reader.reset();
+        }
+    }
+
+    private String getField(List<String> fields, int column) {
+        int position = columnPositions[column];
+        return position != -1 && position < fields.size() ? fields.get(position).trim() : "";
+    }
+
+    private static List<String> splitList(String field) {
+        List<String> items = new ArrayList<>();
+        for (String item : Arrays.asList(field.split(CsvContactWriter.LIST_SEPARATOR))) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes contacts to a CSV file as described in RFC 4180, starting with a header naming the columns.
+ */
+class CsvContactWriter implements ContactWriter {
+
+    /** The names of the columns, of which the first {@code REQUIRED_COLUMN_COUNT} must be in every file read. */
+    public static final List<String> COLUMNS = Collections.unmodifiableList(
+            Arrays.asList("name", "phone", "email", "address", "tags", "interests"));
+    public static final int REQUIRED_COLUMN_COUNT = 3;
+    /** Separates the tags, and the interests, in their field. */
+    public static final String LIST_SEPARATOR = ";";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final BufferedWriter writer;
+
+    /**
+     * Constructs a {@code CsvContactWriter} and writes the header to {@code writer}.
+     */
+    CsvContactWriter(BufferedWriter writer) throws IOException {
+        this.writer = requireNonNull(writer);
+        writeRecord(COLUMNS);
+    }
+
+    @Override
+    public void write(ContactRecord record) throws IOException {
+        writeRecord(Arrays.asList(record.getName(), record.getPhone(), record.getEmail(), record.getAddress(),
+                String.join(LIST_SEPARATOR, record.getTags()), String.join(LIST_SEPARATOR, record.getInterests())));
+    }
+
+    private void writeRecord(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields.get(i));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeField(String field) throws IOException {
+        if (field.indexOf(',') == -1 && field.indexOf('"') == -1
+                && field.indexOf('\n') == -1 && field.indexOf('\r') == -1) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}, numbered by its position in the journal.
+ * Like the data file, it holds a table of the schedules its persons take part in, keyed by ids local to the change.
+ */
+class JsonAdaptedAddressBookChange {
+
+    public static final String MISSING_SEQUENCE_MESSAGE = "Journal entry's sequence number is missing!";
+
+    private final Long sequence;
+    private final boolean isReset;
+    private final List<String> removedIds = new ArrayList<>();
+    private final List<JsonAdaptedSchedule> schedules = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("sequence") Long sequence,
+            @JsonProperty("isReset") boolean isReset,
+            @JsonProperty("removedIds") List<String> removedIds,
+            @JsonProperty("schedules") List<JsonAdaptedSchedule> schedules,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.sequence = sequence;
+        this.isReset = isReset;
+        if (removedIds != null) {
+            this.removedIds.addAll(removedIds);
+        }
+        if (schedules != null) {
+            this.schedules.addAll(schedules);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use, numbered {@code sequence}.
+     */
+    public JsonAdaptedAddressBookChange(long sequence, AddressBookChange source) {
+        this.sequence = sequence;
+        isReset = source.isReset();
+        for (PersonId id : source.getRemovedIds()) {
+            removedIds.add(id.value);
+        }
+        Map<Schedule, Integer> scheduleIds = new IdentityHashMap<>();
+        JsonSerializableAddressBook.adaptPersons(source.getPersons(), scheduleIds, schedules, persons);
+    }
+
+    /**
+     * Returns the sequence number of this change, or 0 if it is missing.
+     */
+    public long getSequence() {
+        return sequence == null ? 0 : sequence;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AddressBookChange toModelType() throws IllegalValueException {
+        if (sequence == null) {
+            throw new IllegalValueException(MISSING_SEQUENCE_MESSAGE);
+        }
+
+        List<PersonId> modelRemovedIds = new ArrayList<>();
+        for (String id : removedIds) {
+            if (id == null || !PersonId.isValidId(id)) {
+                throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+            }
+            modelRemovedIds.add(new PersonId(id));
+        }
+
+        Map<Integer, Schedule> scheduleTable = JsonSerializableAddressBook.toScheduleTable(schedules);
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType(scheduleTable));
+        }
+        return new AddressBookChange(isReset, modelRemovedIds, modelPersons);
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -14,6 +17,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.tag.Interest;
@@ -25,46 +29,63 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_SCHEDULE_ID = "Person refers to a schedule id that does not exist!";
 
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
-    private final List<JsonAdaptedTag> allTags = new ArrayList<>();
-    private final List<JsonAdaptedInterest> interests = new ArrayList<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
-    private final List<JsonAdaptedSchedule> schedules = new ArrayList<>();
+    private final List<JsonAdaptedInterest> interests = new ArrayList<>();
+    private final List<Integer> scheduleIds = new ArrayList<>();
+
+    /** Schedules embedded in the person by data files written before the schedule table was introduced. */
+    @JsonIgnore
+    private final List<JsonAdaptedSchedule> legacySchedules = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
+    public JsonAdaptedPerson(String id, String name, String phone, String email, String address,
+            List<JsonAdaptedTag> tags, List<JsonAdaptedInterest> interests, List<Integer> scheduleIds) {
+        this(id, name, phone, email, address, tags, interests, scheduleIds, null, null, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, as read from a data file of any version.
+     * {@code legacyInterests}, {@code legacySchedules} and {@code legacyScheduleList} hold the keys used by data
+     * files written before the schedule table was introduced.
+     */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    private JsonAdaptedPerson(@JsonProperty("id") String id,
+            @JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
-            @JsonProperty("interest") List<JsonAdaptedInterest> interests,
-            @JsonProperty("schedule") List<JsonAdaptedSchedule> schedules) {
+            @JsonProperty("interests") List<JsonAdaptedInterest> interests,
+            @JsonProperty("scheduleIds") List<Integer> scheduleIds,
+            @JsonProperty("interest") List<JsonAdaptedInterest> legacyInterests,
+            @JsonProperty("schedules") List<JsonAdaptedSchedule> legacySchedules,
+            @JsonProperty("schedule") List<JsonAdaptedSchedule> legacyScheduleList) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        if (tags != null) {
-            this.tags.addAll(tags);
-            this.allTags.addAll(tags);
-        }
-        if (interests != null) {
-            this.interests.addAll(interests);
-            this.allTags.addAll(interests);
-        }
-        if (schedules != null) {
-            this.schedules.addAll(schedules);
-        }
+        addAllIfPresent(this.tags, tags);
+        addAllIfPresent(this.interests, interests);
+        addAllIfPresent(this.interests, legacyInterests);
+        addAllIfPresent(this.scheduleIds, scheduleIds);
+        addAllIfPresent(this.legacySchedules, legacySchedules);
+        addAllIfPresent(this.legacySchedules, legacyScheduleList);
     }
 
     /**
      * Converts a given {@code Person} into this class for Jackson use.
+     * Each schedule of the person is stored as the id given to it by {@code scheduleIds}.
      */
-    public JsonAdaptedPerson(Person source) {
+    public JsonAdaptedPerson(Person source, Map<Schedule, Integer> scheduleIds) {
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -72,27 +93,25 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTag().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        allTags.addAll(source.getTag().stream()
-                .map(JsonAdaptedTag::new)
-                .collect(Collectors.toList()));
         interests.addAll(source.getInterest().stream()
                 .map(JsonAdaptedInterest::new)
                 .collect(Collectors.toList()));
-        allTags.addAll(source.getInterest().stream()
-                .map(JsonAdaptedInterest::new)
-                .collect(Collectors.toList()));
-        schedules.addAll(source.getSchedules().stream()
-                .map(JsonAdaptedSchedule::new)
-                .collect(Collectors.toList()));
+        for (Schedule schedule : source.getSchedules()) {
+            this.scheduleIds.add(scheduleIds.get(schedule));
+        }
+    }
+
+    public List<Integer> getScheduleIds() {
+        return Collections.unmodifiableList(scheduleIds);
     }
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's
-     * {@code Person} object.
+     * {@code Person} object, taking part in the schedules in {@code scheduleTable} that it refers to.
      * @throws IllegalValueException if there were any data constraints violated in
      *                               the adapted person.
      */
-    public Person toModelType() throws IllegalValueException {
+    public Person toModelType(Map<Integer, Schedule> scheduleTable) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -103,6 +122,12 @@ class JsonAdaptedPerson {
             personInterest.add(interest.toModelType());
         }
 
+        // persons saved before ids were introduced are given a new one
+        if (id != null && !PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        final PersonId modelId = id == null ? PersonId.generate() : new PersonId(id);
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -138,14 +163,23 @@ class JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Set<Interest> modelInterests = new HashSet<>(personInterest);
         final ArrayList<Schedule> modelSchedules = new ArrayList<>();
-        for (JsonAdaptedSchedule schedule : schedules) {
+        for (Integer scheduleId : scheduleIds) {
+            Schedule schedule = scheduleTable.get(scheduleId);
+            if (schedule == null) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_SCHEDULE_ID);
+            }
+            modelSchedules.add(schedule);
+        }
+        for (JsonAdaptedSchedule schedule : legacySchedules) {
             modelSchedules.add(schedule.toModelType());
         }
-        if (address.isEmpty()) {
-            return new Person(modelName, modelPhone, modelEmail, modelTags, modelInterests, modelSchedules);
-        } else {
-            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelInterests,
-                    modelSchedules);
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTags, modelInterests,
+                modelSchedules);
+    }
+
+    private static <T> void addAllIfPresent(List<T> target, List<? extends T> source) {
+        if (source != null) {
+            target.addAll(source);
         }
     }
 
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -12,52 +13,58 @@ import seedu.address.model.schedule.Schedule;
 
 /**
  * Jackson-friendly version of {@link Schedule}.
+ * Participants are not stored with the schedule; they are recovered from the persons that refer to its id.
  */
 public class JsonAdaptedSchedule {
     private static final String MISSING_FIELD_MESSAGE_FORMAT = "Schedule's %s field is missing!";
     private static final String MESSAGE_INVALID_ScheduleNAME = "Schedule name must not contain invalid characters";
 
     private static final String MESSAGE_INVALID_ScheduleTime = "Schedule timing must fit constraints!";
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
     private final String moduleName;
     private final LocalDateTime startTime;
     private final LocalDateTime endTime;
-    private final ArrayList<String> participants;
 
     /**
-     * Constructs a {@code JsonAdaptedSlot} with the given {@code pet},
-     * {@code dateTime} and {@code duration}.
+     * Constructs a {@code JsonAdaptedSchedule} with the given details.
+     * {@code id} is null for schedules embedded in persons by data files written before the schedule table
+     * was introduced.
      */
     @JsonCreator
-    public JsonAdaptedSchedule(@JsonProperty("moduleName") String name, @JsonProperty("startTime") String startTime,
-                               @JsonProperty("endTime") String endTime,
-                               @JsonProperty("participants") ArrayList<String> participants) {
+    public JsonAdaptedSchedule(@JsonProperty("id") Integer id, @JsonProperty("moduleName") String name,
+                               @JsonProperty("startTime") String startTime,
+                               @JsonProperty("endTime") String endTime) {
+        this.id = id;
         this.moduleName = name;
         this.startTime = LocalDateTime.parse(startTime);
         this.endTime = LocalDateTime.parse(endTime);
-        this.participants = participants;
     }
 
     /**
-     * Converts a given {@code Slot} into this class for Jackson use.
+     * Converts a given {@code Schedule} into this class for Jackson use, stored under {@code id}.
      */
-    public JsonAdaptedSchedule(Schedule schedule) {
+    public JsonAdaptedSchedule(int id, Schedule schedule) {
+        this.id = id;
         moduleName = schedule.getSchedName();
         startTime = schedule.getStartTime();
         endTime = schedule.getEndTime();
-        participants = schedule.getPersonList();
+    }
+
+    public Integer getId() {
+        return id;
     }
 
     /**
-     * Converts this Jackson-friendly adapted schedule object into the model's {@code Schedule} object.
+     * Converts this Jackson-friendly adapted schedule object into the model's {@code Schedule} object,
+     * without any participants.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted schedule.
      */
-
     public Schedule toModelType() throws IllegalValueException {
         if (moduleName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        return new Schedule(moduleName, startTime, endTime, participants);
+        return new Schedule(moduleName, startTime, endTime, new ArrayList<>());
     }
 }
-
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * The journal position and checksum of an address book read from a data file with Jackson's streaming API.
+ *
+ * Data files are read and written one schedule or person at a time, so that neither the whole file nor all of its
+ * adapted persons are held in memory at once. Persons are converted into the model and handed to an
+ * {@code AddressBookSink} as soon as they are read if the version and schedules come before them, as they do in the
+ * files written by this class; the persons of other files, such as those written before the schedule table was
+ * introduced, are converted once the whole file has been read.
+ *
+ * A checksum of the contents of the file is taken as it is read or written, so that the journal entries that continue
+ * the file can be told apart from those left over from a file it has replaced.
+ */
+class JsonAddressBookFile {
+
+    public static final String MESSAGE_NOT_OBJECT = "Data file does not hold a JSON object.";
+    public static final String MESSAGE_NOT_LIST = "Data file's %s field is not a list.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookFile.class);
+
+    private final long journalSequence;
+    private final String checksum;
+
+    private JsonAddressBookFile(long journalSequence, String checksum) {
+        this.journalSequence = journalSequence;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry whose change the data file includes.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the checksum of the contents of the data file, as returned by {@link #write} when it was written.
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Reads the address book in the data file at {@code filePath} into {@code sink}, or returns
+     * {@code Optional.empty()} if it is not found.
+     *
+     * @throws DataLoadingException if the file could not be read, or holds an invalid address book.
+     */
+    public static Optional<JsonAddressBookFile> read(Path filePath, AddressBookSink sink)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(sink);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(Channels.newInputStream(FileChannel.open(filePath)), checksum);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(read(parser, in, checksum, sink));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads the address book with {@code parser}, which reads from {@code in}, into {@code sink}, and returns its
+     * journal position with the {@code checksum} of all of {@code in}.
+     */
+    private static JsonAddressBookFile read(JsonParser parser, InputStream in, Checksum checksum,
+            AddressBookSink sink) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_OBJECT);
+        }
+
+        Integer version = null;
+        Long journalSequence = null;
+        List<JsonAdaptedSchedule> schedules = null;
+        List<JsonAdaptedPerson> unconvertedPersons = new ArrayList<>();
+        JsonSerializableAddressBook.PersonConverter converter = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case JsonSerializableAddressBook.VERSION_FIELD:
+                version = parser.readValueAs(Integer.class);
+                break;
+            case JsonSerializableAddressBook.JOURNAL_SEQUENCE_FIELD:
+                journalSequence = parser.readValueAs(Long.class);
+                break;
+            case JsonSerializableAddressBook.SCHEDULES_FIELD:
+                schedules = new ArrayList<>();
+                while (nextElement(parser, field)) {
+                    schedules.add(parser.readValueAs(JsonAdaptedSchedule.class));
+                }
+                break;
+            case JsonSerializableAddressBook.PERSONS_FIELD:
+                if (version != null && schedules != null && unconvertedPersons.isEmpty()) {
+                    converter = new JsonSerializableAddressBook.PersonConverter(version, schedules, sink);
+                }
+                while (nextElement(parser, field)) {
+                    JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+                    if (converter != null) {
+                        converter.add(person);
+                    } else {
+                        unconvertedPersons.add(person);
+                    }
+                }
+                break;
+            default:
+                // unknown properties are ignored, as they are by JsonUtil
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        if (converter != null) {
+            converter.finish();
+        } else {
+            new JsonSerializableAddressBook(version, journalSequence, schedules, unconvertedPersons).toModelType(sink);
+        }
+        // the parser stops at the end of the object, so whatever follows it is read for the checksum
+        in.transferTo(OutputStream.nullOutputStream());
+        return new JsonAddressBookFile(journalSequence == null ? 0 : journalSequence, toString(checksum));
+    }
+
+    /**
+     * Moves {@code parser}, which is at the value of {@code field} or at one of its elements, to the next element of
+     * the list, and returns false once there are none left. A null value is read as an empty list.
+     *
+     * @throws IllegalValueException if the value is neither a list nor null.
+     */
+    private static boolean nextElement(JsonParser parser, String field) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (!parser.getParsingContext().inArray()) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_LIST, field));
+        }
+        return parser.nextToken() != JsonToken.END_ARRAY;
+    }
+
+    /**
+     * Writes {@code data} to the data file at {@code filePath}, replacing it only once it has been written in full,
+     * and returns the checksum of its contents.
+     *
+     * @param isCompact whether to write without line breaks and indentation.
+     */
+    public static String write(Path filePath, JsonSerializableAddressBook data, boolean isCompact)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(data);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(new CheckedOutputStream(out, checksum),
+                    isCompact)) {
+                data.writeTo(generator);
+            }
+        });
+        return toString(checksum);
+    }
+
+    private static String toString(Checksum checksum) {
+        return String.format("%08x", checksum.getValue());
+    }
+}
@@ -1,30 +1,105 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one person at a time by {@code JsonAddressBookFile}.
+ *
+ * Changes to the address book are appended to an {@code AddressBookJournal} next to the file instead of rewriting it,
+ * and are replayed on top of the file when it is read, if the journal continues the file as it is now; when it does
+ * not, as the file was replaced by another program, its segments are deleted when the file is read. Once the
+ * journal has grown past a threshold, the file is rewritten to include its changes, and the journal entries it then
+ * includes are deleted.
+ *
+ * The address book is copied into its journal entry or data file on the calling thread, which is then written by an
+ * {@code AddressBookSaver} on a thread of its own. An {@code AddressBookSnapshot} does not change, so it is copied into
+ * its data file by the saver instead, and not at all if a later data file is written in its place. How long a save
+ * waits for its write depends on the {@code SaveDurability} of the storage; the writes that are not waited for report
+ * their failures to the save error handler instead.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The size in bytes that the journal grows to before the data file is rewritten, unless given otherwise. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final long compactionThreshold;
+    private final SaveDurability saveDurability;
+    private final boolean isCompact;
+    private final AddressBookJournal journal;
+    private final AddressBookSaver saver;
+    private Consumer<IOException> saveErrorHandler = e -> logger.warning("Failed to save " + filePath + ": " + e);
+    private volatile Consumer<Path> writeHandler = path -> {};
+
+    /** The last write submitted to the saver. */
+    private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+    /** The size in bytes of the journal entries submitted since the data file was last submitted. */
+    private long journalSize;
+
+    /** The address book to write when flushed, if it has not been submitted to the saver yet. */
+    private ReadOnlyAddressBook unsavedAddressBook;
+
+    /** Whether the journal continues the data file, which is only known once one has been read or written. */
+    private boolean isJournalInUse;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that rewrites the data file at {@code filePath} once its journal
+     * has grown to {@code compactionThreshold} bytes, and waits for each save to be written.
+     */
+    public JsonAddressBookStorage(Path filePath, long compactionThreshold) {
+        this(filePath, compactionThreshold, SaveDurability.IMMEDIATE, 0, false);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} of the data file at {@code filePath} that saves with the given
+     * {@code saveDurability}, making the writes submitted within {@code groupCommitMillis} milliseconds of each
+     * other together, and writes the data file without line breaks and indentation if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, SaveDurability saveDurability, long groupCommitMillis,
+            boolean isCompact) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, saveDurability, groupCommitMillis, isCompact);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} with the given details.
+     */
+    public JsonAddressBookStorage(Path filePath, long compactionThreshold, SaveDurability saveDurability,
+            long groupCommitMillis, boolean isCompact) {
         this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.saveDurability = requireNonNull(saveDurability);
+        this.isCompact = isCompact;
+        journal = new AddressBookJournal(filePath);
+        saver = new AddressBookSaver(filePath, journal,
+                saveDurability == SaveDurability.IMMEDIATE ? 0 : groupCommitMillis, isCompact);
     }
 
     public Path getAddressBookFilePath() {
@@ -44,18 +119,51 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        AddressBook addressBook = new AddressBook();
+        return read(filePath, AddressBookSink.of(addressBook)) ? Optional.of(addressBook) : Optional.empty();
+    }
+
+    @Override
+    public boolean readAddressBook(AddressBookSink sink) throws DataLoadingException {
+        requireNonNull(sink);
+        return read(filePath, sink);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+    /**
+     * Reads the data file at {@code filePath} into {@code sink}, followed by the changes in its journal, and returns
+     * false if it is not found.
+     */
+    private boolean read(Path filePath, AddressBookSink sink) throws DataLoadingException {
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            // so that the journal is not read while it is being written; failures were already reported
+            lastWrite.exceptionally(e -> null).join();
+        }
+        Optional<JsonAddressBookFile> dataFile = JsonAddressBookFile.read(filePath, sink);
+        if (!dataFile.isPresent()) {
+            return false;
         }
 
+        AddressBookJournal fileJournal = isOwnFile ? journal : new AddressBookJournal(filePath);
+        String checksum = dataFile.get().getChecksum();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+            List<AddressBookChange> changes = fileJournal.readAfter(dataFile.get().getJournalSequence(), checksum);
+            if (!changes.isEmpty()) {
+                sink.applyChanges(changes);
+            }
+            logger.fine("Replayed " + changes.size() + " journal entries on top of " + filePath);
+            if (isOwnFile) {
+                journal.continueDataFile(checksum);
+                // the changes left over from a data file replaced by another program would never be replayed
+                journal.deleteSegmentsNotContinuing(checksum);
+                isJournalInUse = true;
+            }
+            return true;
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Journal of " + filePath + " does not apply to it: " + dpe.getMessage());
+            throw new DataLoadingException(dpe);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
         }
     }
 
@@ -66,6 +174,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * A data file other than this storage's own is written before returning, whatever the save durability.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +182,118 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookFile.write(filePath, new JsonSerializableAddressBook(addressBook), isCompact);
+            new AddressBookJournal(filePath).deleteSegmentsUpTo(Long.MAX_VALUE);
+            writeHandler.accept(filePath);
+            return;
+        }
+
+        if (saveDurability == SaveDurability.ON_EXIT) {
+            unsavedAddressBook = addressBook;
+            return;
+        }
+        settle(submitDataFile(addressBook));
+    }
+
+    @Override
+    public void saveAddressBookChange(ReadOnlyAddressBook addressBook, AddressBookChange change) throws IOException {
+        requireAllNonNull(addressBook, change);
+
+        if (!isJournalInUse || saver.hasFailed() || saveDurability == SaveDurability.ON_EXIT) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        if (change.isEmpty()) {
+            return;
+        }
+
+        String entry = journal.nextEntry(change);
+        CompletableFuture<Void> append = saver.append(journal.getLastSequence(), entry);
+        lastWrite = append;
+        journalSize += entry.length();
+        settle(append);
+
+        if (journalSize >= compactionThreshold) {
+            // not waited for, as the change is already saved in the journal
+            reportFailure(submitDataFile(addressBook));
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (unsavedAddressBook != null) {
+            ReadOnlyAddressBook addressBook = unsavedAddressBook;
+            unsavedAddressBook = null;
+            submitDataFile(addressBook);
+        }
+        await(lastWrite);
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        this.saveErrorHandler = requireNonNull(saveErrorHandler);
+    }
+
+    @Override
+    public void setWriteHandler(Consumer<Path> writeHandler) {
+        this.writeHandler = requireNonNull(writeHandler);
+    }
+
+    /**
+     * Submits {@code addressBook} to be written to the data file.
+     */
+    private CompletableFuture<Void> submitDataFile(ReadOnlyAddressBook addressBook) {
+        long sequence = journal.getLastSequence();
+        Supplier<JsonSerializableAddressBook> data;
+        if (addressBook instanceof AddressBookSnapshot) {
+            data = () -> new JsonSerializableAddressBook(addressBook, sequence);
+        } else {
+            JsonSerializableAddressBook copied = new JsonSerializableAddressBook(addressBook, sequence);
+            data = () -> copied;
+        }
+        CompletableFuture<Void> write = saver.writeDataFile(data).thenRun(() -> writeHandler.accept(filePath));
+        lastWrite = write;
+        journalSize = 0;
+        // every entry is either included in the data file, or left over from a journal that does not continue it
+        isJournalInUse = true;
+        return write;
+    }
+
+    /**
+     * Waits for {@code write} to be made if saves are immediate, or reports its failure to the save error handler
+     * otherwise.
+     */
+    private void settle(CompletableFuture<Void> write) throws IOException {
+        if (saveDurability == SaveDurability.IMMEDIATE) {
+            await(write);
+        } else {
+            reportFailure(write);
+        }
+    }
+
+    private void reportFailure(CompletableFuture<Void> write) {
+        write.whenComplete((result, e) -> {
+            if (e != null) {
+                saveErrorHandler.accept(e instanceof IOException ? (IOException) e : new IOException(e));
+            }
+        });
+    }
+
+    /**
+     * Waits for {@code write} to be made.
+     *
+     * @throws IOException if the write failed.
+     */
+    private static void await(CompletableFuture<Void> write) throws IOException {
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
     }
 
 }
@@ -1,35 +1,85 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.UniqueScheduleList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * Each schedule is written once, in a table of schedules keyed by an id local to the file, and persons refer to the
+ * schedules they take part in by those ids. Data files written before the schedule table was introduced have no
+ * version and embed a copy of every schedule in each of its participants; they are still read, and are written in
+ * the current format the next time the address book is saved.
+ *
+ * The file also records the sequence number of the last journal entry whose change it includes, so that only the
+ * entries after it are replayed on top of it.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
+    public static final int CURRENT_VERSION = 2;
+
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains duplicate person id(s).";
+    public static final String MESSAGE_DUPLICATE_SCHEDULE = "Schedules list contains duplicate schedule(s).";
+    public static final String MESSAGE_INVALID_SCHEDULE_ID = "Schedules list contains missing or duplicate id(s).";
+    public static final String MESSAGE_INVALID_PERSON = "Person %1$d in the data file is invalid: %2$s";
+    public static final String MESSAGE_MORE_INVALID_PERSONS = " (%1$d more invalid person(s) were found.)";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data file version %1$d is newer than the supported version " + CURRENT_VERSION + ".";
+
+    static final String VERSION_FIELD = "version";
+    static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+    static final String SCHEDULES_FIELD = "schedules";
+    static final String PERSONS_FIELD = "persons";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
+    private final int version;
+    private final long journalSequence;
+    private final List<JsonAdaptedSchedule> schedules = new ArrayList<>();
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given schedules and persons.
+     * A missing {@code version} stands for a data file written before versions were introduced, and a missing
+     * {@code journalSequence} for one written before the journal was introduced.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
-        this.persons.addAll(persons);
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+            @JsonProperty("journalSequence") Long journalSequence,
+            @JsonProperty("schedules") List<JsonAdaptedSchedule> schedules,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.version = version == null ? 1 : version;
+        this.journalSequence = journalSequence == null ? 0 : journalSequence;
+        if (schedules != null) {
+            this.schedules.addAll(schedules);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
     }
 
     /**
@@ -38,29 +88,242 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook}, which includes the changes of the journal entries up to
+     * {@code journalSequence}, into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long journalSequence) {
+        version = CURRENT_VERSION;
+        this.journalSequence = journalSequence;
+        Map<Schedule, Integer> scheduleIds = new IdentityHashMap<>();
+        for (Schedule schedule : source.getScheduleList()) {
+            addToTable(schedule, scheduleIds, schedules);
+        }
+        adaptPersons(source.getPersonList(), scheduleIds, schedules, persons);
+    }
+
+    /**
+     * Adds {@code source} to {@code persons}, and the schedules they take part in that are not in {@code scheduleIds}
+     * yet to {@code schedules}.
+     */
+    static void adaptPersons(List<Person> source, Map<Schedule, Integer> scheduleIds,
+            List<JsonAdaptedSchedule> schedules, List<JsonAdaptedPerson> persons) {
+        for (Person person : source) {
+            // every schedule of a person should be in the schedule list already, but is added if it is not
+            for (Schedule schedule : person.getSchedules()) {
+                addToTable(schedule, scheduleIds, schedules);
+            }
+            persons.add(new JsonAdaptedPerson(person, scheduleIds));
+        }
+    }
+
+    private static void addToTable(Schedule schedule, Map<Schedule, Integer> scheduleIds,
+            List<JsonAdaptedSchedule> schedules) {
+        if (!scheduleIds.containsKey(schedule)) {
+            scheduleIds.put(schedule, schedules.size());
+            schedules.add(new JsonAdaptedSchedule(schedules.size(), schedule));
+        }
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Writes this address book to {@code generator} one schedule and one person at a time, in the same form that
+     * Jackson writes it in, with the version and schedules before the persons.
+     */
+    void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(VERSION_FIELD, version);
+        generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence);
+        generator.writeArrayFieldStart(SCHEDULES_FIELD);
+        for (JsonAdaptedSchedule schedule : schedules) {
+            generator.writeObject(schedule);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (JsonAdaptedPerson person : persons) {
+            generator.writeObject(person);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are given the schedule instances they refer to, so that every schedule is shared by all of its
+     * participants; the copies embedded in persons by older data files are merged as the persons are added.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        toModelType(AddressBookSink.of(addressBook));
+        return addressBook;
+    }
+
+    /**
+     * Converts this address book into the model's objects as {@link #toModelType()} does, and adds them to
+     * {@code sink}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    void toModelType(AddressBookSink sink) throws IllegalValueException {
+        PersonConverter converter = new PersonConverter(version, schedules, sink);
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            converter.add(jsonAdaptedPerson);
+        }
+        converter.finish();
+    }
+
+    /**
+     * Converts {@code schedules} into the model's {@code Schedule} objects, keyed by their ids.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Map<Integer, Schedule> toScheduleTable(List<JsonAdaptedSchedule> schedules)
+            throws IllegalValueException {
+        Map<Integer, Schedule> scheduleTable = new HashMap<>();
+        UniqueScheduleList seenSchedules = new UniqueScheduleList();
+        for (JsonAdaptedSchedule jsonAdaptedSchedule : schedules) {
+            Schedule schedule = jsonAdaptedSchedule.toModelType();
+            if (jsonAdaptedSchedule.getId() == null || scheduleTable.containsKey(jsonAdaptedSchedule.getId())) {
+                throw new IllegalValueException(MESSAGE_INVALID_SCHEDULE_ID);
             }
-            for (Schedule schedule : person.getSchedules()) {
-                if (!addressBook.hasSchedule(schedule)) {
-                    addressBook.addSchedule(schedule);
+            if (seenSchedules.contains(schedule)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
+            }
+            seenSchedules.add(schedule);
+            scheduleTable.put(jsonAdaptedSchedule.getId(), schedule);
+        }
+        return scheduleTable;
+    }
+
+    /**
+     * Converts the persons of a data file into the model's {@code Person} objects as they are read, and adds them to an
+     * {@code AddressBookSink}.
+     *
+     * Persons are converted in batches: the persons of a batch are converted and validated in parallel on the
+     * common {@code ForkJoinPool}, then added to the sink in order on the calling thread, which checks them for
+     * duplicates against the persons added so far. The batches bound the adapted persons held in memory while a file
+     * is being read, and let the sink use the first persons of a large file before the rest have been read.
+     */
+    static class PersonConverter {
+        private static final int BATCH_SIZE = 1 << 13;
+
+        private final Map<Integer, Schedule> scheduleTable;
+        private final AddressBookSink sink;
+        private final List<JsonAdaptedPerson> batch = new ArrayList<>();
+        /** The position in the data file of the first person of the batch, counting from 1. */
+        private int batchPosition = 1;
+
+        /**
+         * Constructs a converter of the persons of a data file of the given {@code version}, which refer to the given
+         * {@code schedules}, into {@code sink}.
+         *
+         * @throws IllegalValueException if the version is not supported, or the schedules are invalid.
+         */
+        PersonConverter(int version, List<JsonAdaptedSchedule> schedules, AddressBookSink sink)
+                throws IllegalValueException {
+            if (version > CURRENT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            scheduleTable = toScheduleTable(schedules);
+            this.sink = requireNonNull(sink);
+        }
+
+        /**
+         * Adds {@code jsonAdaptedPerson} to the persons to be converted and added to the sink.
+         *
+         * @throws IllegalValueException if there were any data constraints violated by the batch it completes.
+         */
+        void add(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+            batch.add(jsonAdaptedPerson);
+            if (batch.size() >= BATCH_SIZE) {
+                convertBatch();
+            }
+        }
+
+        /**
+         * Converts and adds the persons left, once every person has been added.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        void finish() throws IllegalValueException {
+            if (!batch.isEmpty()) {
+                convertBatch();
+            }
+        }
+
+        private void convertBatch() throws IllegalValueException {
+            List<Conversion> conversions = IntStream.range(0, batch.size()).parallel()
+                    .mapToObj(i -> Conversion.of(batch.get(i), scheduleTable))
+                    .collect(Collectors.toList());
+
+            List<Person> converted = new ArrayList<>();
+            List<String> errors = new ArrayList<>();
+            for (int i = 0; i < conversions.size(); i++) {
+                Conversion conversion = conversions.get(i);
+                if (conversion.error != null) {
+                    errors.add(String.format(MESSAGE_INVALID_PERSON, batchPosition + i, conversion.error.getMessage()));
+                } else {
+                    converted.add(conversion.person);
                 }
             }
-            addressBook.addPerson(person);
+            if (!errors.isEmpty()) {
+                logger.warning("Invalid persons in data file: " + String.join("; ", errors));
+                throw new IllegalValueException(errors.get(0)
+                        + (errors.size() > 1 ? String.format(MESSAGE_MORE_INVALID_PERSONS, errors.size() - 1) : ""));
+            }
+
+            List<Person> added = sink.addPersons(converted);
+            if (added.size() < converted.size()) {
+                Person skipped = converted.get(indexOfFirstSkipped(converted, added));
+                throw new IllegalValueException(sink.hasPerson(skipped)
+                        ? MESSAGE_DUPLICATE_PERSON : MESSAGE_DUPLICATE_PERSON_ID);
+            }
+            batchPosition += batch.size();
+            batch.clear();
+        }
+
+        /**
+         * Returns the index of the first person of {@code converted} that is not in {@code added}, which holds the
+         * others in the same order.
+         */
+        private static int indexOfFirstSkipped(List<Person> converted, List<Person> added) {
+            int i = 0;
+            while (i < added.size() && converted.get(i) == added.get(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    /**
+     * The person converted from a {@code JsonAdaptedPerson}, or the reason it could not be.
+     */
+    private static class Conversion {
+        private final Person person;
+        private final IllegalValueException error;
+
+        private Conversion(Person person, IllegalValueException error) {
+            this.person = person;
+            this.error = error;
+        }
+
+        static Conversion of(JsonAdaptedPerson jsonAdaptedPerson, Map<Integer, Schedule> scheduleTable) {
+            try {
+                return new Conversion(jsonAdaptedPerson.toModelType(scheduleTable), null);
+            } catch (IllegalValueException e) {
+                return new Conversion(null, e);
+            }
         }
-        return addressBook;
     }
 
 }
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +30,28 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void saveAddressBookChange(ReadOnlyAddressBook addressBook, AddressBookChange change) throws IOException;
+
+    @Override
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Records that the data file holds {@code addressBook}, such as once the address book read from it has been added
+     * to another address book a part at a time, so that it is not saved again until it changes.
+     */
+    void setSavedAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Starts watching the data file for changes made by other programs, calling {@code changeHandler} on another
+     * thread once each has settled. Changes made by this storage are not reported.
+     * @throws IOException if the data file cannot be watched.
+     */
+    void watchAddressBookFile(Runnable changeHandler) throws IOException;
+
+    /**
+     * Stops watching the data file, if it is being watched.
+     */
+    void stopWatchingAddressBookFile();
+
 }
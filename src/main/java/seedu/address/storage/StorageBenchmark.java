@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.tag.Interest;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Saves and loads an address book of many persons in each data file format, and prints how long each took and how
+ * large the files are, along with how long building the address book's indexes alone took, as loading the data file
+ * is most of the start-up time of a large address book.
+ *
+ * Run with the arguments {@code [PERSONS] [RUNS]}, such as {@code 100000 3}; the best of the runs is printed.
+ * A million persons needs a heap of about 5 GB, such as with {@code -Xmx5g}, as two copies of the address book are
+ * held at once.
+ */
+public class StorageBenchmark {
+
+    public static final String MESSAGE_RESULT = "%s, %d persons: save %d ms, load %d ms, %.1f MB";
+    public static final String MESSAGE_INDEX_RESULT = "indexes, %d persons: add %d ms";
+
+    private static final int PERSONS_PER_SCHEDULE = 100;
+
+    private final int personCount;
+    private final int runCount;
+    private final AddressBook addressBook;
+
+    /**
+     * Constructs a benchmark of an address book of {@code personCount} persons, each saved and loaded
+     * {@code runCount} times.
+     */
+    public StorageBenchmark(int personCount, int runCount) {
+        this.personCount = personCount;
+        this.runCount = runCount;
+        addressBook = createAddressBook(personCount);
+    }
+
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        System.out.println(new StorageBenchmark(personCount, runCount).run());
+    }
+
+    /**
+     * Saves and loads the address book in each format in a temporary directory, and returns a summary of how long
+     * the fastest run of each took.
+     *
+     * @throws IOException if a data file could not be written.
+     * @throws DataLoadingException if a data file could not be read back, which would make the benchmark meaningless.
+     */
+    public String run() throws IOException, DataLoadingException {
+        Path directory = Files.createTempDirectory("storagebenchmark");
+        try {
+            List<String> results = new ArrayList<>();
+            results.add(runIndexes());
+            results.add(runFormat("json", new JsonAddressBookStorage(directory.resolve("addressbook.json"))));
+            results.add(runFormat("binary", new BinaryAddressBookStorage(directory.resolve("addressbook.bin"))));
+            return String.join(System.lineSeparator(), results);
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Adds every person to a new address book, as loading any data file ends with, and returns how long the
+     * fastest run took.
+     */
+    private String runIndexes() {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        long bestAddMillis = Long.MAX_VALUE;
+        for (int run = 0; run < runCount; run++) {
+            long startTime = System.nanoTime();
+            new AddressBook().addPersons(persons);
+            bestAddMillis = Math.min(bestAddMillis, (System.nanoTime() - startTime) / 1_000_000);
+        }
+        return String.format(MESSAGE_INDEX_RESULT, personCount, bestAddMillis);
+    }
+
+    private String runFormat(String formatName, AddressBookStorage storage) throws IOException, DataLoadingException {
+        long bestSaveMillis = Long.MAX_VALUE;
+        long bestLoadMillis = Long.MAX_VALUE;
+        for (int run = 0; run < runCount; run++) {
+            long startTime = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            storage.flushAddressBook();
+            bestSaveMillis = Math.min(bestSaveMillis, (System.nanoTime() - startTime) / 1_000_000);
+
+            startTime = System.nanoTime();
+            ReadOnlyAddressBook loaded = storage.readAddressBook().orElseThrow(() ->
+                    new DataLoadingException(new IOException("Data file was not saved.")));
+            bestLoadMillis = Math.min(bestLoadMillis, (System.nanoTime() - startTime) / 1_000_000);
+            if (loaded.getPersonList().size() != personCount) {
+                throw new DataLoadingException(new IOException("Data file did not hold every person."));
+            }
+        }
+        double megabytes = Files.size(storage.getAddressBookFilePath()) / 1e6;
+        return String.format(MESSAGE_RESULT, formatName, personCount, bestSaveMillis, bestLoadMillis, megabytes);
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons with two tags and an interest each, in which every
+     * {@value #PERSONS_PER_SCHEDULE} consecutive persons share a schedule.
+     */
+    static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>(personCount);
+        LocalDateTime start = LocalDateTime.of(2024, 2, 24, 10, 0);
+        Schedule schedule = null;
+        for (int i = 0; i < personCount; i++) {
+            if (i % PERSONS_PER_SCHEDULE == 0) {
+                LocalDateTime scheduleStart = start.plusHours(i / PERSONS_PER_SCHEDULE);
+                schedule = new Schedule("Meeting " + i, scheduleStart, scheduleStart.plusHours(1));
+            }
+            ArrayList<Schedule> schedules = new ArrayList<>(List.of(schedule));
+            persons.add(new Person(PersonId.generate(), new Name("Person " + i),
+                    new Phone(String.valueOf(90_000_000 + i)), new Email("person" + i + "@example.com"),
+                    new Address(i + " Clementi Ave " + (i % 10)),
+                    Set.of(new Tag("friends"), new Tag("group" + i % 50)), Set.of(new Interest("hobby" + i % 20)),
+                    schedules));
+        }
+        addressBook.addPersons(persons);
+        return addressBook;
+    }
+}
@@ -1,31 +1,51 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * The address book is only saved to its data file if its version has changed since it was last read from or saved to
+ * the file. The address book methods may be called from more than one thread, and are run one at a time.
  */
 public class StorageManager implements Storage {
 
+    public static final String MESSAGE_SAVE_SUMMARY = "Saved data file %d times, skipped %d saves of unchanged data";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** The version of the address book in the data file, if known, which is forgotten if a save fails later. */
+    private volatile OptionalLong savedVersion = OptionalLong.empty();
+    private long saveCount;
+    private long skippedSaveCount;
+    private volatile Consumer<IOException> saveErrorHandler =
+            e -> logger.warning("Failed to save data file: " + e.getMessage());
+    private volatile Consumer<Path> writeHandler = path -> {};
+    private volatile AddressBookFileWatcher fileWatcher;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        addressBookStorage.setSaveErrorHandler(this::handleSaveError);
+        addressBookStorage.setWriteHandler(this::handleWrite);
     }
 
     // ================ UserPrefs methods ==============================
@@ -54,25 +74,151 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(addressBookStorage.getAddressBookFilePath());
+        addressBook.ifPresent(read -> savedVersion = OptionalLong.of(read.getVersion()));
+        return addressBook;
     }
 
     @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+    public boolean readAddressBook(AddressBookSink sink) throws DataLoadingException {
+        // not synchronized, as the sink may wait for a thread that saves through this storage
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook(sink);
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (skipIfSaved(addressBook)) {
+            return;
+        }
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        markSaved(addressBook);
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public synchronized void saveAddressBookChange(ReadOnlyAddressBook addressBook, AddressBookChange change)
+            throws IOException {
+        if (skipIfSaved(addressBook)) {
+            return;
+        }
+        logger.fine("Attempting to save a change to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChange(addressBook, change);
+        markSaved(addressBook);
+    }
+
+    @Override
+    public synchronized void flushAddressBook() throws IOException {
+        logger.fine("Attempting to flush data file: " + getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+        logger.info(getSaveSummary());
+    }
+
+    @Override
+    public void setSavedAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        savedVersion = OptionalLong.of(addressBook.getVersion());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        this.saveErrorHandler = requireNonNull(saveErrorHandler);
+    }
+
+    @Override
+    public void setWriteHandler(Consumer<Path> writeHandler) {
+        this.writeHandler = requireNonNull(writeHandler);
+    }
+
+    @Override
+    public synchronized void watchAddressBookFile(Runnable changeHandler) throws IOException {
+        requireNonNull(changeHandler);
+        stopWatchingAddressBookFile();
+        fileWatcher = new AddressBookFileWatcher(getAddressBookFilePath(), changeHandler);
+        logger.info("Watching data file " + getAddressBookFilePath() + " for changes by other programs");
+    }
+
+    @Override
+    public synchronized void stopWatchingAddressBookFile() {
+        if (fileWatcher == null) {
+            return;
+        }
+        try {
+            fileWatcher.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching data file: " + e.getMessage());
+        }
+        fileWatcher = null;
+    }
+
+    /**
+     * Returns the number of times the address book was saved to its data file since this was created.
+     */
+    public synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the number of times saving the address book to its data file was skipped, as it was already saved.
+     */
+    public synchronized long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    /**
+     * Returns how many times the address book was saved to its data file, and how many saves were skipped, since this
+     * was created, as logged when the data file is flushed.
+     */
+    public synchronized String getSaveSummary() {
+        return String.format(MESSAGE_SAVE_SUMMARY, saveCount, skippedSaveCount);
+    }
+
+    /**
+     * Returns true, and counts the save as skipped, if {@code addressBook} is the version in the data file.
+     */
+    private boolean skipIfSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (savedVersion.isPresent() && savedVersion.getAsLong() == addressBook.getVersion()) {
+            skippedSaveCount++;
+            logger.fine("Skipped saving data file, unchanged since version " + addressBook.getVersion()
+                    + " (" + skippedSaveCount + " skipped, " + saveCount + " saved)");
+            return true;
+        }
+        return false;
+    }
+
+    private void handleSaveError(IOException e) {
+        // so that the address book is saved again, even if it is left unchanged
+        savedVersion = OptionalLong.empty();
+        saveErrorHandler.accept(e);
+    }
+
+    private void handleWrite(Path writtenPath) {
+        // not synchronized, as a data file may be written on another thread while a save waits for it
+        AddressBookFileWatcher watcher = fileWatcher;
+        if (watcher != null) {
+            watcher.recordWrite(writtenPath);
+        }
+        writeHandler.accept(writtenPath);
+    }
+
+    private void markSaved(ReadOnlyAddressBook addressBook) {
+        savedVersion = OptionalLong.of(addressBook.getVersion());
+        saveCount++;
+        logger.fine("Saved version " + addressBook.getVersion() + " to data file"
+                + " (" + skippedSaveCount + " skipped, " + saveCount + " saved)");
+    }
+
 }
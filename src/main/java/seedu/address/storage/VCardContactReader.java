@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads contacts from a vCard file as described in RFC 6350, one card at a time.
+ * The name is read from FN, the phone and email from the first TEL and EMAIL, the address from the first ADR,
+ * the tags from CATEGORIES and the interests from {@code VCardContactWriter.INTERESTS}. Other properties are ignored.
+ */
+class VCardContactReader implements ContactReader {
+
+    public static final String MESSAGE_UNCLOSED_CARD = "The vCard at line %1$d has no END:VCARD";
+
+    private final BufferedReader reader;
+    /** The next physical line, if it has been read ahead to check whether it continues a folded line. */
+    private String peekedLine;
+    /** Number of physical lines taken from {@code reader}. */
+    private int lineNumber;
+
+    VCardContactReader(BufferedReader reader) {
+        this.reader = requireNonNull(reader);
+    }
+
+    @Override
+    public ContactRecord read() throws IOException, IllegalValueException {
+        String line;
+        do {
+            line = readContentLine();
+            if (line == null) {
+                return null;
+            }
+        } while (!line.equalsIgnoreCase(VCardContactWriter.BEGIN));
+
+        int cardLineNumber = lineNumber;
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<String> tags = new ArrayList<>();
+        List<String> interests = new ArrayList<>();
+        for (line = readContentLine(); line != null; line = readContentLine()) {
+            if (line.equalsIgnoreCase(VCardContactWriter.END)) {
+                return new ContactRecord(cardLineNumber, orEmpty(name), orEmpty(phone), orEmpty(email),
+                        orEmpty(address), tags, interests);
+            }
+
+            int valueStart = findValueStart(line);
+            if (valueStart == -1) {
+                continue;
+            }
+            String property = getPropertyName(line, valueStart);
+            String value = line.substring(valueStart + 1);
+            if (property.equals("FN") && name == null) {
+                name = unescape(value);
+            } else if (property.equals("TEL") && phone == null) {
+                phone = unescape(value);
+            } else if (property.equals("EMAIL") && email == null) {
+                email = unescape(value);
+            } else if (property.equals("ADR") && address == null) {
+                address = String.join(", ", splitNonBlank(value, ';'));
+            } else if (property.equals("CATEGORIES")) {
+                tags.addAll(splitNonBlank(value, ','));
+            } else if (property.equals(VCardContactWriter.INTERESTS)) {
+                interests.addAll(splitNonBlank(value, ','));
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_UNCLOSED_CARD, cardLineNumber));
+    }
+
+    /**
+     * Returns the next logical line, joining the physical lines that continue it, or null if there are no more.
+     */
+    private String readContentLine() throws IOException {
+        String line = takeLine();
+        if (line == null) {
+            return null;
+        }
+        StringBuilder contentLine = new StringBuilder(line);
+        for (String next = peekLine(); next != null && isContinuation(next); next = peekLine()) {
+            contentLine.append(takeLine(), 1, next.length());
+        }
+        return contentLine.toString().trim();
+    }
+
+    private String peekLine() throws IOException {
+        if (peekedLine == null) {
+            peekedLine = reader.readLine();
+        }
+        return peekedLine;
+    }
+
+    private String takeLine() throws IOException {
+        String line = peekLine();
+        peekedLine = null;
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    private static boolean isContinuation(String line) {
+        return line.startsWith(" ") || line.startsWith("\t");
+    }
+
+    /**
+     * Returns the position of the colon separating the property name and parameters from the value in
+     * {@code line}, skipping colons in quoted parameter values, or -1 if there is none.
+     */
+    private static int findValueStart(String line) {
+        boolean isInQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                isInQuotes = !isInQuotes;
+            } else if (c == ':' && !isInQuotes) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the upper-cased name of the property in {@code line}, without its group and parameters.
+     */
+    private static String getPropertyName(String line, int valueStart) {
+        int parametersStart = line.indexOf(';');
+        String name = line.substring(0, parametersStart == -1 || parametersStart > valueStart
+                ? valueStart : parametersStart);
+        return name.substring(name.lastIndexOf('.') + 1).trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits {@code value} at the separators that are not escaped, and returns the non-blank parts unescaped.
+     */
+    private static List<String> splitNonBlank(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || value.charAt(i) == separator) {
+                String part = unescape(value.substring(start, i)).trim();
+                if (!part.isEmpty()) {
+                    parts.add(part);
+                }
+                start = i + 1;
+            } else if (value.charAt(i) == '\\') {
+                i++;
+            }
+        }
+        return parts;
+    }
+
+    private static String unescape(String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString().trim();
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes contacts to a vCard file as described in RFC 6350, one version 3.0 card per contact.
+ * Tags are written as CATEGORIES, and interests as the extended property {@code INTERESTS}.
+ */
+class VCardContactWriter implements ContactWriter {
+
+    public static final String BEGIN = "BEGIN:VCARD";
+    public static final String END = "END:VCARD";
+    public static final String INTERESTS = "X-INTERESTS";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final BufferedWriter writer;
+
+    VCardContactWriter(BufferedWriter writer) {
+        this.writer = requireNonNull(writer);
+    }
+
+    @Override
+    public void write(ContactRecord record) throws IOException {
+        writeLine(BEGIN);
+        writeLine("VERSION:3.0");
+        writeLine("FN:" + escape(record.getName()));
+        writeLine("N:;" + escape(record.getName()) + ";;;");
+        writeLine("TEL:" + escape(record.getPhone()));
+        writeLine("EMAIL:" + escape(record.getEmail()));
+        if (!record.getAddress().isEmpty()) {
+            writeLine("ADR:;;" + escape(record.getAddress()) + ";;;;");
+        }
+        if (!record.getTags().isEmpty()) {
+            writeLine("CATEGORIES:" + escapeList(record.getTags()));
+        }
+        if (!record.getInterests().isEmpty()) {
+            writeLine(INTERESTS + ":" + escapeList(record.getInterests()));
+        }
+        writeLine(END);
+    }
+
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static String escapeList(List<String> values) {
+        List<String> escapedValues = new ArrayList<>();
+        for (String value : values) {
+            escapedValues.add(escape(value));
+        }
+        return String.join(",", escapedValues);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace(",", "\\,")
+                .replace(";", "\\;")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+}
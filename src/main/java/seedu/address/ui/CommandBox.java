@@ -3,15 +3,15 @@ package seedu.address.ui;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 
 
@@ -31,6 +31,9 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -42,7 +45,8 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Handles the Enter button pressed event.
+     * Handles the Enter button pressed event. The command box is cleared straight away, so that the next command can be
+     * entered while this one runs, and the command is put back if it fails and nothing else has been entered since.
      */
     @FXML
     private void handleCommandEntered() {
@@ -51,12 +55,24 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            if (error == null) {
+                return;
+            }
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                commandTextField.end();
+            }
             setStyleToIndicateCommandFailure();
-        }
+        });
+    }
+
+    /**
+     * Shows whether commands are running or waiting to be run.
+     */
+    public void setBusy(boolean isBusy) {
+        busyIndicator.setVisible(isBusy);
     }
 
     /**
@@ -78,7 +94,7 @@ public class CommandBox extends UiPart<Region> {
         String commandInput = commandText.trim();
         final List<String> commandList = Arrays.asList(
                 "add", "list", "edit", "find", "delete", "clear", "addSched",
-                "deleteSched", "editSched", "exit", "help"
+                "deleteSched", "editSched", "undo", "redo", "exit", "help"
         );
 
         // Check if the entered command matches any suggestions
@@ -129,11 +145,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns a future completed on the JavaFX application thread with its
+         * result, or exceptionally with the {@code CommandException} or {@code ParseException} it failed with.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
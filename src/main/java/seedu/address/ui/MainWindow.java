@@ -4,10 +4,15 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -34,6 +39,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.util.BatchedObservableList;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -42,6 +48,10 @@ import seedu.address.model.schedule.Schedule;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading contacts...";
+    private static final String MESSAGE_LOADED = "Loaded %1$d contacts.";
+    private static final String MESSAGE_COMMAND_QUEUED =
+            "Still loading contacts. \"%1$s\" will be run once they are loaded.";
 
     /**
      * I added this to try to display it in the information box. Couldn't do it now.
@@ -55,9 +65,18 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private final Executor modelExecutor;
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    private boolean isWaitingForLoad;
+    private int runningCommandCount;
+
+    // the model's lists, as followed on this thread
+    private final ObservableList<Person> persons;
+    private final ObservableList<Schedule> schedules;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private CommandBox commandBox;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -92,14 +111,21 @@ public class MainWindow extends UiPart<Stage> {
 
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are executed with
+     * {@code modelExecutor}, the executor of every task that reads or changes the model.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Executor modelExecutor) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.modelExecutor = modelExecutor;
+        // the lists hold copies, as the persons and schedules of the model are changed in place on its own thread
+        persons = onModelThread(() -> BatchedObservableList.followLater(logic.getFilteredPersonList(),
+                logic::getUnchangingCopy, Platform::runLater));
+        schedules = onModelThread(() -> BatchedObservableList.followLater(logic.getAddressBook().getScheduleList(),
+                logic::getUnchangingCopy, Platform::runLater));
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -152,18 +178,29 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(persons);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        // saves finished after their command has returned report failures from the saving thread
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+        // set before checking whether the address book is still loading, so that the end of the load is not missed
+        logic.setLoadedHandler(() -> {
+            int loadedCount = logic.getAddressBook().getPersonList().size();
+            Platform.runLater(() -> handleLoaded(loadedCount));
+        });
+        if (logic.isLoading()) {
+            isWaitingForLoad = true;
+            resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        }
 
         schedulePanelPlaceholder.getChildren().add(weeklyScheduleView.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -180,9 +217,6 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     private void populatePersonNameComboBox() {
-        // Example class names, replace with actual data retrieval logic
-        ObservableList<Person> persons = logic.getFilteredPersonList();
-        ObservableList<Schedule> schedules = logic.getAddressBook().getScheduleList();
         personComboBox.setItems(persons);
         // Use a cell factory to display the names of the Person objects
         personComboBox.setCellFactory(comboBox -> new ListCell<Person>() {
@@ -374,29 +408,76 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows that the address book has been loaded with {@code loadedCount} contacts, then executes the commands entered
+     * while it was loading, in order.
+     */
+    private void handleLoaded(int loadedCount) {
+        isWaitingForLoad = false;
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADED, loadedCount));
+        while (!queuedCommands.isEmpty()) {
+            executeCommand(queuedCommands.poll());
+        }
+    }
+
+    /**
+     * Starts executing the command with the model's executor, after the commands entered before it, and returns a
+     * future completed on this thread with the result.
      *
      * @see Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        if (isWaitingForLoad) {
+            queuedCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return CompletableFuture.completedFuture(new CommandResult(feedback));
+        }
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        runningCommandCount++;
+        commandBox.setBusy(true);
+        modelExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                Platform.runLater(() -> handleCommandResult(commandResult, result));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                Platform.runLater(() -> handleCommandFailure(commandText, e, result));
             }
+        });
+        return result;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void handleCommandResult(CommandResult commandResult, CompletableFuture<CommandResult> result) {
+        finishCommand();
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowHelp()) {
+            handleHelp();
         }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        result.complete(commandResult);
+    }
+
+    private void handleCommandFailure(String commandText, Exception e, CompletableFuture<CommandResult> result) {
+        finishCommand();
+        logger.info("An error occurred while executing command: " + commandText);
+        resultDisplay.setFeedbackToUser(e.getMessage());
+        result.completeExceptionally(e);
+    }
+
+    private void finishCommand() {
+        runningCommandCount--;
+        commandBox.setBusy(runningCommandCount > 0);
+    }
+
+    /**
+     * Returns the value supplied by {@code supplier} on the model's thread, once the tasks given to it before have run.
+     */
+    private <T> T onModelThread(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, modelExecutor).join();
     }
 }
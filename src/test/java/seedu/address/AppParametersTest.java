@@ -39,10 +39,32 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_importAndExportJsonPaths_success() {
+        parametersStub.namedParameters.put("import-json", "in.json");
+        parametersStub.namedParameters.put("export-json", "a\0");
+        expected.setImportJsonPath(Paths.get("in.json"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_apiPort_success() {
+        parametersStub.namedParameters.put("api-port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        // invalid ports are ignored
+        parametersStub.namedParameters.put("api-port", "65536");
+        assertEquals(new AppParameters(), AppParameters.parse(parametersStub));
+        parametersStub.namedParameters.put("api-port", "http");
+        assertEquals(new AppParameters(), AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", importJsonPath=null, exportJsonPath=null, apiPort=null}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -0,0 +1,88 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private StorageManager storage;
+    private Model model;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void run_script_commandsExecutedAndTimed() throws Exception {
+        String script = "# a comment\n" + ListCommand.COMMAND_WORD + "\n\n" + "unknownCommand\n"
+                + ClearCommand.COMMAND_WORD + "\n";
+        int failedCount = run(script);
+
+        assertEquals(1, failedCount);
+        assertEquals(new AddressBook(), model.getAddressBook());
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("> " + ListCommand.COMMAND_WORD));
+        assertTrue(printed.contains(ClearCommand.MESSAGE_SUCCESS));
+        assertEquals(3, printed.split("\\(\\d+\\.\\d{3} ms\\)").length - 1);
+        assertTrue(printed.contains("Ran 3 command(s), 1 failed"));
+    }
+
+    @Test
+    public void run_saveAtEnd_savedOnce() throws Exception {
+        logic.setCommandsPerSave(0);
+        run(ClearCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD + "\n" + ClearCommand.COMMAND_WORD + "\n");
+        assertEquals(1, storage.getSaveCount());
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        run("exit\n" + ClearCommand.COMMAND_WORD + "\n");
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void parseNamedParameters() {
+        Map<String, String> namedParameters = HeadlessApp.parseNamedParameters(
+                new String[] {HeadlessApp.PARAMETER_HEADLESS, "--script=commands.txt", "--save-every=0", "-x=y"});
+        assertEquals(Map.of("script", "commands.txt", "save-every", "0"), namedParameters);
+    }
+
+    private int run(String script) throws Exception {
+        return new HeadlessApp(logic, storage).run(new BufferedReader(new StringReader(script)),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+}
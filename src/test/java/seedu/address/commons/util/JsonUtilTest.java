@@ -3,7 +3,9 @@ package seedu.address.commons.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +41,23 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_unchangedFile_notRewritten() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE);
+        FileTime past = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(SERIALIZATION_FILE, past);
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE);
+        assertEquals(past, Files.getLastModifiedTime(SERIALIZATION_FILE));
+
+        // a changed file is rewritten
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{}");
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE);
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
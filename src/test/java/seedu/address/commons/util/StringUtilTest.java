@@ -123,6 +123,44 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for character classes --------------------------------------
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        assertTrue(StringUtil.isAsciiAlphanumeric('a'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('Z'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('0'));
+        assertFalse(StringUtil.isAsciiAlphanumeric('_'));
+        assertFalse(StringUtil.isAsciiAlphanumeric(' '));
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u00e9')); // non-ASCII letter
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u0663')); // non-ASCII digit
+    }
+
+    @Test
+    public void isAsciiDigit() {
+        assertTrue(StringUtil.isAsciiDigit('0'));
+        assertTrue(StringUtil.isAsciiDigit('9'));
+        assertFalse(StringUtil.isAsciiDigit('a'));
+        assertFalse(StringUtil.isAsciiDigit('\u0663'));
+    }
+
+    @Test
+    public void isRegexWhitespace() {
+        assertTrue(StringUtil.isRegexWhitespace(' '));
+        assertTrue(StringUtil.isRegexWhitespace('\t'));
+        assertTrue(StringUtil.isRegexWhitespace('\u000B'));
+        assertFalse(StringUtil.isRegexWhitespace('a'));
+        assertFalse(StringUtil.isRegexWhitespace('\u00a0')); // non-breaking space
+    }
+
+    @Test
+    public void isLineTerminator() {
+        assertTrue(StringUtil.isLineTerminator('\n'));
+        assertTrue(StringUtil.isLineTerminator('\u2028'));
+        assertFalse(StringUtil.isLineTerminator(' '));
+        assertFalse(StringUtil.isLineTerminator('\t'));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,118 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final AtomicInteger taskCount = new AtomicInteger();
+    private final Executor countingExecutor = task -> {
+        taskCount.incrementAndGet();
+        task.run();
+    };
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void load_dataFile_addedInBatches() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        int size = AddressBookLoader.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        storage.saveAddressBook(addressBook);
+
+        AtomicInteger loadedCount = new AtomicInteger();
+        new AddressBookLoader(model, storage, countingExecutor).load(loadedCount::incrementAndGet);
+        assertEquals(addressBook, model.getAddressBook());
+        assertEquals(1, loadedCount.get());
+        // three batches of persons, then the last task that finishes loading
+        assertEquals(4, taskCount.get());
+
+        // the loaded address book is known to be in the data file already
+        long saveCount = storage.getSaveCount();
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(saveCount, storage.getSaveCount());
+    }
+
+    @Test
+    public void load_missingDataFile_sampleAddressBookNotMarkedSaved() throws Exception {
+        new AddressBookLoader(model, storage, countingExecutor).load(() -> {});
+        assertEquals(SampleDataUtil.getSampleAddressBook(), model.getAddressBook());
+
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(1, storage.getSaveCount());
+    }
+
+    @Test
+    public void load_invalidDataFile_emptyAddressBook() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withId("first-id").build());
+        addressBook.addPerson(new PersonBuilder().withId("second-id").withName("Bob Choo").withPhone("92222222")
+                .withEmail("bob@example.com").build());
+        storage.saveAddressBook(addressBook);
+        // the first person is added to the model before the second is found to share its id
+        Path filePath = storage.getAddressBookFilePath();
+        Files.write(filePath, Files.readString(filePath).replace("second-id", "first-id")
+                .getBytes(StandardCharsets.UTF_8));
+
+        new AddressBookLoader(model, storage, countingExecutor).load(() -> {});
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void loadAddressBook_logicManager_loadingUntilLoaded() throws Exception {
+        LogicManager logic = new LogicManager(model, storage);
+        assertFalse(logic.isLoading());
+
+        CountDownLatch isLoaded = new CountDownLatch(1);
+        logic.setLoadedHandler(isLoaded::countDown);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        logic.loadAddressBook(task -> {
+            try {
+                canFinish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            task.run();
+        });
+        assertTrue(logic.isLoading());
+
+        canFinish.countDown();
+        assertTrue(isLoaded.await(10, TimeUnit.SECONDS));
+        assertFalse(logic.isLoading());
+        assertEquals(SampleDataUtil.getSampleAddressBook(), model.getAddressBook());
+    }
+}
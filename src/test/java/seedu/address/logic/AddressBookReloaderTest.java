@@ -0,0 +1,102 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookReloaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path filePath;
+    private StorageManager storage;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = temporaryFolder.resolve("addressBook.json");
+        storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        storage.saveAddressBook(getTypicalAddressBook());
+        model = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        storage.stopWatchingAddressBookFile();
+    }
+
+    @Test
+    public void reload_changedDataFile_appliedAsOneChange() throws Exception {
+        AddressBook changed = new AddressBook(model.getAddressBook());
+        Person first = changed.getPersonList().get(0);
+        changed.setPerson(first, new PersonBuilder(first).withPhone("99999999").build());
+        changed.removePerson(changed.getPersonList().get(1));
+        writeAsAnotherProgram(changed);
+
+        int[] changeCount = new int[1];
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+        new AddressBookReloader(model, storage, Runnable::run).reload();
+        assertEquals(changed, model.getAddressBook());
+        assertEquals(1, changeCount[0]);
+
+        // the reloaded address book is known to be in the data file already
+        long saveCount = storage.getSaveCount();
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(saveCount, storage.getSaveCount());
+    }
+
+    @Test
+    public void reload_invalidDataFile_modelUnchanged() throws Exception {
+        AddressBook original = new AddressBook(model.getAddressBook());
+        Files.write(filePath, "not an address book".getBytes());
+        new AddressBookReloader(model, storage, Runnable::run).reload();
+        assertEquals(original, model.getAddressBook());
+    }
+
+    @Test
+    public void watchAddressBookFile_changeByAnotherProgram_reported() throws Exception {
+        CountDownLatch isChanged = new CountDownLatch(1);
+        storage.watchAddressBookFile(isChanged::countDown);
+
+        // a save by this storage is not reported
+        AddressBook addressBook = new AddressBook(model.getAddressBook());
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertFalse(isChanged.await(1, TimeUnit.SECONDS));
+
+        writeAsAnotherProgram(getTypicalAddressBook());
+        assertTrue(isChanged.await(10, TimeUnit.SECONDS));
+    }
+
+    private void writeAsAnotherProgram(AddressBook addressBook) throws Exception {
+        Path otherPath = temporaryFolder.resolve("other.json");
+        new JsonAddressBookStorage(otherPath).saveAddressBook(addressBook);
+        Files.copy(otherPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
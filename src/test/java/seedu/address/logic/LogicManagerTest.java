@@ -41,6 +41,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -48,7 +49,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -70,6 +71,36 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_saveSkipped() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD); // the address book has not been saved yet
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, storage.getSaveCount());
+        assertEquals(1, storage.getSkippedSaveCount());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(2, storage.getSaveCount());
+    }
+
+    @Test
+    public void execute_commandThrowsError_transactionRolledBack() throws Exception {
+        model = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                super.addPerson(person);
+                throw new AssertionError("dummy assertion error");
+            }
+        };
+        logic = new LogicManager(model, storage);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        assertThrows(AssertionError.class, () -> logic.execute(addCommand));
+        assertEquals(new ModelManager(), model);
+
+        // the next command starts a transaction of its own
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, new ModelManager());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -0,0 +1,47 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelExecutorTest {
+
+    private final ModelExecutor executor = new ModelExecutor();
+
+    @Test
+    public void execute_tasksRunInOrderOnOneThread() {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 100; i++) {
+            int task = i;
+            executor.execute(() -> {
+                order.add(task);
+                threads.add(Thread.currentThread());
+            });
+        }
+        assertTrue(executor.shutdown(5000));
+
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), order);
+        assertNotSame(Thread.currentThread(), threads.get(0));
+        assertTrue(threads.stream().allMatch(thread -> thread == threads.get(0)));
+    }
+
+    @Test
+    public void execute_failingTask_laterTasksStillRun() {
+        List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+        executor.execute(() -> {
+            throw new IllegalStateException("failed");
+        });
+        executor.execute(() -> ran.add(1));
+        assertTrue(executor.shutdown(5000));
+        assertEquals(Collections.singletonList(1), ran);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null));
+    }
+
+    @Test
+    public void execute_csv_importedBackUnchanged() throws Exception {
+        assertExportedAndImportedBack(testFolder.resolve("nested").resolve("contacts.csv"));
+    }
+
+    @Test
+    public void execute_vCard_importedBackUnchanged() throws Exception {
+        assertExportedAndImportedBack(testFolder.resolve("contacts.VCF"));
+    }
+
+    @Test
+    public void execute_filteredList_onlyDisplayedPersonsExported() throws Exception {
+        Path file = testFolder.resolve("friends.csv");
+        model.updateFilteredPersonList(DANIEL::equals);
+        expectedModel.updateFilteredPersonList(DANIEL::equals);
+        assertCommandSuccess(new ExportCommand(file), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), expectedModel);
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(file).execute(importedModel);
+        assertEquals(Collections.singletonList(DANIEL), importedModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirstCommand = new ExportCommand(Paths.get("first.csv"));
+        ExportCommand exportSecondCommand = new ExportCommand(Paths.get("second.vcf"));
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportFirstCommand.equals(exportSecondCommand));
+    }
+
+    private void assertExportedAndImportedBack(Path file) throws Exception {
+        int count = model.getFilteredPersonList().size();
+        assertCommandSuccess(new ExportCommand(file), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, count, file), expectedModel);
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(file).execute(importedModel);
+        assertEquals(model.getAddressBook(), new AddressBook(importedModel.getAddressBook()));
+    }
+}
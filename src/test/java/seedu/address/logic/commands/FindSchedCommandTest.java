@@ -0,0 +1,131 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_SCHEDULES_LISTED_OVERVIEW;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindSchedCommand}.
+ */
+public class FindSchedCommandTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 4, 15, 0, 0);
+    private static final LocalDateTime NEXT_MONDAY = LocalDateTime.of(2024, 4, 22, 0, 0);
+
+    private final Schedule lecture = new ScheduleBuilder().withSchedName("Lecture")
+            .withStartTime(LocalDateTime.of(2024, 4, 15, 10, 0)).withEndTime(LocalDateTime.of(2024, 4, 15, 12, 0))
+            .withParticipants(new ArrayList<>(Arrays.asList("Alice Pauline", "Benson Meier"))).build();
+    private final Schedule tutorial = new ScheduleBuilder().withSchedName("Tutorial")
+            .withStartTime(LocalDateTime.of(2024, 4, 17, 14, 0)).withEndTime(LocalDateTime.of(2024, 4, 17, 15, 0))
+            .withParticipants(new ArrayList<>(Arrays.asList("Benson Meier"))).build();
+    private final Schedule dinner = new ScheduleBuilder().withSchedName("Dinner")
+            .withStartTime(LocalDateTime.of(2024, 4, 22, 18, 0)).withEndTime(LocalDateTime.of(2024, 4, 22, 20, 0))
+            .withParticipants(new ArrayList<>(Arrays.asList("Alice Pauline"))).build();
+
+    private final Model model = new ModelManager(getAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindSchedCommand findFirstCommand = new FindSchedCommand(MONDAY, NEXT_MONDAY, Optional.empty());
+        FindSchedCommand findSecondCommand = new FindSchedCommand(MONDAY, NEXT_MONDAY, Optional.of("Alice"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindSchedCommand(MONDAY, NEXT_MONDAY, Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different participant -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different range -> returns false
+        assertFalse(findFirstCommand.equals(new FindSchedCommand(MONDAY, MONDAY.plusDays(1), Optional.empty())));
+    }
+
+    @Test
+    public void execute_week_schedulesInWeekFound() {
+        CommandResult result = new FindSchedCommand(MONDAY, NEXT_MONDAY, Optional.empty()).execute(model);
+        assertEquals(expectedMessage(lecture, tutorial), result.getFeedbackToUser());
+        // the schedule list keeps its own order
+        assertEquals(Arrays.asList(tutorial, lecture), model.getFilteredScheduleList());
+    }
+
+    @Test
+    public void execute_participant_onlyTheirSchedulesFound() {
+        CommandResult result = new FindSchedCommand(MONDAY, NEXT_MONDAY.plusDays(1), Optional.of("alice pauline"))
+                .execute(model);
+        assertEquals(expectedMessage(lecture, dinner), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(dinner, lecture), model.getFilteredScheduleList());
+    }
+
+    @Test
+    public void execute_partialOverlap_scheduleFound() {
+        CommandResult result = new FindSchedCommand(LocalDateTime.of(2024, 4, 15, 11, 0),
+                LocalDateTime.of(2024, 4, 15, 11, 30), Optional.empty()).execute(model);
+        assertEquals(expectedMessage(lecture), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noSchedulesInRange_noScheduleFound() {
+        CommandResult result = new FindSchedCommand(MONDAY.minusWeeks(1), MONDAY, Optional.empty()).execute(model);
+        assertEquals(expectedMessage(), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredScheduleList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindSchedCommand findSchedCommand = new FindSchedCommand(MONDAY, NEXT_MONDAY, Optional.of("Alice"));
+        String expected = FindSchedCommand.class.getCanonicalName() + "{from=" + MONDAY + ", to=" + NEXT_MONDAY
+                + ", participantName=Alice}";
+        assertEquals(expected, findSchedCommand.toString());
+    }
+
+    private AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        // added out of time order
+        addressBook.addSchedule(dinner, Arrays.asList(alice));
+        addressBook.addSchedule(tutorial, Arrays.asList(benson));
+        addressBook.addSchedule(lecture, Arrays.asList(alice, benson));
+        return addressBook;
+    }
+
+    private static String expectedMessage(Schedule... schedules) {
+        List<Schedule> expectedSchedules = Arrays.asList(schedules);
+        StringBuilder expected = new StringBuilder(
+                String.format(MESSAGE_SCHEDULES_LISTED_OVERVIEW, expectedSchedules.size()));
+        for (int i = 0; i < expectedSchedules.size(); i++) {
+            expected.append("\n").append(i + 1).append(". ").append(Messages.format(expectedSchedules.get(i)));
+        }
+        return expected.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,tags,interests\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_csvWithDuplicates_newPersonsAdded() throws Exception {
+        Path file = write("contacts.csv", HEADER
+                + "Alice Pauline,94351253,alice@example.com,,,\n" // already in the address book
+                + "Amy Bee,91111111,amy@example.com,\"Block 312, Amy Street 1\",friend,\n"
+                + "amy bee,93333333,AMY@example.com,,,\n" // same as the previous record
+                + "Bob Choo,92222222,bob@example.com,\"Block 123, Bobby Street 3\",husband;friend,\n");
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        assertCommandSuccess(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, file, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRecord_nothingAdded() throws Exception {
+        Path file = write("contacts.csv", HEADER
+                + "Amy Bee,91111111,amy@example.com,,,\n"
+                + "Bob Choo,92222222,not an email,,,\n");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_RECORD, 3, file, Email.MESSAGE_CONSTRAINTS));
+    }
+
+    @Test
+    public void execute_malformedFile_nothingAdded() throws Exception {
+        Path file = write("contacts.vcf", "BEGIN:VCARD\nFN:Amy Bee\nTEL:91111111\nEMAIL:amy@example.com\n");
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_READ_ERROR, file,
+                "The vCard at line 1 has no END:VCARD"));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_READ_ERROR, file, file));
+    }
+
+    @Test
+    public void execute_manyRecords_allAddedQuickly() throws Exception {
+        int count = 20 * ImportCommand.BATCH_SIZE + 1;
+        Path file = testFolder.resolve("many.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            for (int i = 0; i < count; i++) {
+                writer.write(String.format("Person %1$d,9%1$07d,person%1$d@example.com,Street %1$d,tag%2$d,\n",
+                        i, i % 50));
+            }
+        }
+
+        Model emptyModel = new ModelManager();
+        CommandResult result = assertTimeoutPreemptively(Duration.ofSeconds(30), () ->
+                new ImportCommand(file).execute(emptyModel));
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, count, file, 0), result.getFeedbackToUser());
+        assertEquals(count, emptyModel.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.vcf"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = Paths.get("contacts.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + file + "}";
+        assertEquals(expected, new ImportCommand(file).toString());
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        FileUtil.writeToFile(file, content);
+        return file;
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +139,20 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_manyArguments_linearTime() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        for (int i = 0; i < 100000; i++) {
+            argsString.append(i % 2 == 0 ? " p/" : " -t ").append(i);
+        }
+        ArgumentMultimap argMultimap = assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT, hatQ));
+        assertPreamblePresent(argMultimap, "preamble");
+        assertEquals(50000, argMultimap.getAllValues(pSlash).size());
+        assertEquals("99999", argMultimap.getValue(dashT).get());
+        assertArgumentAbsent(argMultimap, hatQ);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.ContactFileFormat;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_notContactFile_throwsParseException() {
+        assertParseFailure(parser, " contacts.json", ContactFileFormat.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " csv", ContactFileFormat.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " bad\u0000path.csv", ContactFileFormat.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " data/contacts.csv ", new ExportCommand(Paths.get("data/contacts.csv")));
+        assertParseSuccess(parser, " my contacts.VCF", new ExportCommand(Paths.get("my contacts.VCF")));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.person.TagFilterPredicate.Clause;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_noConditions_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " friends", expectedMessage);
+        assertParseFailure(parser, " friends t/colleagues", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTagName_throwsParseException() {
+        assertParseFailure(parser, " t/friends|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " i/!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/#friends", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new TagFilterPredicate(Arrays.asList(
+                new Clause(false, false, Arrays.asList("friends", "colleagues")),
+                new Clause(false, true, Arrays.asList("owesMoney")),
+                new Clause(true, false, Arrays.asList("hiking")))));
+        assertParseSuccess(parser, " t/friends|colleagues t/!owesMoney i/hiking", expectedFilterCommand);
+
+        // whitespace around names and operators, prefixes in any order
+        assertParseSuccess(parser, " i/ hiking t/ friends | colleagues t/ ! owesMoney ", expectedFilterCommand);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATETIME_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_START_LATE_THAN_END;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindSchedCommand;
+import seedu.address.model.person.Name;
+
+public class FindSchedCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSchedCommand.MESSAGE_USAGE);
+
+    private FindSchedCommandParser parser = new FindSchedCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " start/2024-04-15", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " end/2024-04-21", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 start/2024-04-15 end/2024-04-21", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_dates_returnsWholeDays() {
+        FindSchedCommand expectedCommand = new FindSchedCommand(LocalDateTime.of(2024, 4, 15, 0, 0),
+                LocalDateTime.of(2024, 4, 22, 0, 0), Optional.empty());
+        assertParseSuccess(parser, " start/2024-04-15 end/2024-04-21", expectedCommand);
+        assertParseSuccess(parser, " end/ 2024-04-21  start/ 2024-04-15 ", expectedCommand);
+    }
+
+    @Test
+    public void parse_dateTimesAndName_returnsFindSchedCommand() {
+        FindSchedCommand expectedCommand = new FindSchedCommand(LocalDateTime.of(2024, 4, 15, 9, 0),
+                LocalDateTime.of(2024, 4, 15, 12, 30), Optional.of("Alex Yeoh"));
+        assertParseSuccess(parser, " start/2024-04-15 09:00 end/2024-04-15 12:30 n/Alex Yeoh", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidDateTime_failure() {
+        assertParseFailure(parser, " start/15-04-2024 end/2024-04-21",
+                String.format(MESSAGE_INVALID_DATETIME_FORMAT, FindSchedCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " start/2024-04-15 end/2024-04-21 25:00",
+                String.format(MESSAGE_INVALID_DATETIME_FORMAT, FindSchedCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_startNotBeforeEnd_failure() {
+        assertParseFailure(parser, " start/2024-04-15 12:00 end/2024-04-15 12:00",
+                String.format(MESSAGE_START_LATE_THAN_END, FindSchedCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " start/2024-04-21 end/2024-04-15",
+                String.format(MESSAGE_START_LATE_THAN_END, FindSchedCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidName_failure() {
+        assertParseFailure(parser, " start/2024-04-15 end/2024-04-21 n/James&", Name.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddSchedCommand;
+
+public class ParserBenchmarkTest {
+
+    @Test
+    public void createInputs_parsedAsAddSchedCommands() throws Exception {
+        List<String> inputs = ParserBenchmark.createInputs(300, 40);
+        AddressBookParser parser = new AddressBookParser();
+        for (String input : inputs) {
+            assertTrue(parser.parseCommand(input) instanceof AddSchedCommand);
+        }
+        assertEquals(ParserBenchmark.createInputs(1, 1).size(), inputs.size());
+    }
+
+    @Test
+    public void run_returnsSummary() throws Exception {
+        assertTrue(new ParserBenchmark(10, 5, 0).run().contains("parses/s"));
+    }
+}
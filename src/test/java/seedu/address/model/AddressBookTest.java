@@ -2,13 +2,26 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_DISCUSSION;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_MEETING;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.END_5PM;
+import static seedu.address.testutil.TypicalSchedules.END_8PM;
+import static seedu.address.testutil.TypicalSchedules.START_10AM;
+import static seedu.address.testutil.TypicalSchedules.START_3PM;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,11 +30,13 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
 
 public class AddressBookTest {
 
@@ -84,12 +99,573 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void addPerson_schedulesOfPersons_sharedAndIndexed() {
+        Person amy = new PersonBuilder().withSchedules(schedules(meeting())).build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).withSchedules(schedules(meeting())).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+
+        assertEquals(1, addressBook.getScheduleList().size());
+        Schedule shared = addressBook.getScheduleList().get(0);
+        assertSame(shared, amy.getSchedules().get(0));
+        assertSame(shared, bob.getSchedules().get(0));
+        assertTrue(addressBook.isParticipant(amy, meeting()));
+        assertTrue(addressBook.isParticipant(bob, meeting()));
+    }
+
+    @Test
+    public void addSchedule_existingSchedule_participantsMerged() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+
+        addressBook.addSchedule(meeting(), Arrays.asList(amy));
+        addressBook.addSchedule(meeting(), Arrays.asList(bob));
+
+        Schedule shared = addressBook.getSameSchedule(meeting());
+        assertEquals(Arrays.asList(amy.getName().fullName, VALID_NAME_BOB), shared.getPersonList());
+        assertSame(shared, amy.getSchedules().get(0));
+        assertSame(shared, bob.getSchedules().get(0));
+    }
+
+    @Test
+    public void setPerson_renamedParticipant_renamedInSchedule() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy, bob));
+
+        Person renamedAmy = new PersonBuilder(amy).withName(VALID_NAME_AMY + " Tan").build();
+        addressBook.setPerson(amy, renamedAmy);
+
+        Schedule shared = addressBook.getSameSchedule(meeting());
+        assertEquals(Arrays.asList(VALID_NAME_AMY + " Tan", VALID_NAME_BOB), shared.getPersonList());
+        assertSame(shared, bob.getSchedules().get(0));
+        assertTrue(addressBook.isParticipant(renamedAmy, meeting()));
+    }
+
+    @Test
+    public void removePerson_participant_removedFromSchedules() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy, bob));
+        addressBook.addSchedule(discussion(), Arrays.asList(amy));
+
+        addressBook.removePerson(amy);
+
+        // the discussion is left without participants
+        assertFalse(addressBook.hasSchedule(discussion()));
+        assertEquals(Collections.singletonList(VALID_NAME_BOB),
+                addressBook.getSameSchedule(meeting()).getPersonList());
+    }
+
+    @Test
+    public void removeSchedule_participant_otherParticipantsKeepSchedule() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy, bob));
+
+        addressBook.removeSchedule(amy, amy.getSchedules().get(0));
+        assertTrue(amy.getSchedules().isEmpty());
+        assertFalse(addressBook.isParticipant(amy, meeting()));
+        assertEquals(Collections.singletonList(VALID_NAME_BOB), bob.getSchedules().get(0).getPersonList());
+
+        addressBook.removeSchedule(bob, bob.getSchedules().get(0));
+        assertFalse(addressBook.hasSchedule(meeting()));
+    }
+
+    @Test
+    public void removePerson_participantSharingName_otherStillShown() {
+        Person amy = new PersonBuilder().build();
+        Person otherAmy = new PersonBuilder().withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(otherAmy);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy, otherAmy));
+        Schedule shared = addressBook.getSameSchedule(meeting());
+        assertEquals(Arrays.asList(VALID_NAME_AMY, VALID_NAME_AMY), shared.getPersonList());
+
+        // only the renamed person's entry changes
+        Person renamed = new PersonBuilder(otherAmy).withName(VALID_NAME_BOB).build();
+        addressBook.setPerson(otherAmy, renamed);
+        assertEquals(Arrays.asList(VALID_NAME_AMY, VALID_NAME_BOB), shared.getPersonList());
+
+        addressBook.removePerson(amy);
+        assertTrue(addressBook.hasSchedule(meeting()));
+        assertEquals(Collections.singletonList(VALID_NAME_BOB), shared.getPersonList());
+        assertTrue(addressBook.isParticipant(renamed, meeting()));
+    }
+
+    @Test
+    public void removeSchedule_schedule_removedFromParticipants() {
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy));
+
+        addressBook.removeSchedule(meeting());
+        assertFalse(addressBook.hasSchedule(meeting()));
+        assertTrue(amy.getSchedules().isEmpty());
+    }
+
+    @Test
+    public void commitTransaction_multiParticipantSchedule_oneChangePerList() {
+        List<Person> participants = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Person person = new PersonBuilder().withName(VALID_NAME_AMY + " " + i).build();
+            participants.add(person);
+            addressBook.addPerson(person);
+        }
+        int[] changeCounts = new int[2];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCounts[0]++);
+        addressBook.getScheduleList().addListener((ListChangeListener<Schedule>) change -> changeCounts[1]++);
+
+        addressBook.beginTransaction();
+        addressBook.addSchedule(meeting(), participants);
+        addressBook.removeSchedule(participants.get(0), meeting());
+        addressBook.setPerson(participants.get(1), new PersonBuilder().withName(VALID_NAME_BOB).build());
+        addressBook.removePerson(participants.get(3));
+        assertEquals(0, changeCounts[0]);
+        assertTrue(addressBook.getScheduleList().isEmpty()); // the changes are not visible before the commit
+        addressBook.commitTransaction();
+
+        assertEquals(1, changeCounts[0]);
+        assertEquals(1, changeCounts[1]);
+        assertEquals(4, addressBook.getPersonList().size());
+        assertEquals(Collections.singletonList(addressBook.getSameSchedule(meeting())), addressBook.getScheduleList());
+    }
+
+    @Test
+    public void rollbackTransaction_changesUndone() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy, bob));
+        Schedule shared = addressBook.getSameSchedule(meeting());
+
+        addressBook.beginTransaction();
+        addressBook.addSchedule(discussion(), Arrays.asList(amy));
+        addressBook.removePerson(bob);
+        addressBook.setPerson(amy, new PersonBuilder(amy).withName(VALID_NAME_AMY + " Tan").build());
+        addressBook.rollbackTransaction();
+
+        assertEquals(Arrays.asList(amy, bob), addressBook.getPersonList());
+        assertEquals(Collections.singletonList(shared), addressBook.getScheduleList());
+        assertEquals(Arrays.asList(amy.getName().fullName, VALID_NAME_BOB), shared.getPersonList());
+        assertEquals(Collections.singletonList(shared), amy.getSchedules());
+        assertTrue(addressBook.isParticipant(bob, meeting()));
+        assertFalse(addressBook.isParticipant(amy, discussion()));
+        assertFalse(addressBook.isInTransaction());
+    }
+
+    @Test
+    public void rollbackTransaction_largeAddressBook_onlyChangesUndone() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            persons.add(new PersonBuilder().withName(VALID_NAME_AMY + " " + i)
+                    .withPhone(String.valueOf(80_000_000 + i)).withEmail("amy" + i + "@example.com").build());
+        }
+        addressBook.addPersons(persons);
+        addressBook.addSchedule(meeting(), Arrays.asList(persons.get(10), persons.get(20)));
+        List<Integer> changedSizes = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changedSizes.add(change.getAddedSize());
+            }
+        });
+
+        addressBook.beginTransaction();
+        addressBook.removePerson(persons.get(20));
+        addressBook.addPerson(new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build());
+        addressBook.setPerson(persons.get(5_000), new PersonBuilder(persons.get(5_000)).withName(VALID_NAME_BOB)
+                .build());
+        addressBook.addSchedule(discussion(), Collections.singletonList(persons.get(10)));
+        addressBook.rollbackTransaction();
+
+        assertEquals(persons, addressBook.getPersonList());
+        for (int i = 0; i < persons.size(); i++) {
+            assertSame(persons.get(i), addressBook.getPersonList().get(i));
+        }
+        // only the persons changed in place are reported, to refresh their views
+        assertTrue(changedSizes.stream().mapToInt(Integer::intValue).sum() <= 3);
+        assertTrue(addressBook.isParticipant(persons.get(20), meeting()));
+        assertFalse(addressBook.isParticipant(persons.get(10), discussion()));
+        assertFalse(addressBook.hasSchedule(discussion()));
+        assertTrue(addressBook.hasPerson(persons.get(5_000)));
+
+        // the indexes of the lists are restored with them
+        addressBook.removePerson(persons.get(9_999));
+        assertEquals(9_999, addressBook.getPersonList().size());
+        assertEquals(persons.get(9_998), addressBook.getPersonList().get(9_998));
+    }
+
+    @Test
+    public void rollbackTransaction_afterReset_restored() {
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy));
+        Schedule shared = addressBook.getSameSchedule(meeting());
+
+        addressBook.beginTransaction();
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.rollbackTransaction();
+
+        assertEquals(Collections.singletonList(amy), addressBook.getPersonList());
+        assertEquals(Collections.singletonList(shared), addressBook.getScheduleList());
+        assertTrue(addressBook.isParticipant(amy, meeting()));
+        assertFalse(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commitTransaction_publishesSnapshot_earlierSnapshotUnchanged() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.beginTransaction();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy, bob));
+        addressBook.commitTransaction();
+        AddressBookSnapshot before = addressBook.getSnapshot();
+
+        addressBook.beginTransaction();
+        addressBook.removePerson(bob);
+        addressBook.addSchedule(discussion(), Arrays.asList(amy));
+        assertSame(before, addressBook.getSnapshot()); // not published before the commit
+        addressBook.commitTransaction();
+        AddressBookSnapshot after = addressBook.getSnapshot();
+
+        assertEquals(2, before.getPersonList().size());
+        assertEquals(Arrays.asList(amy.getName().fullName, VALID_NAME_BOB),
+                before.getScheduleList().get(0).getPersonList());
+        assertEquals(Collections.singletonList(before.getScheduleList().get(0)),
+                before.getPersonList().get(0).getSchedules());
+
+        assertEquals(addressBook.getVersion(), after.getVersion());
+        assertEquals(addressBook.getPersonList(), after.getPersonList());
+        assertEquals(Collections.singletonList(amy.getName().fullName), after.getScheduleList().get(0).getPersonList());
+        assertEquals(after.getScheduleList(), after.getPersonList().get(0).getSchedules());
+        for (int i = 0; i < after.getScheduleList().size(); i++) {
+            assertSame(after.getScheduleList().get(i), after.getPersonList().get(0).getSchedules().get(i));
+        }
+    }
+
+    @Test
+    public void publishSnapshot_largeAddressBook_onlyChangedPersonsCopied() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            persons.add(new PersonBuilder().withName(VALID_NAME_AMY + " " + i)
+                    .withPhone(String.valueOf(80_000_000 + i)).withEmail("amy" + i + "@example.com").build());
+        }
+        addressBook.addPersons(persons);
+        addressBook.publishSnapshot();
+        AddressBookSnapshot before = addressBook.getSnapshot();
+
+        addressBook.beginTransaction();
+        Person edited = new PersonBuilder(persons.get(5_000)).withName(VALID_NAME_BOB).build();
+        addressBook.setPerson(persons.get(5_000), edited);
+        addressBook.commitTransaction();
+        AddressBookSnapshot after = addressBook.getSnapshot();
+
+        int copiedCount = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            if (before.getPersonList().get(i) != after.getPersonList().get(i)) {
+                copiedCount++;
+            }
+        }
+        assertEquals(1, copiedCount);
+        assertEquals(VALID_NAME_BOB, after.getPersonList().get(5_000).getName().fullName);
+        assertEquals(VALID_NAME_AMY + " 5000", before.getPersonList().get(5_000).getName().fullName);
+    }
+
+    @Test
+    public void rollbackTransaction_snapshotKept() {
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy));
+        addressBook.beginTransaction();
+        AddressBookSnapshot before = addressBook.getSnapshot();
+        addressBook.removeSchedule(amy, meeting());
+        addressBook.rollbackTransaction();
+        assertSame(before, addressBook.getSnapshot());
+
+        addressBook.beginTransaction();
+        addressBook.setPerson(amy, new PersonBuilder(amy).withName(VALID_NAME_BOB).build());
+        addressBook.commitTransaction();
+        assertEquals(Collections.singletonList(VALID_NAME_BOB),
+                addressBook.getSnapshot().getScheduleList().get(0).getPersonList());
+        assertEquals(Collections.singletonList(amy.getName().fullName),
+                before.getScheduleList().get(0).getPersonList());
+    }
+
+    @Test
+    public void commitTransaction_returnsChangedPersons() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+
+        // read-only transaction
+        addressBook.beginTransaction();
+        assertSame(AddressBookChange.NONE, addressBook.commitTransaction());
+
+        addressBook.beginTransaction();
+        Person carl = new PersonBuilder().withName("Carl Kurz").withPhone("65352563").withEmail("carl@example.com")
+                .build();
+        addressBook.addPerson(carl);
+        addressBook.removePerson(carl);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy));
+        addressBook.removePerson(bob);
+        AddressBookChange change = addressBook.commitTransaction();
+        assertEquals(new AddressBookChange(false, Arrays.asList(carl.getId(), bob.getId()), Arrays.asList(amy)),
+                change);
+
+        addressBook.beginTransaction();
+        addressBook.resetData(new AddressBook());
+        addressBook.addPerson(bob);
+        assertEquals(new AddressBookChange(true, Collections.emptyList(), Arrays.asList(bob)),
+                addressBook.commitTransaction());
+    }
+
+    @Test
+    public void applyChange_sameAsTransaction() {
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        Person editedAmy = new PersonBuilder(amy).withName(VALID_NAME_AMY + " Tan")
+                .withSchedules(new ArrayList<>(Arrays.asList(meeting()))).build();
+        AddressBookChange change = new AddressBookChange(false, Collections.singletonList(bob.getId()),
+                Arrays.asList(bob, editedAmy));
+
+        addressBook.applyChange(change);
+        assertEquals(Arrays.asList(editedAmy, bob), addressBook.getPersonList());
+        assertEquals(Collections.singletonList(VALID_NAME_AMY + " Tan"),
+                addressBook.getSameSchedule(meeting()).getPersonList());
+
+        // a reset removes every person first
+        addressBook.applyChange(new AddressBookChange(true, Collections.emptyList(), Arrays.asList(amy)));
+        assertEquals(Collections.singletonList(amy), addressBook.getPersonList());
+        assertTrue(addressBook.getScheduleList().isEmpty());
+    }
+
+    @Test
+    public void between_applied_turnsIntoOther() {
+        AddressBook original = getTypicalAddressBook();
+        addressBook.resetData(original);
+        AddressBook other = new AddressBook(original);
+        Person alice = other.getPersonList().get(0);
+        Person editedAlice = new PersonBuilder(alice).withPhone(VALID_PHONE_BOB).build();
+        other.setPerson(alice, editedAlice);
+        other.removePerson(other.getPersonList().get(1));
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        other.addPerson(bob);
+
+        AddressBookChange change = AddressBookChange.between(addressBook, other);
+        assertEquals(Arrays.asList(editedAlice, bob), change.getPersons());
+        assertEquals(Collections.singletonList(original.getPersonList().get(1).getId()), change.getRemovedIds());
+        addressBook.applyChange(change);
+        assertEquals(other, addressBook);
+
+        // no change between equal address books
+        assertTrue(AddressBookChange.between(addressBook, other).isEmpty());
+    }
+
+    @Test
+    public void applyChange_duplicateNewPerson_throwsDuplicatePersonException() {
+        addressBook.addPerson(ALICE);
+        Person aliceWithNewId = new PersonBuilder(ALICE).withId("00000000-0000-0000-0000-000000000001").build();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.applyChange(
+                new AddressBookChange(false, Collections.emptyList(), Arrays.asList(aliceWithNewId))));
+    }
+
+    @Test
+    public void getVersion_changesWithContents() {
+        long version = addressBook.getVersion();
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        assertNotEquals(version, addressBook.getVersion());
+
+        // adding a participant again leaves the address book as it was
+        addressBook.addSchedule(meeting(), Arrays.asList(amy));
+        version = addressBook.getVersion();
+        addressBook.addSchedule(meeting(), Arrays.asList(amy));
+        assertEquals(version, addressBook.getVersion());
+
+        // a rolled back transaction restores the version
+        addressBook.beginTransaction();
+        addressBook.removePerson(amy);
+        addressBook.rollbackTransaction();
+        assertEquals(version, addressBook.getVersion());
+
+        // a copy has the same contents, so the same version
+        assertEquals(version, new AddressBook(addressBook).getVersion());
+        assertNotEquals(version, new AddressBook().getVersion());
+    }
+
+    @Test
+    public void undoRedo_editAndRemoveWithSchedules_restored() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addressBook.addSchedule(meeting(), Arrays.asList(amy, bob));
+        assertFalse(addressBook.canUndo()); // changes outside a transaction are not recorded
+
+        addressBook.beginTransaction();
+        Person editedAmy = new PersonBuilder(amy).withName(VALID_NAME_AMY + " Tan").build();
+        addressBook.setPerson(amy, editedAmy);
+        addressBook.removePerson(bob);
+        addressBook.addSchedule(discussion(), Arrays.asList(editedAmy));
+        addressBook.commitTransaction();
+
+        assertTrue(addressBook.canUndo());
+        addressBook.undo();
+        assertEquals(Arrays.asList(amy, bob), addressBook.getPersonList());
+        assertEquals(1, addressBook.getScheduleList().size());
+        assertFalse(addressBook.hasSchedule(discussion()));
+        assertEquals(Arrays.asList(amy.getName().fullName, VALID_NAME_BOB),
+                addressBook.getSameSchedule(meeting()).getPersonList());
+        assertFalse(addressBook.canUndo());
+
+        assertTrue(addressBook.canRedo());
+        addressBook.redo();
+        assertEquals(1, addressBook.getPersonList().size());
+        assertEquals(editedAmy.getName(), addressBook.getPersonList().get(0).getName());
+        assertEquals(2, addressBook.getScheduleList().size());
+        assertFalse(addressBook.isParticipant(bob, meeting()));
+        assertTrue(addressBook.isParticipant(editedAmy, discussion()));
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void undoRedo_reset_restored() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBook original = new AddressBook(addressBook);
+
+        addressBook.beginTransaction();
+        addressBook.resetData(new AddressBook());
+        addressBook.commitTransaction();
+        assertTrue(addressBook.getPersonList().isEmpty());
+
+        addressBook.undo();
+        assertEquals(original, addressBook);
+        addressBook.redo();
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void undo_insideTransaction_notRecorded() {
+        Person amy = new PersonBuilder().build();
+        addressBook.beginTransaction();
+        addressBook.addPerson(amy);
+        addressBook.commitTransaction();
+
+        addressBook.beginTransaction();
+        addressBook.undo();
+        addressBook.commitTransaction();
+        assertTrue(addressBook.getPersonList().isEmpty());
+        assertFalse(addressBook.canUndo());
+        assertTrue(addressBook.canRedo());
+
+        // an undo rolled back with its transaction can be made again
+        addressBook.redo();
+        addressBook.beginTransaction();
+        addressBook.undo();
+        addressBook.rollbackTransaction();
+        assertEquals(Collections.singletonList(amy), addressBook.getPersonList());
+        assertTrue(addressBook.canUndo());
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void history_newTransactionOrUnrecordedChange_redoOrAllDropped() {
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        addressBook.beginTransaction();
+        addressBook.addPerson(amy);
+        addressBook.commitTransaction();
+        addressBook.undo();
+
+        // a new transaction drops the steps undone
+        addressBook.beginTransaction();
+        addressBook.addPerson(bob);
+        addressBook.commitTransaction();
+        assertFalse(addressBook.canRedo());
+        assertTrue(addressBook.canUndo());
+
+        // a change outside a transaction drops every step
+        addressBook.removePerson(bob);
+        assertFalse(addressBook.canUndo());
+        assertThrows(IllegalStateException.class, addressBook::undo);
+        assertThrows(IllegalStateException.class, addressBook::redo);
+    }
+
+    @Test
+    public void setHistoryDepth_oldestStepsDropped() {
+        addressBook.setHistoryDepth(2);
+        for (int i = 0; i < 3; i++) {
+            addressBook.beginTransaction();
+            addressBook.addPerson(new PersonBuilder().withName(VALID_NAME_AMY + " " + i)
+                    .withPhone("9000000" + i).withEmail("amy" + i + "@example.com").build());
+            addressBook.commitTransaction();
+        }
+        addressBook.undo();
+        addressBook.undo();
+        assertFalse(addressBook.canUndo());
+        assertEquals(1, addressBook.getPersonList().size());
+
+        addressBook.setHistoryDepth(0);
+        assertFalse(addressBook.canRedo());
+        assertThrows(IllegalArgumentException.class, () -> addressBook.setHistoryDepth(-1));
+    }
+
+    @Test
+    public void beginTransaction_transactionInProgress_throwsIllegalStateException() {
+        addressBook.beginTransaction();
+        assertThrows(IllegalStateException.class, addressBook::beginTransaction);
+        addressBook.commitTransaction();
+        assertThrows(IllegalStateException.class, addressBook::commitTransaction);
+        assertThrows(IllegalStateException.class, addressBook::rollbackTransaction);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
         assertEquals(expected, addressBook.toString());
     }
 
+    private static Schedule meeting() {
+        return new ScheduleBuilder().withSchedName(VALID_SCHEDULE_MEETING).withStartTime(START_10AM)
+                .withEndTime(END_5PM).withParticipants(new ArrayList<>()).build();
+    }
+
+    private static Schedule discussion() {
+        return new ScheduleBuilder().withSchedName(VALID_SCHEDULE_DISCUSSION).withStartTime(START_3PM)
+                .withEndTime(END_8PM).withParticipants(new ArrayList<>()).build();
+    }
+
+    private static ArrayList<Schedule> schedules(Schedule... schedules) {
+        return new ArrayList<>(Arrays.asList(schedules));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -110,6 +686,11 @@ public class AddressBookTest {
         public ObservableList<Schedule> getScheduleList() {
             return schedules;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
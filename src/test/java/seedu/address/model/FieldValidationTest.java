@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks the hand-written field validators against the regexes they replace, and that they stay fast on inputs that
+ * make a backtracking regex matcher blow up.
+ */
+public class FieldValidationTest {
+
+    /** Characters that exercise every branch of the validators, including ones regexes treat specially. */
+    private static final String ALPHABET = "aZ09 \t\n\r\u0085\u00a0\u2028\u00e9_+.-@?*!";
+    private static final int FUZZ_ROUNDS = 20000;
+    private static final int MAX_FUZZ_LENGTH = 12;
+    private static final int ADVERSARIAL_LENGTH = 50000;
+    private static final Duration TIME_LIMIT = Duration.ofSeconds(2);
+
+    private final List<Validator> validators = Arrays.asList(
+            new Validator(Name.VALIDATION_REGEX, Name::isValidName),
+            new Validator(Phone.VALIDATION_REGEX, Phone::isValidPhone),
+            new Validator(Email.VALIDATION_REGEX, Email::isValidEmail),
+            new Validator(Address.VALIDATION_REGEX, Address::isValidAddress),
+            new Validator(PersonId.VALIDATION_REGEX, PersonId::isValidId),
+            new Validator(Tag.VALIDATION_REGEX, Tag::isValidTagName),
+            new Validator(Schedule.VALIDATION_REGEX, Schedule::isValidSchedName));
+
+    @Test
+    public void isValid_randomInputs_sameAsRegex() {
+        Random random = new Random(2103);
+        for (int round = 0; round < FUZZ_ROUNDS; round++) {
+            String test = randomString(random, random.nextInt(MAX_FUZZ_LENGTH + 1));
+            for (Validator validator : validators) {
+                validator.assertSameAsRegex(test);
+            }
+        }
+    }
+
+    @Test
+    public void isValid_emailEdgeCases_sameAsRegex() {
+        Validator email = validators.get(2);
+        for (String test : Arrays.asList("a@bc", "a@b", "a@b-c", "a@b-cd", "a@bc.d", "a@b.cd", "a.b@cd", "a..b@cd",
+                "a.@cd", ".a@cd", "a@.cd", "a@cd.", "a@c--d", "a@@cd", "a@cd@ef", "@cd", "a+_b@cd", "a-b.c@d-e.fg")) {
+            email.assertSameAsRegex(test);
+        }
+    }
+
+    @Test
+    public void isValid_adversarialInputs_boundedTime() {
+        String letters = repeat('a', ADVERSARIAL_LENGTH);
+        assertTimeoutPreemptively(TIME_LIMIT, () -> {
+            assertFalse(Schedule.isValidSchedName(letters + "!"));
+            assertFalse(Schedule.isValidSchedName(" " + letters + "!"));
+            assertFalse(Email.isValidEmail(letters + "@" + letters + "!"));
+            assertFalse(Email.isValidEmail(letters + "@" + repeat('.', ADVERSARIAL_LENGTH)));
+            assertFalse(Name.isValidName(letters + "!"));
+            assertFalse(Tag.isValidTagName(letters + "!"));
+            assertFalse(Address.isValidAddress(letters + "\n"));
+            assertFalse(PersonId.isValidId(letters + " "));
+            assertFalse(Phone.isValidPhone(letters));
+        });
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    /**
+     * A validator paired with the regex it must agree with.
+     */
+    private static class Validator {
+        private final Pattern pattern;
+        private final Predicate<String> isValid;
+
+        Validator(String regex, Predicate<String> isValid) {
+            this.pattern = Pattern.compile(regex);
+            this.isValid = isValid;
+        }
+
+        void assertSameAsRegex(String test) {
+            String message = pattern.pattern() + " on \"" + test + "\"";
+            assertEquals(pattern.matcher(test).matches(), isValid.test(test), message);
+        }
+    }
+}
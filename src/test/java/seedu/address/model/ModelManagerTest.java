@@ -2,21 +2,36 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_MEETING;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalSchedules.END_5PM;
+import static seedu.address.testutil.TypicalSchedules.START_10AM;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.util.BatchedObservableList;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +108,98 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void followLater_scheduleEditedForExistingPersons_replacedOnExecutor() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(new PersonBuilder(ALICE).build())
+                .withPerson(new PersonBuilder(BENSON).build()).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Person alice = modelManager.getFilteredPersonList().get(0);
+        Person benson = modelManager.getFilteredPersonList().get(1);
+        modelManager.addSchedule(meeting(), Collections.singletonList(alice));
+
+        List<Runnable> uiTasks = new ArrayList<>();
+        ObservableList<Person> persons = BatchedObservableList.followLater(modelManager.getFilteredPersonList(),
+                uiTasks::add);
+        ObservableList<Schedule> schedules = BatchedObservableList.followLater(
+                modelManager.getAddressBook().getScheduleList(), uiTasks::add);
+        List<Person> replacedPersons = new ArrayList<>();
+        List<Schedule> replacedSchedules = new ArrayList<>();
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    replacedPersons.addAll(change.getAddedSubList());
+                }
+            }
+        });
+        schedules.addListener((ListChangeListener<Schedule>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    replacedSchedules.addAll(change.getAddedSubList());
+                }
+            }
+        });
+
+        // Benson joins the meeting Alice already takes part in
+        modelManager.beginTransaction();
+        modelManager.addSchedule(meeting(), Collections.singletonList(benson));
+        modelManager.commitTransaction();
+        assertTrue(replacedPersons.isEmpty()); // not until the UI executor runs its tasks
+        uiTasks.forEach(Runnable::run);
+        uiTasks.clear();
+        assertEquals(Collections.singletonList(benson), replacedPersons);
+        assertEquals(1, replacedSchedules.size());
+        assertEquals(2, replacedSchedules.get(0).getPersonList().size());
+
+        // Alice leaves it
+        replacedPersons.clear();
+        modelManager.beginTransaction();
+        modelManager.deleteSchedule(alice, meeting());
+        modelManager.commitTransaction();
+        uiTasks.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(alice), replacedPersons);
+        assertTrue(persons.get(0).getSchedules().isEmpty());
+    }
+
+    @Test
+    public void followLater_unchangingCopies_notChangedByModel() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(new PersonBuilder(ALICE).build())
+                .withPerson(new PersonBuilder(BENSON).build()).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Person alice = modelManager.getFilteredPersonList().get(0);
+        Person benson = modelManager.getFilteredPersonList().get(1);
+        modelManager.addSchedule(meeting(), Collections.singletonList(alice));
+
+        List<Runnable> uiTasks = new ArrayList<>();
+        ObservableList<Person> persons = BatchedObservableList.followLater(modelManager.getFilteredPersonList(),
+                modelManager::getUnchangingCopy, uiTasks::add);
+        ObservableList<Schedule> schedules = BatchedObservableList.followLater(
+                modelManager.getAddressBook().getScheduleList(), modelManager::getUnchangingCopy, uiTasks::add);
+        Person aliceCopy = persons.get(0);
+        Schedule meetingCopy = schedules.get(0);
+        assertNotSame(alice, aliceCopy);
+        assertSame(modelManager.getAddressBookSnapshot().getPersonList().get(0), aliceCopy);
+
+        // Alice leaves the meeting and Benson joins it, while the copies may still be read on the UI thread
+        modelManager.beginTransaction();
+        modelManager.deleteSchedule(alice, meeting());
+        modelManager.addSchedule(meeting(), Collections.singletonList(benson));
+        modelManager.commitTransaction();
+        assertEquals(1, aliceCopy.getSchedules().size());
+        assertEquals(Collections.singletonList(ALICE.getName().fullName), meetingCopy.getPersonList());
+
+        uiTasks.forEach(Runnable::run);
+        uiTasks.clear();
+        assertTrue(persons.get(0).getSchedules().isEmpty());
+        assertSame(modelManager.getAddressBookSnapshot().getPersonList().get(1), persons.get(1));
+        assertEquals(Collections.singletonList(BENSON.getName().fullName), schedules.get(0).getPersonList());
+
+        // a change outside a transaction is copied before its snapshot is published
+        modelManager.deleteSchedule(benson, meeting());
+        uiTasks.forEach(Runnable::run);
+        assertNotSame(benson, persons.get(1));
+        assertTrue(persons.get(1).getSchedules().isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -129,4 +236,9 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    private static Schedule meeting() {
+        return new ScheduleBuilder().withSchedName(VALID_SCHEDULE_MEETING).withStartTime(START_10AM)
+                .withEndTime(END_5PM).withParticipants(new ArrayList<>()).build();
+    }
 }
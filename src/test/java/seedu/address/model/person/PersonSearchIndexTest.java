@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+    private final List<Person> persons = getTypicalPersons();
+
+    @BeforeEach
+    public void setUp() {
+        persons.forEach(index::add);
+    }
+
+    @Test
+    public void find_sameAsPredicate() {
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("Meier"), // name
+                Collections.singletonList("meIER"), // mixed case
+                Collections.singletonList("5325"), // partial phone
+                Collections.singletonList("example.com"), // email
+                Collections.singletonList("street"), // address
+                Collections.singletonList("owes"), // partial tag
+                Collections.singletonList("e"), // shorter than a trigram
+                Collections.singletonList("ku"), // shorter than a trigram
+                Arrays.asList("Kurz", "Elle", "Kunz"), // several keywords
+                Collections.singletonList("nobody"), // no match
+                Collections.singletonList("")); // empty keyword
+        for (List<String> keywords : keywordLists) {
+            assertSameMatches(new NameContainsKeywordsPredicate(keywords));
+        }
+    }
+
+    @Test
+    public void find_afterRemove_personNotFound() {
+        Person carl = persons.get(2);
+        index.remove(carl);
+        assertTrue(index.find(new NameContainsKeywordsPredicate(Collections.singletonList("Kurz"))).isEmpty());
+        assertTrue(index.find(new NameContainsKeywordsPredicate(Collections.singletonList("rz"))).isEmpty());
+
+        // removing a person not in the index does nothing
+        index.remove(carl);
+        assertEquals(6, index.find(new NameContainsKeywordsPredicate(Collections.singletonList(""))).size());
+    }
+
+    @Test
+    public void find_equalPersonsIndexedSeparately() {
+        Person copy = new PersonBuilder(persons.get(0)).build();
+        index.add(copy);
+        index.remove(persons.get(0));
+        Set<Person> matches = index.find(new NameContainsKeywordsPredicate(Collections.singletonList("Alice")));
+        assertEquals(1, matches.size());
+        assertSame(copy, matches.iterator().next());
+    }
+
+    @Test
+    public void find_afterManyEdits_sameAsPredicate() {
+        // replacing persons over and over frees enough slots for trigrams and the index to be compacted
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < persons.size(); i++) {
+                Person edited = new PersonBuilder(persons.get(i)).withPhone(String.valueOf(91000000 + round)).build();
+                index.remove(persons.get(i));
+                index.add(edited);
+                persons.set(i, edited);
+            }
+        }
+        Person removed = persons.remove(persons.size() - 1);
+        index.remove(removed);
+
+        for (String keyword : Arrays.asList("Meier", "9100", "91000049", "91000048", "e", "street", "nobody")) {
+            assertSameMatches(new NameContainsKeywordsPredicate(Collections.singletonList(keyword)));
+        }
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.clear();
+        assertTrue(index.find(new NameContainsKeywordsPredicate(Collections.singletonList(""))).isEmpty());
+    }
+
+    private void assertSameMatches(NameContainsKeywordsPredicate predicate) {
+        Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, new HashSet<>(index.find(predicate)), predicate.toString());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.TagFilterPredicate.Clause;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagFilterPredicateTest {
+
+    private final Person person = new PersonBuilder().withTags("friends", "colleagues")
+            .withInterests("hiking").build();
+
+    @Test
+    public void equals() {
+        TagFilterPredicate firstPredicate = predicate(tags(false, "friends"));
+        TagFilterPredicate secondPredicate = predicate(tags(true, "friends"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(predicate(tags(false, "friends"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different clauses -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+        assertFalse(firstPredicate.equals(predicate(interests(false, "friends"))));
+    }
+
+    @Test
+    public void test_allClausesSatisfied_returnsTrue() {
+        // no clauses
+        assertTrue(predicate().test(person));
+
+        // AND of tags and interests
+        assertTrue(predicate(tags(false, "friends"), tags(false, "colleagues"), interests(false, "hiking"))
+                .test(person));
+
+        // OR within a clause, including a name nobody has
+        assertTrue(predicate(tags(false, "family", "colleagues", "tagFilterPredicateTestUnknown")).test(person));
+
+        // NOT
+        assertTrue(predicate(tags(true, "owesMoney", "tagFilterPredicateTestUnknown")).test(person));
+    }
+
+    @Test
+    public void test_clauseNotSatisfied_returnsFalse() {
+        // missing tag
+        assertFalse(predicate(tags(false, "friends"), tags(false, "owesMoney")).test(person));
+
+        // tag and interest kinds are kept apart
+        assertFalse(predicate(interests(false, "friends")).test(person));
+        assertFalse(predicate(tags(false, "hiking")).test(person));
+
+        // excluded tag present
+        assertFalse(predicate(tags(true, "owesMoney", "friends")).test(person));
+
+        // name nobody has
+        assertFalse(predicate(tags(false, "tagFilterPredicateTestUnknown")).test(person));
+    }
+
+    private static TagFilterPredicate predicate(Clause... clauses) {
+        return new TagFilterPredicate(Arrays.asList(clauses));
+    }
+
+    private static Clause tags(boolean isNegated, String... tagNames) {
+        return new Clause(false, isNegated, Arrays.asList(tagNames));
+    }
+
+    private static Clause interests(boolean isNegated, String... tagNames) {
+        return new Clause(true, isNegated, Arrays.asList(tagNames));
+    }
+}
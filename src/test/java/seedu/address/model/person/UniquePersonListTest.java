@@ -2,12 +2,20 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,6 +55,23 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameDifferentCaseAndEmail_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withPhone(VALID_PHONE_BOB).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +83,55 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_personWithSameId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceId = new PersonBuilder(BOB).withId(ALICE.getId().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(bobWithAliceId));
+    }
+
+    @Test
+    public void getPersonById_afterAddSetAndRemove_returnsCurrentPerson() {
+        uniquePersonList.add(ALICE);
+        assertSame(ALICE, uniquePersonList.getPersonById(ALICE.getId()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertSame(editedAlice, uniquePersonList.getPersonById(ALICE.getId()));
+
+        uniquePersonList.remove(editedAlice);
+        assertNull(uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonsMatching_afterAddSetAndRemove_returnsCurrentPersons() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("bob"));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getPersonsMatching(predicate).isEmpty());
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.singleton(editedAlice), uniquePersonList.getPersonsMatching(predicate));
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.getPersonsMatching(predicate).isEmpty());
+    }
+
+    @Test
+    public void addAllAbsent_duplicatePersons_onlyNewPersonsAdded() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedBob = new PersonBuilder(BOB).withPhone(VALID_PHONE_AMY).build();
+        assertEquals(Collections.singletonList(BOB),
+                uniquePersonList.addAllAbsent(Arrays.asList(editedAlice, BOB, editedBob)));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertSame(BOB, uniquePersonList.getPersonById(BOB.getId()));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -127,6 +201,27 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonNotSameInstance_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPerson_afterRemovingEarlierPerson_replacesCorrectPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BOB, ALICE);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +257,30 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void revertBatch_changesMade_listAndIndexesRestored() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(CARL, DANIEL);
+        uniquePersonList.setPersons(Collections.singletonList(ELLE));
+        uniquePersonList.revertBatch();
+        uniquePersonList.endBatch();
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertSame(ALICE, uniquePersonList.getPersonById(ALICE.getId()));
+        uniquePersonList.remove(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void revertBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, uniquePersonList::revertBatch);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
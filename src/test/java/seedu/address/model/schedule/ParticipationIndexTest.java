@@ -0,0 +1,112 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_DISCUSSION;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_MEETING;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.END_5PM;
+import static seedu.address.testutil.TypicalSchedules.END_8PM;
+import static seedu.address.testutil.TypicalSchedules.START_10AM;
+import static seedu.address.testutil.TypicalSchedules.START_3PM;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonId;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class ParticipationIndexTest {
+
+    private final ParticipationIndex index = new ParticipationIndex();
+
+    private final PersonId alice = new PersonId("alice");
+    private final PersonId bob = new PersonId("bob");
+
+    private final Schedule meeting = new ScheduleBuilder().withSchedName(VALID_SCHEDULE_MEETING)
+            .withStartTime(START_10AM).withEndTime(END_5PM).withParticipants(new ArrayList<>()).build();
+    private final Schedule discussion = new ScheduleBuilder().withSchedName(VALID_SCHEDULE_DISCUSSION)
+            .withStartTime(START_3PM).withEndTime(END_8PM).withParticipants(new ArrayList<>()).build();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null, meeting));
+        assertThrows(NullPointerException.class, () -> index.add(alice, null));
+    }
+
+    @Test
+    public void add_newParticipation_recordedBothWays() {
+        assertTrue(index.add(alice, meeting));
+        assertTrue(index.add(bob, meeting));
+        assertTrue(index.isParticipant(alice, meeting));
+        assertFalse(index.isParticipant(alice, discussion));
+        assertEquals(Set.of(alice, bob), index.getParticipants(meeting));
+        assertEquals(Collections.singleton(meeting), index.getSchedules(alice));
+    }
+
+    @Test
+    public void add_existingParticipation_returnsFalse() {
+        index.add(alice, meeting);
+        assertFalse(index.add(alice, meeting));
+        assertEquals(1, index.getParticipants(meeting).size());
+    }
+
+    @Test
+    public void add_participantsChangedAfterAdding_stillFound() {
+        index.add(alice, meeting);
+        meeting.addParticipant("Alice Pauline");
+        assertTrue(index.isParticipant(alice, meeting));
+        assertEquals(Collections.singleton(alice), index.getParticipants(meeting));
+    }
+
+    @Test
+    public void remove_participation_removedBothWays() {
+        index.add(alice, meeting);
+        index.add(bob, meeting);
+        assertTrue(index.remove(alice, meeting));
+        assertFalse(index.remove(alice, meeting));
+        assertFalse(index.isParticipant(alice, meeting));
+        assertEquals(Collections.emptySet(), index.getSchedules(alice));
+        assertEquals(Collections.singleton(bob), index.getParticipants(meeting));
+    }
+
+    @Test
+    public void removeParticipant_returnsTheirSchedules() {
+        index.add(alice, meeting);
+        index.add(alice, discussion);
+        index.add(bob, discussion);
+        assertEquals(2, index.removeParticipant(alice).size());
+        assertEquals(Collections.emptySet(), index.getParticipants(meeting));
+        assertEquals(Collections.singleton(bob), index.getParticipants(discussion));
+        assertEquals(Collections.emptySet(), index.removeParticipant(alice));
+    }
+
+    @Test
+    public void removeSchedule_returnsItsParticipants() {
+        index.add(alice, meeting);
+        index.add(bob, meeting);
+        index.add(bob, discussion);
+        assertEquals(Set.of(alice, bob), index.removeSchedule(meeting));
+        assertEquals(Collections.emptySet(), index.getSchedules(alice));
+        assertEquals(Collections.singleton(discussion), index.getSchedules(bob));
+    }
+
+    @Test
+    public void getSchedules_modifyView_throwsUnsupportedOperationException() {
+        index.add(alice, meeting);
+        assertThrows(UnsupportedOperationException.class, () -> index.getSchedules(alice).clear());
+        assertThrows(UnsupportedOperationException.class, () -> index.getParticipants(meeting).clear());
+    }
+
+    @Test
+    public void clear_removesAllParticipations() {
+        index.add(alice, meeting);
+        index.clear();
+        assertFalse(index.isParticipant(alice, meeting));
+        assertEquals(Collections.emptySet(), index.getParticipants(meeting));
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_DISCUSSION;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_MEETING;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.END_5PM;
+import static seedu.address.testutil.TypicalSchedules.END_8PM;
+import static seedu.address.testutil.TypicalSchedules.START_10AM;
+import static seedu.address.testutil.TypicalSchedules.START_3PM;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
+import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class UniqueScheduleListTest {
+
+    private final UniqueScheduleList uniqueScheduleList = new UniqueScheduleList();
+
+    private final Schedule meeting = new ScheduleBuilder().withSchedName(VALID_SCHEDULE_MEETING)
+            .withStartTime(START_10AM).withEndTime(END_5PM).withParticipants(new ArrayList<>()).build();
+    private final Schedule discussion = new ScheduleBuilder().withSchedName(VALID_SCHEDULE_DISCUSSION)
+            .withStartTime(START_3PM).withEndTime(END_8PM).withParticipants(new ArrayList<>()).build();
+
+    @Test
+    public void contains_nullSchedule_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueScheduleList.contains(null));
+    }
+
+    @Test
+    public void contains_scheduleNotInList_returnsFalse() {
+        assertFalse(uniqueScheduleList.contains(meeting));
+    }
+
+    @Test
+    public void contains_scheduleWithSameIdentityDifferentParticipants_returnsTrue() {
+        uniqueScheduleList.add(meeting);
+        Schedule meetingWithParticipants = new ScheduleBuilder(meeting)
+                .withParticipants(new ArrayList<>(Arrays.asList("Alice Pauline"))).build();
+        assertTrue(uniqueScheduleList.contains(meetingWithParticipants));
+    }
+
+    @Test
+    public void contains_participantsChangedAfterAdding_returnsTrue() {
+        uniqueScheduleList.add(meeting);
+        meeting.addParticipants(new ArrayList<>(Arrays.asList("Alice Pauline")));
+        assertTrue(uniqueScheduleList.contains(meeting));
+    }
+
+    @Test
+    public void getSameSchedule_scheduleInList_returnsRegisteredSchedule() {
+        uniqueScheduleList.add(meeting);
+        Schedule sameIdentity = new ScheduleBuilder(meeting).withParticipants(new ArrayList<>()).build();
+        assertSame(meeting, uniqueScheduleList.getSameSchedule(sameIdentity));
+        assertNull(uniqueScheduleList.getSameSchedule(discussion));
+    }
+
+    @Test
+    public void getSchedulesInRange_overlappingSchedules_returnsInStartOrder() {
+        uniqueScheduleList.add(discussion);
+        uniqueScheduleList.add(meeting);
+        assertEquals(Arrays.asList(meeting, discussion),
+                uniqueScheduleList.getSchedulesInRange(START_3PM, START_3PM.plusMinutes(1)));
+        assertEquals(Arrays.asList(discussion),
+                uniqueScheduleList.getSchedulesInRange(END_5PM.plusMinutes(1), END_8PM.plusHours(1)));
+        assertEquals(Collections.emptyList(),
+                uniqueScheduleList.getSchedulesInRange(START_10AM.minusHours(2), START_10AM));
+    }
+
+    @Test
+    public void getSchedulesInRange_afterRemoveAndSet_reflectsChanges() {
+        uniqueScheduleList.add(meeting);
+        uniqueScheduleList.add(discussion);
+        uniqueScheduleList.remove(discussion);
+        assertEquals(Arrays.asList(meeting), uniqueScheduleList.getSchedulesInRange(START_10AM, END_8PM));
+
+        Schedule lateMeeting = new ScheduleBuilder(meeting).withStartTime(END_8PM.plusHours(1))
+                .withEndTime(END_8PM.plusHours(2)).withParticipants(new ArrayList<>()).build();
+        uniqueScheduleList.setSchedule(meeting, lateMeeting);
+        assertEquals(Collections.emptyList(), uniqueScheduleList.getSchedulesInRange(START_10AM, END_8PM));
+        assertEquals(Arrays.asList(lateMeeting),
+                uniqueScheduleList.getSchedulesInRange(END_8PM, END_8PM.plusDays(1)));
+    }
+
+    @Test
+    public void getSchedulesInRange_manySchedules_matchesLinearScan() {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // spread over 50 days with varying lengths so that spans overlap
+            LocalDateTime start = START_10AM.plusHours((i * 37L) % 1200);
+            schedules.add(new ScheduleBuilder().withSchedName("Schedule " + i).withStartTime(start)
+                    .withEndTime(start.plusHours(1 + i % 30)).withParticipants(new ArrayList<>()).build());
+        }
+        uniqueScheduleList.setSchedules(schedules);
+        for (int i = 0; i < 10; i++) {
+            uniqueScheduleList.remove(schedules.get(i * 7));
+        }
+
+        LocalDateTime from = START_10AM.plusDays(10);
+        LocalDateTime to = START_10AM.plusDays(20);
+        Set<Schedule> expected = new HashSet<>();
+        for (Schedule schedule : uniqueScheduleList) {
+            if (!schedule.getEndTime().isBefore(from) && schedule.getStartTime().isBefore(to)) {
+                expected.add(schedule);
+            }
+        }
+        List<Schedule> found = uniqueScheduleList.getSchedulesInRange(from, to);
+        assertEquals(expected, new HashSet<>(found));
+        assertEquals(expected.size(), found.size());
+    }
+
+    @Test
+    public void add_duplicateSchedule_throwsDuplicateScheduleException() {
+        uniqueScheduleList.add(meeting);
+        assertThrows(DuplicateScheduleException.class, () -> uniqueScheduleList.add(meeting));
+    }
+
+    @Test
+    public void setSchedule_targetScheduleNotInList_throwsScheduleNotFoundException() {
+        assertThrows(ScheduleNotFoundException.class, () -> uniqueScheduleList.setSchedule(meeting, meeting));
+    }
+
+    @Test
+    public void setSchedule_editedScheduleHasNonUniqueIdentity_throwsDuplicateScheduleException() {
+        uniqueScheduleList.add(meeting);
+        uniqueScheduleList.add(discussion);
+        assertThrows(DuplicateScheduleException.class, () -> uniqueScheduleList.setSchedule(meeting, discussion));
+    }
+
+    @Test
+    public void setSchedule_editedScheduleHasDifferentIdentity_success() {
+        uniqueScheduleList.add(meeting);
+        uniqueScheduleList.setSchedule(meeting, discussion);
+        assertFalse(uniqueScheduleList.contains(meeting));
+        UniqueScheduleList expectedUniqueScheduleList = new UniqueScheduleList();
+        expectedUniqueScheduleList.add(discussion);
+        assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
+    }
+
+    @Test
+    public void remove_existingSchedule_removesSchedule() {
+        uniqueScheduleList.add(meeting);
+        uniqueScheduleList.add(discussion);
+        uniqueScheduleList.remove(meeting);
+        assertFalse(uniqueScheduleList.contains(meeting));
+        uniqueScheduleList.setSchedule(discussion, meeting);
+        UniqueScheduleList expectedUniqueScheduleList = new UniqueScheduleList();
+        expectedUniqueScheduleList.add(meeting);
+        assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
+    }
+
+    @Test
+    public void setSchedules_list_replacesOwnListWithProvidedList() {
+        uniqueScheduleList.add(meeting);
+        uniqueScheduleList.setSchedules(Arrays.asList(discussion));
+        assertFalse(uniqueScheduleList.contains(meeting));
+        assertTrue(uniqueScheduleList.contains(discussion));
+    }
+
+    @Test
+    public void setSchedules_listWithDuplicateSchedules_throwsDuplicateScheduleException() {
+        Schedule sameIdentity = new ScheduleBuilder(meeting).withParticipants(new ArrayList<>()).build();
+        List<Schedule> listWithDuplicateSchedules = Arrays.asList(meeting, sameIdentity);
+        assertThrows(DuplicateScheduleException.class, () ->
+                uniqueScheduleList.setSchedules(listWithDuplicateSchedules));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueScheduleList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void intern_sameName_sameId() {
+        int id = TagDictionary.TAGS.intern("tagDictionaryTestTag");
+        assertEquals(id, TagDictionary.TAGS.intern("tagDictionaryTestTag"));
+        assertEquals(id, TagDictionary.TAGS.getId("tagDictionaryTestTag"));
+    }
+
+    @Test
+    public void getId_unknownName_returnsMinusOne() {
+        assertEquals(-1, TagDictionary.TAGS.getId("tagDictionaryTestUnknown"));
+    }
+
+    @Test
+    public void toTags_internedInstancesOfDictionaryKind() {
+        BitSet ids = TagDictionary.INTERESTS.toIds(Arrays.asList(new Tag("tagDictionaryTestA"),
+                new Interest("tagDictionaryTestB"), new Tag("tagDictionaryTestA")));
+        assertEquals(2, ids.cardinality());
+
+        Set<Interest> interests = TagDictionary.INTERESTS.toTags(ids);
+        Iterator<Interest> iterator = interests.iterator();
+        Interest first = iterator.next();
+        assertEquals(new Interest("tagDictionaryTestA"), first);
+        assertTrue(first instanceof Interest);
+        assertEquals(new Interest("tagDictionaryTestB"), iterator.next());
+        assertFalse(iterator.hasNext());
+
+        // the same instances are returned every time
+        assertSame(first, TagDictionary.INTERESTS.toTags(ids).iterator().next());
+        assertThrows(UnsupportedOperationException.class, () -> interests.remove(first));
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<Integer> list = new BatchedObservableList<>();
+    private final ObservableList<Integer> follower = BatchedObservableList.follow(list);
+    private int changeCount;
+    private int followerChangeCount;
+
+    @Test
+    public void endBatch_severalModifications_oneChangeReported() {
+        list.addAll(1, 2, 3);
+        list.addListener((ListChangeListener<Integer>) change -> changeCount++);
+        follower.addListener((ListChangeListener<Integer>) change -> followerChangeCount++);
+
+        list.beginBatch();
+        list.add(4);
+        list.set(0, 10);
+        list.remove(1);
+        list.add(0, 5);
+        assertEquals(0, changeCount);
+        assertEquals(Arrays.asList(1, 2, 3), follower); // the follower does not see the batch before it ends
+        list.endBatch();
+
+        assertEquals(1, changeCount);
+        assertEquals(1, followerChangeCount);
+        assertEquals(Arrays.asList(5, 10, 3, 4), list);
+        assertEquals(list, follower);
+    }
+
+    @Test
+    public void endBatch_elementSetToItself_reportedAsReplaced() {
+        list.addAll(1, 2, 3);
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+        follower.addListener((ListChangeListener<Integer>) change -> followerChangeCount++);
+
+        list.beginBatch();
+        list.set(1, list.get(1));
+        list.add(4);
+        list.endBatch();
+
+        assertEquals(Arrays.asList("1:[2]->[2]", "3:[]->[4]"), changes);
+        assertEquals(1, followerChangeCount);
+        assertEquals(list, follower);
+    }
+
+    @Test
+    public void follow_randomBatches_sameElements() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 200; round++) {
+            list.beginBatch();
+            for (int i = random.nextInt(10); i >= 0; i--) {
+                int operation = random.nextInt(4);
+                if (list.isEmpty() || operation == 0) {
+                    list.add(random.nextInt(list.size() + 1), random.nextInt(100));
+                } else if (operation == 1) {
+                    list.set(random.nextInt(list.size()), random.nextInt(100));
+                } else if (operation == 2) {
+                    list.remove(random.nextInt(list.size()));
+                } else {
+                    int from = random.nextInt(list.size());
+                    list.subList(from, from + random.nextInt(list.size() - from + 1)).clear();
+                }
+            }
+            list.endBatch();
+            assertEquals(list, follower);
+        }
+    }
+
+    @Test
+    public void endBatch_randomBatches_changeReplaysModifications() {
+        Random random = new Random(2103);
+        List<Integer> replayed = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                List<Integer> range = replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                assertEquals(range, change.getRemoved());
+                range.clear();
+                replayed.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+        for (int round = 0; round < 500; round++) {
+            list.beginBatch();
+            for (int i = random.nextInt(10); i >= 0; i--) {
+                int operation = random.nextInt(5);
+                if (list.isEmpty() || operation == 0) {
+                    list.add(random.nextInt(list.size() + 1), random.nextInt(100));
+                } else if (operation == 1) {
+                    list.set(random.nextInt(list.size()), random.nextInt(100));
+                } else if (operation == 2) {
+                    list.remove(random.nextInt(list.size()));
+                } else if (operation == 3) {
+                    list.addAll(random.nextInt(list.size() + 1), Arrays.asList(random.nextInt(100), 100));
+                } else {
+                    int from = random.nextInt(list.size());
+                    list.subList(from, from + random.nextInt(Math.min(3, list.size() - from) + 1)).clear();
+                }
+            }
+            list.endBatch();
+            assertEquals(list, replayed);
+        }
+    }
+
+    @Test
+    public void endBatch_oneElementSetInLargeList_otherElementsNotRead() {
+        CountingList<Integer> elements = new CountingList<>();
+        BatchedObservableList<Integer> largeList = new BatchedObservableList<>(elements);
+        largeList.addAll(Collections.nCopies(100000, 1));
+        List<String> changes = new ArrayList<>();
+        largeList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+
+        elements.readCount = 0;
+        largeList.beginBatch();
+        largeList.set(50000, 2);
+        largeList.add(3);
+        largeList.endBatch();
+        assertEquals(Arrays.asList("50000:[1]->[2]", "100000:[]->[3]"), changes);
+        assertTrue(elements.readCount < 100, "read " + elements.readCount + " elements");
+    }
+
+    @Test
+    public void followLater_changesBeforeTaskRuns_appliedAsOneChange() {
+        list.addAll(1, 2, 3);
+        List<Runnable> tasks = new ArrayList<>();
+        ObservableList<Integer> laterFollower = BatchedObservableList.followLater(list, tasks::add);
+        laterFollower.addListener((ListChangeListener<Integer>) change -> followerChangeCount++);
+
+        list.add(4);
+        list.remove(0);
+        list.set(1, 30);
+        FXCollections.sort(list, Collections.reverseOrder());
+        assertEquals(Arrays.asList(1, 2, 3), laterFollower); // not changed until the task runs
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        assertEquals(1, followerChangeCount);
+        assertEquals(Arrays.asList(30, 4, 2), laterFollower);
+
+        // a change after the task has run queues another
+        list.clear();
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(Collections.emptyList(), laterFollower);
+    }
+
+    @Test
+    public void followLater_randomModifications_sameElements() {
+        Random random = new Random(2103);
+        List<Runnable> tasks = new ArrayList<>();
+        ObservableList<Integer> laterFollower = BatchedObservableList.followLater(list, tasks::add);
+        for (int round = 0; round < 200; round++) {
+            for (int i = random.nextInt(5); i >= 0; i--) {
+                if (list.isEmpty() || random.nextBoolean()) {
+                    list.add(random.nextInt(list.size() + 1), random.nextInt(100));
+                } else if (random.nextBoolean()) {
+                    list.set(random.nextInt(list.size()), random.nextInt(100));
+                } else {
+                    list.remove(random.nextInt(list.size()));
+                }
+            }
+            if (random.nextInt(3) == 0) {
+                tasks.forEach(Runnable::run);
+                tasks.clear();
+                assertEquals(list, laterFollower);
+            }
+        }
+    }
+
+    @Test
+    public void setAll_largeList_linearTime() {
+        List<Integer> elements = new ArrayList<>(Collections.nCopies(200000, 1));
+        list.setAll(elements);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            list.setAll(Collections.nCopies(200000, 2));
+            list.clear();
+        });
+        assertEquals(Collections.emptyList(), follower);
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        list.beginBatch();
+        assertThrows(IllegalStateException.class, list::beginBatch);
+        list.endBatch();
+        assertThrows(IllegalStateException.class, list::endBatch);
+    }
+
+    /**
+     * A list that counts the elements read from it.
+     */
+    private static class CountingList<E> extends ArrayList<E> {
+        private int readCount;
+
+        @Override
+        public E get(int index) {
+            readCount++;
+            return super.get(index);
+        }
+
+        @Override
+        public Object[] toArray() {
+            readCount += size();
+            return super.toArray();
+        }
+
+        @Override
+        public <T> T[] toArray(T[] a) {
+            readCount += size();
+            return super.toArray(a);
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            readCount += toIndex - fromIndex;
+            return super.subList(fromIndex, toIndex);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elementsInOrder() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), PersistentList.of(Arrays.asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void changes_earlierVersionsUnchanged() {
+        PersistentList<Integer> original = PersistentList.of(Arrays.asList(1, 2, 3));
+        PersistentList<Integer> replaced = original.with(1, 20);
+        PersistentList<Integer> inserted = replaced.plus(0, 0);
+        PersistentList<Integer> removed = inserted.minus(3);
+
+        assertEquals(Arrays.asList(1, 2, 3), original);
+        assertEquals(Arrays.asList(1, 20, 3), replaced);
+        assertEquals(Arrays.asList(0, 1, 20, 3), inserted);
+        assertEquals(Arrays.asList(0, 1, 20), removed);
+    }
+
+    @Test
+    public void changes_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+    }
+
+    @Test
+    public void changes_randomOperations_sameAsArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+        assertEquals(expected.size(), actual.size());
+
+        PersistentList<Integer> appended = PersistentList.empty();
+        for (int i = 0; i < 1 << 16; i++) {
+            appended = appended.plus(i);
+        }
+        List<Integer> ascending = new ArrayList<>(appended);
+        Collections.sort(ascending);
+        assertEquals(ascending, appended);
+    }
+}
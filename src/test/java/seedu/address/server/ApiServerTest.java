@@ -0,0 +1,183 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ExecutorService modelExecutor = Executors.newSingleThreadExecutor();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer server;
+    private Path tokenFile;
+    private String token;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        tokenFile = ApiServer.getTokenFilePath(storage.getAddressBookFilePath());
+        server = new ApiServer(new LogicManager(model, storage), modelExecutor, 0, tokenFile);
+        server.start();
+        token = FileUtil.readFromFile(tokenFile);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+        modelExecutor.shutdownNow();
+    }
+
+    @Test
+    public void getPersons_allAndFound() throws Exception {
+        HttpResponse<String> response = get("/persons");
+        assertEquals(200, response.statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), getList(response, "persons").size());
+
+        List<Map<String, Object>> found = getList(get("/persons?keywords=alice"), "persons");
+        assertEquals(1, found.size());
+        assertEquals(ALICE.getName().fullName, found.get(0).get("name"));
+    }
+
+    @Test
+    public void getSchedules_invalidRange_badRequest() throws Exception {
+        assertEquals(400, get("/schedules?from=today").statusCode());
+        assertEquals(200, get("/schedules?from=2024-01-01T00:00&to=2024-01-02T00:00").statusCode());
+        assertEquals(404, get("/commands").statusCode());
+    }
+
+    @Test
+    public void postCommand_changesModel_newSnapshotTaken() throws Exception {
+        ModelSnapshot before = server.getSnapshot();
+        assertSame(before, server.getSnapshot());
+
+        HttpResponse<String> response = post(ClearCommand.COMMAND_WORD);
+        assertEquals(200, response.statusCode());
+        assertEquals(ClearCommand.MESSAGE_SUCCESS, JsonUtil.fromJsonString(response.body(), Map.class).get("feedback"));
+        assertTrue(getList(get("/persons"), "persons").isEmpty());
+
+        assertEquals(400, post("unknown").statusCode());
+    }
+
+    @Test
+    public void postCommand_unchangedPersons_viewsReused() throws Exception {
+        List<Map<String, Object>> before = server.getSnapshot().getPersons();
+        assertEquals(200, post(DeleteCommand.COMMAND_WORD + " 1").statusCode());
+        List<Map<String, Object>> after = server.getSnapshot().getPersons();
+        assertEquals(before.size() - 1, after.size());
+        for (int i = 0; i < after.size(); i++) {
+            assertSame(before.get(i + 1), after.get(i));
+        }
+    }
+
+    @Test
+    public void request_withoutToken_unauthorized() throws Exception {
+        assertEquals(401, client.send(HttpRequest.newBuilder(uri("/persons")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(401, client.send(HttpRequest.newBuilder(uri("/persons")).header("Authorization", "Bearer wrong")
+                .GET().build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    public void request_fromWebPageOrOtherHost_forbidden() throws Exception {
+        HttpResponse<String> response = client.send(request("/commands").header("Origin", "https://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString(ClearCommand.COMMAND_WORD)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getAddressBook().getPersonList().size());
+
+        // as sent by a web page at a host name rebound to the loopback address, which the client cannot send
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.getOutputStream().write(("GET /persons HTTP/1.1\r\nHost: example.com:" + server.getPort()
+                    + "\r\nAuthorization: Bearer " + token + "\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            String statusLine = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.US_ASCII)).readLine();
+            assertEquals("HTTP/1.1 403 Forbidden", statusLine);
+        }
+    }
+
+    @Test
+    public void stop_tokenFileDeleted() {
+        assertTrue(Files.exists(tokenFile));
+        server.stop();
+        server = null;
+        assertFalse(Files.exists(tokenFile));
+    }
+
+    @Test
+    public void loadGenerator_readsAnswered() throws Exception {
+        ApiLoadGenerator.Result result = new ApiLoadGenerator(uri("/persons"), token, 2, Duration.ofMillis(300))
+                .run();
+        assertTrue(result.getReadCount() > 0);
+        assertEquals(0, result.getFailedCount());
+        assertTrue(result.getLatencyPercentileMillis(99) >= result.getLatencyPercentileMillis(50));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String commandText) throws Exception {
+        return client.send(request("/commands").POST(HttpRequest.BodyPublishers.ofString(commandText)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> getList(HttpResponse<String> response, String field) throws Exception {
+        return (List<Map<String, Object>>) JsonUtil.fromJsonString(response.body(), Map.class).get(field);
+    }
+}
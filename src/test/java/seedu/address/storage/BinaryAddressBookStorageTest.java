@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.END_5PM;
+import static seedu.address.testutil.TypicalSchedules.START_10AM;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAndReadAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = newAddressBook(50);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+
+        // a change is saved as a new snapshot
+        addressBook.beginTransaction();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        AddressBookChange change = addressBook.commitTransaction();
+        storage.saveAddressBookChange(addressBook, change);
+        AddressBook read = (AddressBook) new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, read);
+        assertEquals(addressBook.getScheduleList(), read.getScheduleList());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        AddressBook addressBook = newAddressBook(200);
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(addressBook);
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_invalidFiles_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // a JSON data file
+        new JsonAddressBookStorage(filePath).saveAddressBook(newAddressBook(3));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // truncated
+        storage.saveAddressBook(newAddressBook(3));
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // newer version
+        ByteBuffer.wrap(bytes).putInt(4, BinaryAddressBookFile.CURRENT_VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    /**
+     * Returns an address book of {@code size} distinct persons, the first two of which share a schedule.
+     */
+    private static AddressBook newAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com").withTags("friends", "colleagues")
+                    .withInterests("reading").build());
+        }
+        Person first = addressBook.getPersonList().get(0);
+        // schedule times are entered, and stored, to the minute
+        addressBook.addSchedule(new ScheduleBuilder().withStartTime(START_10AM).withEndTime(END_5PM)
+                .withParticipants(new ArrayList<>()).build(),
+                Arrays.asList(first, addressBook.getPersonList().get(1)));
+        return addressBook;
+    }
+}
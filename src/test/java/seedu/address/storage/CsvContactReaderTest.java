@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+public class CsvContactReaderTest {
+
+    @Test
+    public void read_quotedFields_unquoted() throws Exception {
+        ContactReader reader = reader("name,phone,email,address,tags,interests\r\n"
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West\",friends; colleagues,\n"
+                + "\"Benson \"\"Ben\"\" Meier\",98765432,johnd@example.com,\"Multi\nline\",,hiking\n");
+        assertEquals(new ContactRecord(2, "Alice Pauline", "94351253", "alice@example.com", "123, Jurong West",
+                Arrays.asList("friends", "colleagues"), Collections.emptyList()), reader.read());
+        ContactRecord second = reader.read();
+        assertEquals(new ContactRecord(3, "Benson \"Ben\" Meier", "98765432", "johnd@example.com", "Multi\nline",
+                Collections.emptyList(), Collections.singletonList("hiking")), second);
+        assertEquals(3, second.getLineNumber());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_reorderedAndUnknownColumns_readByHeader() throws Exception {
+        ContactReader reader = reader("\uFEFFEmail, Notes ,NAME,Phone\n\nalice@example.com,note,Alice,94351253");
+        ContactRecord record = reader.read();
+        assertEquals(new ContactRecord(3, "Alice", "94351253", "alice@example.com", "",
+                Collections.emptyList(), Collections.emptyList()), record);
+        assertEquals(3, record.getLineNumber());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_missingRequiredColumn_throwsIllegalValueException() {
+        ContactReader reader = reader("name,phone,address\nAlice,94351253,street\n");
+        assertThrows(IllegalValueException.class, String.format(CsvContactReader.MESSAGE_MISSING_COLUMN, "email"),
+                reader::read);
+        assertThrows(IllegalValueException.class, String.format(CsvContactReader.MESSAGE_MISSING_COLUMN, "name"),
+                reader("")::read);
+    }
+
+    @Test
+    public void read_unclosedQuote_throwsIllegalValueException() {
+        ContactReader reader = reader("name,phone,email\nAlice,94351253,alice@example.com\n\"Bob,1,2\n");
+        assertThrows(IllegalValueException.class, String.format(CsvContactReader.MESSAGE_UNCLOSED_QUOTE, 3), () -> {
+            reader.read();
+            reader.read();
+        });
+    }
+
+    @Test
+    public void read_writtenByCsvContactWriter_sameRecords() throws Exception {
+        List<ContactRecord> records = new ArrayList<>();
+        for (Person person : getTypicalPersons()) {
+            records.add(ContactRecord.of(person));
+        }
+        records.add(new ContactRecord(0, "Quoted, \"Name\"", "1", "a@bc", "Line\r\nbreak", Collections.emptyList(),
+                Collections.emptyList()));
+
+        StringWriter output = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(output)) {
+            ContactWriter contactWriter = ContactFileFormat.CSV.newWriter(writer);
+            for (ContactRecord record : records) {
+                contactWriter.write(record);
+            }
+        }
+
+        ContactReader reader = reader(output.toString());
+        for (ContactRecord record : records) {
+            assertEquals(record, reader.read());
+        }
+        assertNull(reader.read());
+    }
+
+    private static ContactReader reader(String content) {
+        return new CsvContactReader(new BufferedReader(new StringReader(content)));
+    }
+}
@@ -1,13 +1,26 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.ScheduleBuilder;
+
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -26,8 +39,44 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
-        assertEquals(BENSON, person.toModelType());
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON, Collections.emptyMap());
+        assertEquals(BENSON, person.toModelType(Collections.emptyMap()));
+        assertEquals(BENSON.getId(), person.toModelType(Collections.emptyMap()).getId());
+    }
+
+    @Test
+    public void toModelType_scheduleIds_referToScheduleTable() throws Exception {
+        Schedule schedule = new ScheduleBuilder().build();
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS, null, Arrays.asList(7));
+        Map<Integer, Schedule> scheduleTable = new HashMap<>();
+        scheduleTable.put(7, schedule);
+        assertSame(schedule, person.toModelType(scheduleTable).getSchedules().get(0));
+    }
+
+    @Test
+    public void toModelType_unknownScheduleId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS, null, Arrays.asList(7));
+        assertThrows(IllegalValueException.class, JsonAdaptedPerson.MESSAGE_UNKNOWN_SCHEDULE_ID, () ->
+                person.toModelType(Collections.emptyMap()));
+    }
+
+    @Test
+    public void toModelType_missingId_generatesId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS, null, null);
+        assertNotNull(person.toModelType(Collections.emptyMap()).getId());
+        assertNotEquals(person.toModelType(Collections.emptyMap()).getId(),
+                person.toModelType(Collections.emptyMap()).getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(" ", VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS, null, null);
+        assertThrows(IllegalValueException.class, PersonId.MESSAGE_CONSTRAINTS, () ->
+                person.toModelType(Collections.emptyMap()));
     }
 
     /*@Test
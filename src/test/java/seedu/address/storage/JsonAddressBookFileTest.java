@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class JsonAddressBookFileTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path LEGACY_SHARED_SCHEDULE_FILE =
+            TEST_DATA_FOLDER.resolve("legacySharedScheduleAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path NEWER_VERSION_FILE = TEST_DATA_FOLDER.resolve("newerVersionAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonAddressBookFile.read(testFolder.resolve("missing.json"), AddressBookSink.of(new AddressBook()))
+                .isPresent());
+    }
+
+    @Test
+    public void write_prettyAndCompact_readBackEqual() throws Exception {
+        AddressBook addressBook = newAddressBook();
+        Path prettyFile = testFolder.resolve("pretty.json");
+        Path compactFile = testFolder.resolve("compact.json");
+        String prettyChecksum = JsonAddressBookFile.write(prettyFile, new JsonSerializableAddressBook(addressBook, 7),
+                false);
+        String compactChecksum = JsonAddressBookFile.write(compactFile,
+                new JsonSerializableAddressBook(addressBook, 7), true);
+        assertFalse(prettyChecksum.equals(compactChecksum));
+
+        for (Path file : Arrays.asList(prettyFile, compactFile)) {
+            AddressBook readAddressBook = new AddressBook();
+            JsonAddressBookFile read = JsonAddressBookFile.read(file, AddressBookSink.of(readAddressBook)).get();
+            assertEquals(addressBook, readAddressBook);
+            assertEquals(7, read.getJournalSequence());
+            assertEquals(file == prettyFile ? prettyChecksum : compactChecksum, read.getChecksum());
+        }
+        assertTrue(Files.size(compactFile) < Files.size(prettyFile));
+        assertEquals(1, Files.readAllLines(compactFile, StandardCharsets.UTF_8).size());
+
+        // the files are also readable as a whole, as they were before
+        assertEquals(addressBook, JsonUtil.readJsonFile(prettyFile, JsonSerializableAddressBook.class).get()
+                .toModelType());
+    }
+
+    @Test
+    public void read_legacyFile_sameAsWholeFile() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(LEGACY_SHARED_SCHEDULE_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        assertEquals(expected, readAddressBook(LEGACY_SHARED_SCHEDULE_FILE));
+    }
+
+    @Test
+    public void read_personsBeforeSchedules_success() throws Exception {
+        Path file = testFolder.resolve("reordered.json");
+        Files.write(file, ("{\"persons\":[{\"name\":\"Alice Pauline\",\"phone\":\"94351253\","
+                + "\"email\":\"alice@example.com\",\"address\":\"\",\"scheduleIds\":[0]}],"
+                + "\"schedules\":[{\"id\":0,\"moduleName\":\"Meeting\",\"startTime\":\"2024-03-18T10:00:00\","
+                + "\"endTime\":\"2024-03-18T17:00:00\"}],\"version\":2,\"unknown\":{\"a\":[1]}}")
+                .getBytes(StandardCharsets.UTF_8));
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+        AddressBook expected = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(expected, readAddressBook(file));
+    }
+
+    @Test
+    public void read_invalidFiles_throwsDataLoadingException() throws Exception {
+        assertThrows(DataLoadingException.class, () -> readAddressBook(INVALID_PERSON_FILE));
+        assertThrows(DataLoadingException.class, () -> readAddressBook(NEWER_VERSION_FILE));
+
+        Path notList = testFolder.resolve("notList.json");
+        Files.write(notList, "{\"version\":2,\"persons\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> readAddressBook(notList));
+
+        Path notObject = testFolder.resolve("notObject.json");
+        Files.write(notObject, "[]".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> readAddressBook(notObject));
+    }
+
+    private static AddressBook readAddressBook(Path file) throws DataLoadingException {
+        AddressBook addressBook = new AddressBook();
+        JsonAddressBookFile.read(file, AddressBookSink.of(addressBook));
+        return addressBook;
+    }
+
+    private static AddressBook newAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 20; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        Person first = addressBook.getPersonList().get(0);
+        addressBook.addSchedule(new ScheduleBuilder().withParticipants(new ArrayList<>()).build(),
+                Arrays.asList(first, addressBook.getPersonList().get(1)));
+        return addressBook;
+    }
+}
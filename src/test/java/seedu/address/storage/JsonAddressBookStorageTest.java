@@ -1,18 +1,37 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.SaveDurability;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -103,4 +122,232 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void saveAddressBookChange_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = newAddressBook(10);
+
+        // the first change is saved in full, as the journal does not continue any data file yet
+        storage.saveAddressBookChange(addressBook, AddressBookChange.NONE);
+        String savedData = FileUtil.readFromFile(filePath);
+
+        addressBook.beginTransaction();
+        Person first = addressBook.getPersonList().get(0);
+        addressBook.addSchedule(new ScheduleBuilder().withParticipants(new ArrayList<>()).build(),
+                Arrays.asList(first, addressBook.getPersonList().get(1)));
+        addressBook.setPerson(first, new PersonBuilder(first).withName("Renamed Person").build());
+        addressBook.removePerson(addressBook.getPersonList().get(2));
+        storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+
+        assertEquals(savedData, FileUtil.readFromFile(filePath));
+        assertEquals(1, getJournalSegments(filePath).size());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChange_largeAddressBook_writesOnlyChange() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = newAddressBook(2000);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.beginTransaction();
+        Person person = addressBook.getPersonList().get(1000);
+        addressBook.setPerson(person, new PersonBuilder(person).withAddress("1 Edited Street").build());
+        storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+
+        // the journal entry holds the edited person only, unlike a rewrite of the data file
+        long journalSize = Files.size(getJournalSegments(filePath).get(0));
+        assertTrue(journalSize * 1000 < Files.size(filePath), journalSize + " bytes written");
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChange_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 1);
+        AddressBook addressBook = newAddressBook(3);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.beginTransaction();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+        storage.flushAddressBook();
+
+        assertTrue(getJournalSegments(filePath).isEmpty());
+        JsonSerializableAddressBook data = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertEquals(1, data.getJournalSequence());
+        assertEquals(addressBook, data.toModelType());
+
+        // numbering continues after the compacted entries
+        addressBook.beginTransaction();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+        storage.flushAddressBook();
+        assertEquals(2, JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().getJournalSequence());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = newAddressBook(3);
+        storage.saveAddressBook(addressBook);
+        addressBook.beginTransaction();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+
+        Path segment = getJournalSegments(filePath).get(0);
+        Files.write(segment, "{\"sequence\":2,\"isRe".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        JsonAddressBookStorage restarted = new JsonAddressBookStorage(filePath);
+        assertEquals(addressBook, restarted.readAddressBook().get());
+
+        // the next change is numbered after the last complete entry
+        addressBook.beginTransaction();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        restarted.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = newAddressBook(3);
+        storage.saveAddressBook(addressBook);
+        for (int i = 0; i < 2; i++) {
+            addressBook.beginTransaction();
+            addressBook.removePerson(addressBook.getPersonList().get(0));
+            storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+        }
+
+        Path segment = getJournalSegments(filePath).get(0);
+        List<String> entries = Files.readAllLines(segment, StandardCharsets.UTF_8);
+        Files.write(segment, entries.subList(1, entries.size()), StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfReplacedDataFile_notReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = newAddressBook(1);
+        storage.saveAddressBook(addressBook);
+        addressBook.beginTransaction();
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withPhone("91234567").build());
+        storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+        assertEquals(1, getJournalSegments(filePath).size());
+
+        // another program renames the person, with a journal sequence the journal does not reach
+        AddressBook replaced = new AddressBook();
+        replaced.addPerson(new PersonBuilder(addressBook.getPersonList().get(0)).withName("Carol").build());
+        for (long journalSequence : new long[] {0, 5}) {
+            JsonAddressBookFile.write(filePath, new JsonSerializableAddressBook(replaced, journalSequence), false);
+            assertEquals(replaced, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        }
+    }
+
+    @Test
+    public void readAddressBook_ownDataFileReplacedWithChangesPending_journalDeleted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = newAddressBook(1);
+        storage.saveAddressBook(addressBook);
+        addressBook.beginTransaction();
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withPhone("91234567").build());
+        storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+
+        // another program renames the person while the change is only in the journal
+        AddressBook replaced = new AddressBook();
+        replaced.addPerson(new PersonBuilder(addressBook.getPersonList().get(0)).withName("Carol").build());
+        JsonAddressBookFile.write(filePath, new JsonSerializableAddressBook(replaced, 0), false);
+        AddressBook reloaded = new AddressBook(storage.readAddressBook().get());
+        assertEquals(replaced, reloaded);
+        assertTrue(getJournalSegments(filePath).isEmpty());
+
+        // later changes continue the replaced data file
+        reloaded.beginTransaction();
+        reloaded.addPerson(new PersonBuilder().withName("Dave").withPhone("98765432").build());
+        storage.saveAddressBookChange(reloaded, reloaded.commitTransaction());
+        storage.flushAddressBook();
+        assertEquals(1, getJournalSegments(filePath).size());
+        assertEquals(reloaded, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChange_groupCommit_writtenTogether() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, SaveDurability.GROUP_COMMIT, 200, false);
+        AddressBook addressBook = newAddressBook(10);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+
+        for (int i = 0; i < 5; i++) {
+            addressBook.beginTransaction();
+            addressBook.removePerson(addressBook.getPersonList().get(0));
+            storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+        }
+        // the changes are still within the group commit window
+        assertTrue(getJournalSegments(filePath).isEmpty());
+
+        storage.flushAddressBook();
+        List<Path> segments = getJournalSegments(filePath);
+        assertEquals(1, segments.size());
+        assertEquals(5, Files.readAllLines(segments.get(0), StandardCharsets.UTF_8).size());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onExit_writtenWhenFlushed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, SaveDurability.ON_EXIT, 0, false);
+        AddressBook addressBook = newAddressBook(3);
+        storage.saveAddressBook(addressBook);
+        addressBook.beginTransaction();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBookChange(addressBook, addressBook.commitTransaction());
+        assertFalse(Files.exists(filePath));
+
+        storage.flushAddressBook();
+        assertTrue(getJournalSegments(filePath).isEmpty());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_groupCommitFails_errorReported() throws Exception {
+        Path notFolder = testFolder.resolve("notFolder");
+        Files.createFile(notFolder);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(notFolder.resolve("addressBook.json"),
+                SaveDurability.GROUP_COMMIT, 0, false);
+        CompletableFuture<IOException> reportedError = new CompletableFuture<>();
+        storage.setSaveErrorHandler(reportedError::complete);
+
+        // returns before the address book is written
+        storage.saveAddressBook(newAddressBook(3));
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertTrue(reportedError.get(5, TimeUnit.SECONDS) != null);
+    }
+
+    /**
+     * Returns an address book of {@code size} distinct persons.
+     */
+    private static AddressBook newAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        return addressBook;
+    }
+
+    private static List<Path> getJournalSegments(Path filePath) throws IOException {
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            return files.filter(file -> file.getFileName().toString().startsWith(filePath.getFileName() + ".journal."))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
 }
@@ -1,8 +1,33 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_MEETING;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.END_5PM;
+import static seedu.address.testutil.TypicalSchedules.START_10AM;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
 
 public class JsonSerializableAddressBookTest {
 
@@ -10,6 +35,11 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path LEGACY_SHARED_SCHEDULE_FILE =
+            TEST_DATA_FOLDER.resolve("legacySharedScheduleAddressBook.json");
+    private static final Path NEWER_VERSION_FILE = TEST_DATA_FOLDER.resolve("newerVersionAddressBook.json");
+    private static final Path DUPLICATE_SCHEDULE_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateScheduleIdAddressBook.json");
 
     /*
     @Test
@@ -36,4 +66,110 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }*/
 
+    @Test
+    public void toModelType_sharedSchedule_loadedAsSingleSchedule() throws Exception {
+        AddressBook original = new AddressBook();
+        Person amy = new PersonBuilder().build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        original.addPerson(amy);
+        original.addPerson(bob);
+        original.addSchedule(new ScheduleBuilder().withSchedName(VALID_SCHEDULE_MEETING).withStartTime(START_10AM)
+                .withEndTime(END_5PM).withParticipants(new ArrayList<>()).build(), Arrays.asList(amy, bob));
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        AddressBook loaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+
+        assertEquals(original, loaded);
+        assertEquals(1, loaded.getScheduleList().size());
+        Schedule schedule = loaded.getScheduleList().get(0);
+        Person loadedAmy = loaded.getPersonList().get(0);
+        Person loadedBob = loaded.getPersonList().get(1);
+        assertEquals(amy.getId(), loadedAmy.getId());
+        assertEquals(bob.getId(), loadedBob.getId());
+        assertSame(schedule, loadedAmy.getSchedules().get(0));
+        assertSame(schedule, loadedBob.getSchedules().get(0));
+        assertEquals(Arrays.asList(amy.getName().fullName, bob.getName().fullName), schedule.getPersonList());
+
+        // the schedule is written once, and derived fields are not written
+        assertEquals(json.indexOf("moduleName"), json.lastIndexOf("moduleName"));
+        assertFalse(json.contains("allTags"));
+        assertFalse(json.contains("participants"));
+    }
+
+    @Test
+    public void toModelType_legacyFile_migratesEmbeddedSchedules() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(LEGACY_SHARED_SCHEDULE_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBook = dataFromFile.toModelType();
+
+        assertEquals(1, addressBook.getScheduleList().size());
+        Schedule schedule = addressBook.getScheduleList().get(0);
+        assertEquals(Arrays.asList("Alice Pauline", "Benson Meier"), schedule.getPersonList());
+        Person alice = addressBook.getPersonList().get(0);
+        assertSame(schedule, alice.getSchedules().get(0));
+        assertSame(schedule, addressBook.getPersonList().get(1).getSchedules().get(0));
+        assertEquals(1, alice.getInterest().size());
+
+        // written back in the current format
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertTrue(json.contains("\"version\" : " + JsonSerializableAddressBook.CURRENT_VERSION));
+        assertEquals(addressBook, JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
+    @Test
+    public void toModelType_newerVersion_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(NEWER_VERSION_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_VERSION, 99), dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateScheduleIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_SCHEDULE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_INVALID_SCHEDULE_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicatePersonIds_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = Arrays.asList(
+                new JsonAdaptedPerson("same", PersonBuilder.DEFAULT_NAME, PersonBuilder.DEFAULT_PHONE,
+                        PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS, null, null, null),
+                new JsonAdaptedPerson("same", VALID_NAME_BOB, VALID_PHONE_BOB, VALID_EMAIL_BOB,
+                        PersonBuilder.DEFAULT_ADDRESS, null, null, null));
+        JsonSerializableAddressBook dataWithDuplicateIds =
+                new JsonSerializableAddressBook(JsonSerializableAddressBook.CURRENT_VERSION, null, null, persons);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID,
+                dataWithDuplicateIds::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidPersons_reportsPositions() {
+        List<JsonAdaptedPerson> persons = Arrays.asList(
+                new JsonAdaptedPerson(null, PersonBuilder.DEFAULT_NAME, PersonBuilder.DEFAULT_PHONE,
+                        PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS, null, null, null),
+                new JsonAdaptedPerson(null, VALID_NAME_BOB, "not a phone", VALID_EMAIL_BOB,
+                        PersonBuilder.DEFAULT_ADDRESS, null, null, null),
+                new JsonAdaptedPerson(null, VALID_NAME_BOB, VALID_PHONE_BOB, "not an email",
+                        PersonBuilder.DEFAULT_ADDRESS, null, null, null));
+        JsonSerializableAddressBook data =
+                new JsonSerializableAddressBook(JsonSerializableAddressBook.CURRENT_VERSION, null, null, persons);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 2, Phone.MESSAGE_CONSTRAINTS)
+                        + String.format(JsonSerializableAddressBook.MESSAGE_MORE_INVALID_PERSONS, 1),
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersons_keepsOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 10000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        assertEquals(original, new JsonSerializableAddressBook(original).toModelType());
+    }
 }
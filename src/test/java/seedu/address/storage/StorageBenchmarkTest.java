@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class StorageBenchmarkTest {
+
+    @Test
+    public void createAddressBook_sharedSchedules() {
+        AddressBook addressBook = StorageBenchmark.createAddressBook(250);
+        assertEquals(250, addressBook.getPersonList().size());
+        assertEquals(3, addressBook.getScheduleList().size());
+    }
+
+    @Test
+    public void run_returnsSummaryOfEachFormat() throws Exception {
+        String result = new StorageBenchmark(50, 1).run();
+        assertTrue(result.contains("indexes, 50 persons"));
+        assertTrue(result.contains("json, 50 persons"));
+        assertTrue(result.contains("binary, 50 persons"));
+    }
+}
@@ -1,15 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -43,6 +55,61 @@ public class StorageManagerTest {
         assertEquals(original, retrieved);
     }
 
+    @Test
+    public void saveAddressBook_unchangedVersion_skipped() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().build());
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBookChange(addressBook, AddressBookChange.NONE);
+        assertEquals(1, storageManager.getSaveCount());
+        assertEquals(1, storageManager.getSkippedSaveCount());
+
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(2, storageManager.getSaveCount());
+
+        // a copy of the address book read has the same version
+        ReadOnlyAddressBook read = storageManager.readAddressBook().get();
+        storageManager.saveAddressBook(new AddressBook(read));
+        assertEquals(2, storageManager.getSaveCount());
+        assertEquals(2, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void flushAddressBook_afterSaves_summaryLoggedAtInfo() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().build());
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(addressBook);
+
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+        Logger logger = LogsCenter.getLogger(StorageManager.class);
+        logger.addHandler(handler);
+        try {
+            storageManager.flushAddressBook();
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        String expectedSummary = String.format(StorageManager.MESSAGE_SAVE_SUMMARY, 1, 2);
+        assertEquals(expectedSummary, storageManager.getSaveSummary());
+        assertTrue(records.stream().anyMatch(record -> record.getLevel() == Level.INFO
+                && record.getMessage().equals(expectedSummary)));
+    }
+
     /*
     @Test
     public void addressBookReadSave() throws Exception {
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+public class VCardContactReaderTest {
+
+    @Test
+    public void read_cardWithParametersGroupsAndFolding_fieldsRead() throws Exception {
+        ContactReader reader = reader("BEGIN:VCARD\r\n"
+                + "VERSION:2.1\r\n"
+                + "FN:Alice\r\n"
+                + "  Pauline\r\n"
+                + "item1.TEL;TYPE=\"cell:home\":94351253\r\n"
+                + "TEL;TYPE=work:61234567\r\n"
+                + "email;type=internet:alice@example.com\r\n"
+                + "ADR;TYPE=home:;;123\\, Jurong West;Singapore;;;\r\n"
+                + "CATEGORIES:friends,\r\n"
+                + " colleagues\r\n"
+                + "X-INTERESTS:hiking\r\n"
+                + "NOTE:ignored\r\n"
+                + "END:VCARD\r\n");
+        assertEquals(new ContactRecord(1, "Alice Pauline", "94351253", "alice@example.com",
+                "123, Jurong West, Singapore", Arrays.asList("friends", "colleagues"),
+                Collections.singletonList("hiking")), reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_missingFields_emptyStrings() throws Exception {
+        ContactReader reader = reader("\nBEGIN:VCARD\nFN:Alice\nEND:VCARD\nbegin:vcard\nend:vcard\n");
+        ContactRecord first = reader.read();
+        assertEquals(new ContactRecord(2, "Alice", "", "", "", Collections.emptyList(), Collections.emptyList()),
+                first);
+        assertEquals(2, first.getLineNumber());
+        assertEquals(5, reader.read().getLineNumber());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_unclosedCard_throwsIllegalValueException() {
+        ContactReader reader = reader("BEGIN:VCARD\nFN:Alice\nEND:VCARD\nBEGIN:VCARD\nFN:Bob\n");
+        assertThrows(IllegalValueException.class, String.format(VCardContactReader.MESSAGE_UNCLOSED_CARD, 4), () -> {
+            reader.read();
+            reader.read();
+        });
+    }
+
+    @Test
+    public void read_writtenByVCardContactWriter_sameRecords() throws Exception {
+        List<ContactRecord> records = new ArrayList<>();
+        for (Person person : getTypicalPersons()) {
+            records.add(ContactRecord.of(person));
+        }
+        records.add(new ContactRecord(0, "Escaped; \\Name\\", "1", "a@bc", "Line\nbreak, and comma",
+                Collections.emptyList(), Collections.emptyList()));
+
+        StringWriter output = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(output)) {
+            ContactWriter contactWriter = ContactFileFormat.VCARD.newWriter(writer);
+            for (ContactRecord record : records) {
+                contactWriter.write(record);
+            }
+        }
+
+        ContactReader reader = reader(output.toString());
+        for (ContactRecord record : records) {
+            assertEquals(record, reader.read());
+        }
+        assertNull(reader.read());
+    }
+
+    private static ContactReader reader(String content) {
+        return new VCardContactReader(new BufferedReader(new StringReader(content)));
+    }
+}